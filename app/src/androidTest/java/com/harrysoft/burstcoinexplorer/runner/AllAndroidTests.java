@@ -1,10 +1,16 @@
 package com.harrysoft.burstcoinexplorer.runner;
 
+import com.harrysoft.burstcoinexplorer.test.AccountsMigrationTest;
+import com.harrysoft.burstcoinexplorer.test.BackgroundDifferTest;
+import com.harrysoft.burstcoinexplorer.test.BlockParticipantsParserTest;
+import com.harrysoft.burstcoinexplorer.test.BlockchainStoreTest;
 import com.harrysoft.burstcoinexplorer.test.BurstBlockchainServiceTest;
 import com.harrysoft.burstcoinexplorer.test.BurstInfoServiceTest;
 import com.harrysoft.burstcoinexplorer.test.BurstNetworkServiceTest;
 import com.harrysoft.burstcoinexplorer.test.BurstPriceServiceTest;
 import com.harrysoft.burstcoinexplorer.test.DetermineSearchRequestTypeTest;
+import com.harrysoft.burstcoinexplorer.test.StoredBlocksParserTest;
+import com.harrysoft.burstcoinexplorer.test.TransactionSummaryTest;
 import com.harrysoft.burstcoinexplorer.test.TransactionTypeUtilsTest;
 import com.harrysoft.burstcoinexplorer.test.VersionUtilsTest;
 
@@ -14,11 +20,17 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 
 @Suite.SuiteClasses({
+        AccountsMigrationTest.class,
+        BackgroundDifferTest.class,
+        BlockParticipantsParserTest.class,
+        BlockchainStoreTest.class,
         BurstBlockchainServiceTest.class,
         BurstInfoServiceTest.class,
         BurstNetworkServiceTest.class,
         BurstPriceServiceTest.class,
         DetermineSearchRequestTypeTest.class,
+        StoredBlocksParserTest.class,
+        TransactionSummaryTest.class,
         TransactionTypeUtilsTest.class,
         VersionUtilsTest.class,
 })
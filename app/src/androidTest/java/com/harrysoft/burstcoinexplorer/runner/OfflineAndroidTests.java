@@ -1,6 +1,12 @@
 package com.harrysoft.burstcoinexplorer.runner;
 
+import com.harrysoft.burstcoinexplorer.test.AccountsMigrationTest;
+import com.harrysoft.burstcoinexplorer.test.BackgroundDifferTest;
+import com.harrysoft.burstcoinexplorer.test.BlockParticipantsParserTest;
+import com.harrysoft.burstcoinexplorer.test.BlockchainStoreTest;
 import com.harrysoft.burstcoinexplorer.test.DetermineSearchRequestTypeTest;
+import com.harrysoft.burstcoinexplorer.test.StoredBlocksParserTest;
+import com.harrysoft.burstcoinexplorer.test.TransactionSummaryTest;
 import com.harrysoft.burstcoinexplorer.test.TransactionTypeUtilsTest;
 import com.harrysoft.burstcoinexplorer.test.VersionUtilsTest;
 
@@ -10,7 +16,13 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 
 @Suite.SuiteClasses({
+        AccountsMigrationTest.class,
+        BackgroundDifferTest.class,
+        BlockParticipantsParserTest.class,
+        BlockchainStoreTest.class,
         DetermineSearchRequestTypeTest.class,
+        StoredBlocksParserTest.class,
+        TransactionSummaryTest.class,
         TransactionTypeUtilsTest.class,
         VersionUtilsTest.class,
 })
@@ -0,0 +1,118 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import android.arch.persistence.room.Room;
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.harrysoft.burstcoinexplorer.accounts.db.AccountsDatabase;
+import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
+import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccountDao;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+@RunWith(AndroidJUnit4.class)
+public class AccountsMigrationTest {
+
+    private static final String DATABASE_NAME = "accounts-migration-test";
+
+    private Context context;
+    private AccountsDatabase database;
+
+    @Before
+    public void setupAccountsMigrationTest() {
+        context = InstrumentationRegistry.getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @After
+    public void tearDownAccountsMigrationTest() {
+        if (database != null) {
+            database.close();
+        }
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    /**
+     * Writes a database as version 1 left it, with the address and balance stored as strings
+     */
+    private void createVersion1(Object[]... rows) {
+        SQLiteDatabase version1 = SQLiteDatabase.openOrCreateDatabase(context.getDatabasePath(DATABASE_NAME), null);
+        try {
+            version1.execSQL("CREATE TABLE IF NOT EXISTS `SavedAccount` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `address` TEXT, `lastKnownBalance` TEXT, `lastKnownName` TEXT)");
+            for (Object[] row : rows) {
+                version1.execSQL("INSERT INTO `SavedAccount` (`id`, `address`, `lastKnownBalance`, `lastKnownName`) VALUES (?, ?, ?, ?)", row);
+            }
+            version1.setVersion(1);
+        } finally {
+            version1.close();
+        }
+    }
+
+    private SavedAccountDao openMigrated() {
+        database = Room.databaseBuilder(context, AccountsDatabase.class, DATABASE_NAME)
+                .addMigrations(AccountsDatabase.MIGRATION_1_2)
+                .build();
+        return database.savedAccountDao();
+    }
+
+    @Test
+    public void testAccountsMigrationKeepsLargeIDs() {
+        // 2^64 - 1, which does not fit in a signed long
+        createVersion1(new Object[]{1, "18446744073709551615", "12.5", "Large ID"});
+
+        SavedAccount savedAccount = openMigrated().findByID(1);
+        assertEquals(-1, savedAccount.getAccountId());
+        assertEquals("18446744073709551615", savedAccount.getAddress().getID());
+        assertEquals(Long.valueOf(1250000000), savedAccount.getLastKnownBalanceNQT());
+        assertEquals("Large ID", savedAccount.getLastKnownName());
+    }
+
+    @Test
+    public void testAccountsMigrationKeepsMissingBalance() {
+        createVersion1(new Object[]{2, "123", null, null});
+
+        SavedAccount savedAccount = openMigrated().findByID(2);
+        assertEquals(123, savedAccount.getAccountId());
+        assertNull(savedAccount.getLastKnownBalanceNQT());
+        assertNull(savedAccount.getLastKnownName());
+    }
+
+    @Test
+    public void testAccountsMigrationClearsUnparsableBalance() {
+        createVersion1(new Object[]{3, "456", "not a number", "Unparsable balance"},
+                new Object[]{4, "not an ID", "1", "Unparsable ID"});
+
+        SavedAccountDao dao = openMigrated();
+        // The balance is fetched again on the next refresh, but the account is kept
+        SavedAccount savedAccount = dao.findByID(3);
+        assertEquals(456, savedAccount.getAccountId());
+        assertNull(savedAccount.getLastKnownBalanceNQT());
+        assertEquals("Unparsable balance", savedAccount.getLastKnownName());
+        // An account with no usable ID is dropped
+        assertNull(dao.findByID(4));
+        assertEquals(1, dao.loadAll().size());
+    }
+
+    @Test
+    public void testAccountsMigrationDropsDuplicateAccounts() {
+        // Version 1 allowed the same account to be saved more than once, including with a leading zero
+        createVersion1(new Object[]{5, "123", "1", "First"},
+                new Object[]{6, "123", "2", "Second"},
+                new Object[]{7, "0123", "3", "Leading zero"});
+
+        SavedAccountDao dao = openMigrated();
+        // Only the first copy is kept
+        assertEquals(1, dao.loadAll().size());
+        SavedAccount savedAccount = dao.findByID(5);
+        assertEquals(123, savedAccount.getAccountId());
+        assertEquals("First", savedAccount.getLastKnownName());
+    }
+}
@@ -0,0 +1,126 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v7.util.DiffUtil;
+import android.support.v7.widget.RecyclerView;
+import android.view.ViewGroup;
+
+import com.harrysoft.burstcoinexplorer.main.ui.BackgroundDiffer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.schedulers.TestScheduler;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+@RunWith(AndroidJUnit4.class)
+public class BackgroundDifferTest {
+
+    private TestScheduler diffScheduler;
+    private TestScheduler mainScheduler;
+    private BackgroundDiffer<List<String>> differ;
+    private final List<String> events = new ArrayList<>();
+
+    private static DiffUtil.Callback diffCallback(List<String> oldData, List<String> newData) {
+        return new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldData.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newData.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return oldData.get(oldItemPosition).equals(newData.get(newItemPosition));
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                return true;
+            }
+        };
+    }
+
+    @Before
+    public void setupBackgroundDifferTest() {
+        diffScheduler = new TestScheduler();
+        mainScheduler = new TestScheduler();
+        RecyclerView.Adapter<RecyclerView.ViewHolder> adapter = new RecyclerView.Adapter<RecyclerView.ViewHolder>() {
+            @Override
+            public RecyclerView.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void onBindViewHolder(RecyclerView.ViewHolder holder, int position) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int getItemCount() {
+                return differ.getData().size();
+            }
+        };
+        adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onChanged() {
+                events.add("changed");
+            }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                events.add("inserted " + positionStart + "+" + itemCount);
+            }
+
+            @Override
+            public void onItemRangeRemoved(int positionStart, int itemCount) {
+                events.add("removed " + positionStart + "+" + itemCount);
+            }
+        });
+        differ = new BackgroundDiffer<>(adapter, new ArrayList<>(), BackgroundDifferTest::diffCallback, diffScheduler, mainScheduler);
+    }
+
+    @Test
+    public void testBackgroundDifferDispatchesOnceCalculated() {
+        List<String> data = Arrays.asList("a", "b");
+        differ.submit(data);
+
+        // The adapter keeps the old data until the diff reaches the main thread
+        diffScheduler.triggerActions();
+        assertEquals(0, differ.getData().size());
+        assertEquals(0, events.size());
+
+        mainScheduler.triggerActions();
+        assertSame(data, differ.getData());
+        assertEquals(Arrays.asList("inserted 0+2"), events);
+    }
+
+    @Test
+    public void testBackgroundDifferDropsStaleDiff() {
+        List<String> older = Arrays.asList("a", "b", "c");
+        List<String> newer = Arrays.asList("a");
+
+        // The older diff is calculated but has not been delivered when the newer data is submitted
+        differ.submit(older);
+        diffScheduler.triggerActions();
+        differ.submit(newer);
+
+        diffScheduler.triggerActions();
+        mainScheduler.triggerActions();
+
+        // Only the newer diff, from the data the adapter was actually showing, is dispatched
+        assertSame(newer, differ.getData());
+        assertEquals(Arrays.asList("inserted 0+1"), events);
+    }
+}
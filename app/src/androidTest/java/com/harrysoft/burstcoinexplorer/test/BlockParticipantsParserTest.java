@@ -0,0 +1,62 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import android.support.test.runner.AndroidJUnit4;
+import android.util.JsonReader;
+
+import com.harrysoft.burstcoinexplorer.accounts.sync.BlockParticipantsParser;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+@RunWith(AndroidJUnit4.class)
+public class BlockParticipantsParserTest {
+
+    private static final String BLOCK_RESPONSE = "{\"block\":\"5\",\"height\":500000,\"generator\":\"9\",\"numberOfTransactions\":3,\"transactions\":[" +
+            "{\"transaction\":\"100\",\"sender\":\"1\",\"senderRS\":\"BURST-XXXX\",\"recipient\":\"18446744073709551615\",\"amountNQT\":\"100000000\"," +
+            "\"attachment\":{\"version.OrdinaryPayment\":1,\"recipients\":[[\"3\",\"1\"]]}}," +
+            "{\"transaction\":\"101\",\"sender\":\"2\",\"amountNQT\":\"0\"}," +
+            "{\"transaction\":\"102\",\"sender\":\"1\",\"recipient\":\"2\"}" +
+            "],\"requestProcessingTime\":5}";
+
+    @Test
+    public void testParseBlockParticipants() throws IOException {
+        long[] participants = new BlockParticipantsParser().parse(new JsonReader(new StringReader(BLOCK_RESPONSE)));
+        Arrays.sort(participants);
+        // Each account once, and nothing from the attachments or the generator
+        assertEquals("[-1, 1, 2]", Arrays.toString(participants));
+    }
+
+    @Test
+    public void testParseBlockWithoutTransactions() throws IOException {
+        long[] participants = new BlockParticipantsParser().parse(new JsonReader(new StringReader("{\"block\":\"5\",\"transactions\":[]}")));
+        assertEquals(0, participants.length);
+    }
+
+    @Test
+    public void testParseTransactionIDsOnly() throws IOException {
+        try {
+            new BlockParticipantsParser().parse(new JsonReader(new StringReader("{\"block\":\"5\",\"transactions\":[\"100\"]}")));
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("did not include"));
+        }
+    }
+
+    @Test
+    public void testParseError() throws IOException {
+        try {
+            new BlockParticipantsParser().parse(new JsonReader(new StringReader("{\"errorCode\":5,\"errorDescription\":\"Unknown block\"}")));
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("Unknown block"));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import android.arch.persistence.room.Room;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.harrysoft.burstcoinexplorer.explore.db.BlockchainDatabase;
+import com.harrysoft.burstcoinexplorer.explore.db.BlockchainStore;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+@RunWith(AndroidJUnit4.class)
+public class BlockchainStoreTest {
+
+    private BlockchainDatabase database;
+    private BlockchainStore store;
+
+    @Before
+    public void setupBlockchainStoreTest() {
+        database = Room.inMemoryDatabaseBuilder(InstrumentationRegistry.getTargetContext(), BlockchainDatabase.class).build();
+        store = new BlockchainStore(database);
+    }
+
+    @After
+    public void tearDownBlockchainStoreTest() {
+        database.close();
+    }
+
+    private static StoredBlock block(long blockId, long height) {
+        StoredBlock block = new StoredBlock();
+        block.setBlockId(blockId);
+        block.setHeight(height);
+        block.setTimestamp(height * 240000);
+        return block;
+    }
+
+    @Test
+    public void testBlockchainStoreLoadsRecentBlocksNewestFirst() {
+        // IDs above 2^63-1 are stored as negative longs
+        store.saveStoredBlocks(Arrays.asList(block(1, 10), block(Long.MIN_VALUE, 12), block(3, 11)), -1).blockingAwait();
+
+        List<StoredBlock> blocks = store.loadRecentBlocks();
+        assertEquals(3, blocks.size());
+        assertEquals(12, blocks.get(0).getHeight());
+        assertEquals(Long.MIN_VALUE, blocks.get(0).getBlockId());
+        assertEquals(11, blocks.get(1).getHeight());
+        assertEquals(10, blocks.get(2).getHeight());
+    }
+
+    @Test
+    public void testBlockchainStoreReplacesOrphanedBlocks() {
+        store.saveStoredBlocks(Arrays.asList(block(1, 10), block(2, 11), block(3, 12)), -1).blockingAwait();
+
+        // A fork from height 11, which is one block shorter
+        store.saveStoredBlocks(Collections.singletonList(block(4, 11)), 10).blockingAwait();
+
+        List<StoredBlock> blocks = store.loadRecentBlocks();
+        assertEquals(2, blocks.size());
+        assertEquals(4, blocks.get(0).getBlockId());
+        assertEquals(1, blocks.get(1).getBlockId());
+
+        // A block seen again at the same height replaces the one held
+        store.saveStoredBlocks(Collections.singletonList(block(5, 11)), -1).blockingAwait();
+        blocks = store.loadRecentBlocks();
+        assertEquals(2, blocks.size());
+        assertEquals(5, blocks.get(0).getBlockId());
+    }
+
+    @Test
+    public void testBlockchainStoreTrimsOldBlocks() {
+        List<StoredBlock> blocks = new ArrayList<>();
+        for (int height = 1; height <= 1100; height++) {
+            blocks.add(block(height, height));
+        }
+        store.saveStoredBlocks(blocks, -1).blockingAwait();
+
+        List<StoredBlock> recentBlocks = store.loadRecentBlocks();
+        assertEquals(BlockchainStore.RECENT_BLOCKS, recentBlocks.size());
+        assertEquals(1100, recentBlocks.get(0).getHeight());
+        // Only the newest 1000 are kept
+        assertEquals(1000, database.blockchainDao().loadRecentBlocks(2000).size());
+    }
+}
@@ -0,0 +1,58 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import android.support.test.runner.AndroidJUnit4;
+import android.util.JsonReader;
+
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlocksParser;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+@RunWith(AndroidJUnit4.class)
+public class StoredBlocksParserTest {
+
+    private static final String BLOCKS_RESPONSE = "{\"blocks\":[" +
+            "{\"previousBlockHash\":\"abc\",\"payloadLength\":1234,\"totalAmountNQT\":\"1000100000\",\"generator\":\"17999580839224457318\"," +
+            "\"generatorRS\":\"BURST-XXXX\",\"numberOfTransactions\":2,\"totalFeeNQT\":\"200000000\",\"transactions\":[\"1\",\"2\"]," +
+            "\"block\":\"9223372036854775808\",\"height\":500000,\"timestamp\":100}," +
+            "{\"block\":\"1\",\"height\":499999,\"timestamp\":0,\"generator\":\"2\",\"numberOfTransactions\":0," +
+            "\"totalAmountNQT\":\"0\",\"totalFeeNQT\":\"0\",\"payloadLength\":0,\"transactions\":[]}" +
+            "],\"requestProcessingTime\":5}";
+
+    @Test
+    public void testParseBlocks() throws IOException {
+        List<StoredBlock> blocks = new StoredBlocksParser().parse(new JsonReader(new StringReader(BLOCKS_RESPONSE)));
+        assertEquals(2, blocks.size());
+
+        StoredBlock block = blocks.get(0);
+        assertEquals(Long.MIN_VALUE, block.getBlockId());
+        assertEquals(500000, block.getHeight());
+        assertEquals(1407722500000L, block.getTimestamp());
+        assertEquals(-447163234485094298L, block.getGeneratorId());
+        assertEquals(2, block.getNumberOfTransactions());
+        assertEquals(1000100000, block.getTotalAmountNQT());
+        assertEquals(200000000, block.getTotalFeeNQT());
+        assertEquals(1234, block.getPayloadLength());
+
+        assertEquals(499999, blocks.get(1).getHeight());
+    }
+
+    @Test
+    public void testParseError() throws IOException {
+        try {
+            new StoredBlocksParser().parse(new JsonReader(new StringReader("{\"errorCode\":4,\"errorDescription\":\"Incorrect index\"}")));
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("Incorrect index"));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import android.content.Context;
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.harrysoft.burstcoinexplorer.explore.entity.TransactionDisplayType;
+import com.harrysoft.burstcoinexplorer.util.BurstValueUtils;
+import com.harrysoft.burstcoinexplorer.util.TextFormatUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+import burst.kit.entity.BurstValue;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(AndroidJUnit4.class)
+public class TransactionSummaryTest {
+
+    private static final int ROWS = 2000;
+
+    private Context context;
+    private BurstAddress sender;
+    private BurstAddress recipient;
+    private long[] amountsNQT;
+    private BurstValue[] amounts;
+
+    @Before
+    public void setupTransactionSummaryTest() {
+        context = InstrumentationRegistry.getTargetContext();
+        sender = BurstAddress.fromId(new BurstID("1"));
+        recipient = BurstAddress.fromId(new BurstID("2"));
+        amountsNQT = new long[ROWS];
+        amounts = new BurstValue[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            amountsNQT[i] = i * 123456789L;
+            amounts[i] = BurstValueUtils.fromNQT(amountsNQT[i]);
+        }
+    }
+
+    @Test
+    public void testTransactionSummary() {
+        assertEquals("1.235 BURST to " + recipient.getFullAddress(), TextFormatUtils.transactionSummary(context, 123456789L, sender, recipient, TransactionDisplayType.TO));
+        assertEquals("1.235 BURST from " + sender.getFullAddress(), TextFormatUtils.transactionSummary(context, 123456789L, sender, null, TransactionDisplayType.TO));
+    }
+
+    /**
+     * Binds a page's worth of rows the way the transaction list does, from the amount converted when the row was
+     * loaded, and the way it used to, converting the amount on every bind.
+     */
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testTransactionSummaryAllocatesLessFromStoredAmount() {
+        // Warm up both paths so that class loading and the first thread local are not counted
+        bindStored();
+        bindConverting();
+
+        Debug.startAllocCounting();
+        try {
+            Debug.resetThreadAllocSize();
+            bindStored();
+            long storedBytes = Debug.getThreadAllocSize();
+
+            Debug.resetThreadAllocSize();
+            bindConverting();
+            long convertingBytes = Debug.getThreadAllocSize();
+
+            assertTrue("Stored amounts allocated " + storedBytes + " bytes, converting " + convertingBytes,
+                    storedBytes < convertingBytes);
+        } finally {
+            Debug.stopAllocCounting();
+        }
+    }
+
+    private int bindStored() {
+        int length = 0;
+        for (long amountNQT : amountsNQT) {
+            length += TextFormatUtils.transactionSummary(context, amountNQT, sender, recipient, TransactionDisplayType.TO).length();
+        }
+        return length;
+    }
+
+    private int bindConverting() {
+        int length = 0;
+        for (BurstValue amount : amounts) {
+            length += TextFormatUtils.transactionSummary(context, BurstValueUtils.toNQT(amount), sender, recipient, TransactionDisplayType.TO).length();
+        }
+        return length;
+    }
+}
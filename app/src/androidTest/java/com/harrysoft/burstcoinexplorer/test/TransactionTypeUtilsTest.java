@@ -2,6 +2,7 @@ package com.harrysoft.burstcoinexplorer.test;
 
 import android.support.test.runner.AndroidJUnit4;
 
+import com.harrysoft.burstcoinexplorer.R;
 import com.harrysoft.burstcoinexplorer.util.TransactionTypeUtils;
 
 import org.junit.Test;
@@ -9,8 +10,11 @@ import org.junit.runner.RunWith;
 
 import java.util.Map;
 
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertTrue;
 
 @RunWith(AndroidJUnit4.class)
 public class TransactionTypeUtilsTest {
@@ -48,4 +52,34 @@ public class TransactionTypeUtilsTest {
             }
         }
     }
+
+    @Test
+    public void testTransactionTypeTablesMatchMaps() {
+        for (Map.Entry<Byte, Integer> type : TransactionTypeUtils.getTransactionTypes().entrySet()) {
+            assertEquals((int) type.getValue(), TransactionTypeUtils.getTypeName(type.getKey()));
+            assertTrue(TransactionTypeUtils.category(type.getKey()) != TransactionTypeUtils.CATEGORY_UNKNOWN);
+        }
+        for (Map.Entry<Byte, Map<Byte, Integer>> type : TransactionTypeUtils.getTransactionSubTypes().entrySet()) {
+            for (Map.Entry<Byte, Integer> subType : type.getValue().entrySet()) {
+                assertEquals((int) subType.getValue(), TransactionTypeUtils.getSubtypeName(type.getKey(), subType.getKey()));
+                assertTrue(TransactionTypeUtils.isKnown(type.getKey(), subType.getKey()));
+            }
+        }
+    }
+
+    @Test
+    public void testTransactionTypeLookups() {
+        assertEquals(R.string.transaction_type_payment, TransactionTypeUtils.getTypeName(0));
+        assertEquals(R.string.transaction_type_messaging_account_info, TransactionTypeUtils.getSubtypeName(1, 5));
+        assertEquals(R.string.transaction_type_advanced_payment_escrow_sign, TransactionTypeUtils.getSubtypeName(21, 1));
+        assertEquals(TransactionTypeUtils.CATEGORY_AUTOMATED_TRANSACTIONS, TransactionTypeUtils.category(22));
+
+        // Gaps and values outside of the tables
+        assertFalse(TransactionTypeUtils.isKnown(1, 3));
+        assertFalse(TransactionTypeUtils.isKnown(10, 0));
+        assertFalse(TransactionTypeUtils.isKnown(-1, 0));
+        assertFalse(TransactionTypeUtils.isKnown(0, 100));
+        assertEquals(0, TransactionTypeUtils.getTypeName(23));
+        assertEquals(TransactionTypeUtils.CATEGORY_UNKNOWN, TransactionTypeUtils.category(5));
+    }
 }
@@ -2,19 +2,34 @@ package com.harrysoft.burstcoinexplorer;
 
 import android.app.Activity;
 import android.app.Application;
+import android.app.Service;
+import android.arch.lifecycle.ProcessLifecycleOwner;
 
+import com.harrysoft.burstcoinexplorer.accounts.db.AccountsDatabase;
+import com.harrysoft.burstcoinexplorer.accounts.sync.AccountWatcher;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsSyncScheduler;
 import com.harrysoft.burstcoinexplorer.di.DaggerAppComponent;
+import com.harrysoft.burstcoinexplorer.explore.sync.ChainTipService;
 
 import javax.inject.Inject;
 
 import dagger.android.AndroidInjector;
 import dagger.android.DispatchingAndroidInjector;
 import dagger.android.HasActivityInjector;
+import dagger.android.HasServiceInjector;
 
-public class App extends Application implements HasActivityInjector {
+public class App extends Application implements HasActivityInjector, HasServiceInjector {
 
     @Inject
     DispatchingAndroidInjector<Activity> dispatchingActivityInjector;
+    @Inject
+    DispatchingAndroidInjector<Service> dispatchingServiceInjector;
+    @Inject
+    ChainTipService chainTipService;
+    @Inject
+    AccountWatcher accountWatcher;
+    @Inject
+    AccountsDatabase accountsDatabase;
 
     @Override
     public void onCreate() {
@@ -25,10 +40,24 @@ public class App extends Application implements HasActivityInjector {
                 .application(this)
                 .build()
                 .inject(this);
+
+        // Only follow the chain tip while the app is in the foreground
+        ProcessLifecycleOwner.get().getLifecycle().addObserver(chainTipService);
+
+        // Saved accounts are refreshed when a new block mentions them
+        accountsDatabase.savedAccountDao().getAllAccountIds().observeForever(accountWatcher::setWatched);
+        chainTipService.addBlockListener(accountWatcher);
+
+        SavedAccountsSyncScheduler.schedule(this);
     }
 
     @Override
     public AndroidInjector<Activity> activityInjector() {
         return dispatchingActivityInjector;
     }
+
+    @Override
+    public AndroidInjector<Service> serviceInjector() {
+        return dispatchingServiceInjector;
+    }
 }
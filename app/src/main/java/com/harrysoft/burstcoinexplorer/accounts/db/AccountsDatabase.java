@@ -1,11 +1,64 @@
 package com.harrysoft.burstcoinexplorer.accounts.db;
 
+import android.arch.persistence.db.SupportSQLiteDatabase;
+import android.arch.persistence.db.SupportSQLiteStatement;
 import android.arch.persistence.room.Database;
 import android.arch.persistence.room.RoomDatabase;
 import android.arch.persistence.room.TypeConverters;
+import android.arch.persistence.room.migration.Migration;
+import android.database.Cursor;
+import android.support.annotation.NonNull;
 
-@Database(entities = {SavedAccount.class}, version = 1, exportSchema = false)
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+import com.harrysoft.burstcoinexplorer.util.BurstValueUtils;
+
+@Database(entities = {SavedAccount.class}, version = 2, exportSchema = false)
 @TypeConverters({com.harrysoft.burstcoinexplorer.accounts.db.TypeConverters.class})
 public abstract class AccountsDatabase extends RoomDatabase {
     public abstract SavedAccountDao savedAccountDao();
-}
\ No newline at end of file
+
+    /**
+     * Version 1 stored the address as a decimal string and the balance as a BURST string. Version 2 stores both as
+     * INTEGER, with a unique index on the account ID. IDs above 2^63 - 1 cannot be converted with a CAST, so the rows
+     * are copied across in Java.
+     */
+    public static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE `SavedAccount_new` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `accountId` INTEGER NOT NULL, `lastKnownBalance` INTEGER, `lastKnownName` TEXT)");
+            // Version 1 did not stop an account being saved twice, so the index is created first and only the first copy is kept
+            database.execSQL("CREATE UNIQUE INDEX `index_SavedAccount_accountId` ON `SavedAccount_new` (`accountId`)");
+            SupportSQLiteStatement insert = database.compileStatement("INSERT OR IGNORE INTO `SavedAccount_new` (`id`, `accountId`, `lastKnownBalance`, `lastKnownName`) VALUES (?, ?, ?, ?)");
+            try (Cursor cursor = database.query("SELECT `id`, `address`, `lastKnownBalance`, `lastKnownName` FROM `SavedAccount` ORDER BY `id`")) {
+                while (cursor.moveToNext()) {
+                    long accountId;
+                    try {
+                        accountId = cursor.isNull(1) ? 0 : BurstIDUtils.toLong(cursor.getString(1));
+                    } catch (NumberFormatException e) {
+                        continue; // Could never have been shown, so there is nothing to keep
+                    }
+                    insert.clearBindings();
+                    insert.bindLong(1, cursor.getLong(0));
+                    insert.bindLong(2, accountId);
+                    if (cursor.isNull(2)) {
+                        insert.bindNull(3);
+                    } else {
+                        try {
+                            insert.bindLong(3, BurstValueUtils.toNQT(cursor.getString(2)));
+                        } catch (NumberFormatException | ArithmeticException e) {
+                            insert.bindNull(3); // Fetched again on the next refresh
+                        }
+                    }
+                    if (cursor.isNull(3)) {
+                        insert.bindNull(4);
+                    } else {
+                        insert.bindString(4, cursor.getString(3));
+                    }
+                    insert.executeInsert();
+                }
+            }
+            database.execSQL("DROP TABLE `SavedAccount`");
+            database.execSQL("ALTER TABLE `SavedAccount_new` RENAME TO `SavedAccount`");
+        }
+    };
+}
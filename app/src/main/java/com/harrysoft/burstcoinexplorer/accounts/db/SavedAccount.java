@@ -2,25 +2,38 @@ package com.harrysoft.burstcoinexplorer.accounts.db;
 
 import android.arch.persistence.room.ColumnInfo;
 import android.arch.persistence.room.Entity;
+import android.arch.persistence.room.Ignore;
+import android.arch.persistence.room.Index;
 import android.arch.persistence.room.PrimaryKey;
+import android.support.annotation.Nullable;
+
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
 
 import burst.kit.entity.BurstAddress;
-import burst.kit.entity.BurstValue;
+import burst.kit.entity.BurstID;
 
-@Entity
+@Entity(indices = {@Index(value = "accountId", unique = true)})
 public class SavedAccount {
     @PrimaryKey(autoGenerate = true)
     private long id;
 
-    @ColumnInfo(name = "address")
-    private BurstAddress address;
+    /**
+     * The account's unsigned ID reinterpreted as a signed long, see {@link BurstIDUtils}
+     */
+    @ColumnInfo(name = "accountId")
+    private long accountId;
 
+    @Nullable
     @ColumnInfo(name = "lastKnownBalance")
-    private BurstValue lastKnownBalance;
+    private Long lastKnownBalanceNQT;
 
     @ColumnInfo(name = "lastKnownName")
     private String lastKnownName;
 
+    // Only created when it is first asked for, so loading a list does not build one for every row
+    @Ignore
+    private BurstAddress address;
+
     public long getId() {
         return id;
     }
@@ -29,20 +42,34 @@ public class SavedAccount {
         this.id = id;
     }
 
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+        this.address = null;
+    }
+
     public BurstAddress getAddress() {
+        if (address == null) {
+            address = BurstAddress.fromId(new BurstID(BurstIDUtils.toUnsignedString(accountId)));
+        }
         return address;
     }
 
     public void setAddress(BurstAddress address) {
+        this.accountId = BurstIDUtils.toLong(address.getID());
         this.address = address;
     }
 
-    public BurstValue getLastKnownBalance() {
-        return lastKnownBalance;
+    @Nullable
+    public Long getLastKnownBalanceNQT() {
+        return lastKnownBalanceNQT;
     }
 
-    public void setLastKnownBalance(BurstValue lastKnownBalance) {
-        this.lastKnownBalance = lastKnownBalance;
+    public void setLastKnownBalanceNQT(@Nullable Long lastKnownBalanceNQT) {
+        this.lastKnownBalanceNQT = lastKnownBalanceNQT;
     }
 
     public String getLastKnownName() {
@@ -16,16 +16,25 @@ public interface SavedAccountDao {
     @Query("SELECT * FROM SavedAccount")
     LiveData<List<SavedAccount>> getAll();
 
+    @Query("SELECT accountId FROM SavedAccount")
+    LiveData<List<Long>> getAllAccountIds();
+
+    /**
+     * Blocking, for use off the main thread
+     */
+    @Query("SELECT * FROM SavedAccount")
+    List<SavedAccount> loadAll();
+
     @Query("SELECT * FROM SavedAccount WHERE id IN (:ids)")
     List<SavedAccount> loadAllByIds(int[] ids);
 
     @Query("SELECT * FROM SavedAccount WHERE id = (:id)")
     SavedAccount findByID(long id);
 
-    @Query("SELECT * FROM SavedAccount WHERE address = (:address)")
+    @Query("SELECT * FROM SavedAccount WHERE accountId = (:address)")
     SavedAccount findByAddress(BurstAddress address);
 
-    @Query("SELECT * FROM SavedAccount WHERE address = (:address)")
+    @Query("SELECT * FROM SavedAccount WHERE accountId = (:address)")
     LiveData<SavedAccount> findLiveByAddress(BurstAddress address);
 
     @Insert
@@ -36,4 +45,7 @@ public interface SavedAccountDao {
 
     @Update
     void update(SavedAccount... savedAccounts);
+
+    @Update
+    void updateAll(List<SavedAccount> savedAccounts);
 }
\ No newline at end of file
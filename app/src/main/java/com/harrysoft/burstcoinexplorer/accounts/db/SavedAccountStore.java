@@ -0,0 +1,29 @@
+package com.harrysoft.burstcoinexplorer.accounts.db;
+
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsRefresher;
+
+import java.util.List;
+
+/**
+ * Room backed {@link SavedAccountsRefresher.LocalAccounts}. Blocking, for use off the main thread.
+ */
+public class SavedAccountStore implements SavedAccountsRefresher.LocalAccounts {
+
+    private final AccountsDatabase database;
+
+    public SavedAccountStore(AccountsDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public List<SavedAccount> loadAll() {
+        return database.savedAccountDao().loadAll();
+    }
+
+    @Override
+    public void updateAll(List<SavedAccount> savedAccounts) {
+        if (database.isOpen()) {
+            database.runInTransaction(() -> database.savedAccountDao().updateAll(savedAccounts));
+        }
+    }
+}
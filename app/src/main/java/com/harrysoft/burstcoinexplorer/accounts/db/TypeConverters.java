@@ -2,29 +2,24 @@ package com.harrysoft.burstcoinexplorer.accounts.db;
 
 import android.arch.persistence.room.TypeConverter;
 
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+
 import burst.kit.entity.BurstAddress;
 import burst.kit.entity.BurstID;
-import burst.kit.entity.BurstValue;
 
+/**
+ * Addresses are stored as the account ID in an INTEGER column, so that lookups by address are indexed and binding one
+ * does not format a string.
+ */
 class TypeConverters {
 
     @TypeConverter
-    public static BurstAddress burstAddressFromString(String value) {
-        return value == null ? BurstAddress.fromId(new BurstID("0")) : BurstAddress.fromId(new BurstID(value));
-    }
-
-    @TypeConverter
-    public static String burstAddressToString(BurstAddress value) {
-        return value == null ? null : value.getID();
-    }
-
-    @TypeConverter
-    public static BurstValue burstValueFromString(String value) {
-        return value == null ? null : BurstValue.fromBurst(value);
+    public static BurstAddress burstAddressFromLong(Long value) {
+        return BurstAddress.fromId(new BurstID(BurstIDUtils.toUnsignedString(value == null ? 0 : value)));
     }
 
     @TypeConverter
-    public static String burstValueToString(BurstValue value) {
-        return value == null ? null : value.toUnformattedString();
+    public static Long burstAddressToLong(BurstAddress value) {
+        return value == null ? null : BurstIDUtils.toLong(value.getID());
     }
 }
@@ -0,0 +1,136 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+import com.harrysoft.burstcoinexplorer.explore.sync.ChainTipService;
+import com.harrysoft.burstcoinexplorer.util.LongHashSet;
+
+import java.util.List;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.observers.DisposableCompletableObserver;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Keeps saved accounts current by looking at each new block once, instead of polling every saved account. The block's
+ * generator, the generator's reward recipient (so that pool addresses are caught) and the sender and recipient of each
+ * of its transactions are checked against the watched IDs, and only the accounts that appear are refreshed. A block
+ * costs at most two requests, however many transactions it has and however many accounts are watched. If too many blocks
+ * arrive at once to be worth scanning, every watched account is refreshed instead.
+ */
+public class AccountWatcher implements ChainTipService.BlockListener {
+
+    public static final int DEFAULT_MAX_BLOCKS = 10;
+
+    public interface BlockContents {
+        /**
+         * @return The sender and, where there is one, the recipient of every transaction in the block
+         */
+        Single<long[]> fetchParticipants(long blockId);
+
+        Single<Long> fetchRewardRecipient(long accountId);
+    }
+
+    public interface ChangeHandler {
+        Completable onAccountsChanged(long[] accountIds);
+
+        Completable onAllAccountsStale();
+    }
+
+    private final BlockContents blockContents;
+    private final ChangeHandler changeHandler;
+    private final int maxBlocks;
+
+    private final CompositeDisposable scans = new CompositeDisposable();
+    private final LongHashSet watched = new LongHashSet(); // Guarded by this
+
+    public AccountWatcher(BlockContents blockContents, ChangeHandler changeHandler, int maxBlocks) {
+        this.blockContents = blockContents;
+        this.changeHandler = changeHandler;
+        this.maxBlocks = maxBlocks;
+    }
+
+    public synchronized void setWatched(List<Long> accountIds) {
+        watched.clear();
+        if (accountIds != null) {
+            for (long accountId : accountIds) {
+                watched.add(accountId);
+            }
+        }
+    }
+
+    @Override
+    public void onNewBlocks(List<StoredBlock> blocks, boolean fullSync) {
+        // Scans of earlier blocks keep going, and each one lets go of itself when it ends
+        DisposableCompletableObserver observer = new DisposableCompletableObserver() {
+            @Override
+            public void onComplete() {
+                scans.delete(this);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                scans.delete(this); // The next block tries again
+            }
+        };
+        // Added before subscribing, so that a scan ending straight away is still removed
+        scans.add(observer);
+        scan(blocks, fullSync)
+                .subscribeOn(Schedulers.io())
+                .subscribe(observer);
+    }
+
+    public Completable scan(List<StoredBlock> blocks, boolean fullSync) {
+        return Completable.defer(() -> {
+            if (isWatchingNothing() || blocks.isEmpty()) {
+                return Completable.complete();
+            }
+            if (fullSync || blocks.size() > maxBlocks) {
+                return changeHandler.onAllAccountsStale();
+            }
+            LongHashSet matched = new LongHashSet();
+            return Flowable.fromIterable(blocks)
+                    .concatMapCompletable(block -> scanBlock(block, matched))
+                    .andThen(Completable.defer(() -> matched.isEmpty() ? Completable.complete() : changeHandler.onAccountsChanged(matched.toArray())));
+        });
+    }
+
+    private Completable scanBlock(StoredBlock block, LongHashSet matched) {
+        Completable generator;
+        if (match(block.getGeneratorId(), matched)) {
+            generator = Completable.complete();
+        } else {
+            generator = blockContents.fetchRewardRecipient(block.getGeneratorId())
+                    .doOnSuccess(rewardRecipient -> {
+                        if (rewardRecipient != block.getGeneratorId()) {
+                            match(rewardRecipient, matched);
+                        }
+                    })
+                    .toCompletable();
+        }
+        if (block.getNumberOfTransactions() == 0) {
+            return generator;
+        }
+        return generator.andThen(blockContents.fetchParticipants(block.getBlockId()))
+                .doOnSuccess(participants -> {
+                    for (long participant : participants) {
+                        match(participant, matched);
+                    }
+                })
+                .toCompletable();
+    }
+
+    private synchronized boolean isWatchingNothing() {
+        return watched.isEmpty();
+    }
+
+    private synchronized boolean match(long accountId, LongHashSet matched) {
+        if (watched.contains(accountId)) {
+            matched.add(accountId);
+            return true;
+        }
+        return false;
+    }
+}
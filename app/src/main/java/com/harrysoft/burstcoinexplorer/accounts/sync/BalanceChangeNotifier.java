@@ -0,0 +1,84 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import android.app.NotificationChannel;
+import android.app.NotificationManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Build;
+import android.support.v4.app.NotificationCompat;
+import android.support.v4.app.NotificationManagerCompat;
+
+import com.harrysoft.burstcoinexplorer.R;
+import com.harrysoft.burstcoinexplorer.main.ui.MainActivity;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+import com.harrysoft.burstcoinexplorer.util.DisplayFormats;
+
+import java.util.List;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+
+/**
+ * Posts one notification summarising the saved accounts whose balance changed.
+ */
+public class BalanceChangeNotifier implements SavedAccountsSyncEngine.BalanceChangeListener {
+
+    private static final int NOTIFICATION_ID = 1;
+
+    private final Context context;
+
+    public BalanceChangeNotifier(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    @Override
+    public void onBalancesChanged(List<SavedAccountsRefresher.BalanceChange> balanceChanges) {
+        createChannel();
+        PendingIntent contentIntent = PendingIntent.getActivity(context, 0, new Intent(context, MainActivity.class), PendingIntent.FLAG_UPDATE_CURRENT);
+        NotificationCompat.Builder builder = new NotificationCompat.Builder(context, context.getString(R.string.balance_changes_channel_id))
+                .setSmallIcon(R.drawable.ic_account_black_24dp)
+                .setContentIntent(contentIntent)
+                .setAutoCancel(true);
+
+        if (balanceChanges.size() == 1) {
+            SavedAccountsRefresher.BalanceChange balanceChange = balanceChanges.get(0);
+            builder.setContentTitle(accountLabel(balanceChange))
+                    .setContentText(describe(balanceChange));
+        } else {
+            String title = context.getResources().getQuantityString(R.plurals.balance_changes_title, balanceChanges.size(), balanceChanges.size());
+            NotificationCompat.InboxStyle style = new NotificationCompat.InboxStyle().setBigContentTitle(title);
+            for (SavedAccountsRefresher.BalanceChange balanceChange : balanceChanges) {
+                style.addLine(context.getString(R.string.balance_change_line, accountLabel(balanceChange), describe(balanceChange)));
+            }
+            builder.setContentTitle(title)
+                    .setContentText(accountLabel(balanceChanges.get(0)))
+                    .setNumber(balanceChanges.size())
+                    .setStyle(style);
+        }
+        NotificationManagerCompat.from(context).notify(NOTIFICATION_ID, builder.build());
+    }
+
+    private String accountLabel(SavedAccountsRefresher.BalanceChange balanceChange) {
+        if (balanceChange.getName() != null && !balanceChange.getName().isEmpty()) {
+            return balanceChange.getName();
+        }
+        return BurstAddress.fromId(new BurstID(BurstIDUtils.toUnsignedString(balanceChange.getAccountId()))).getFullAddress();
+    }
+
+    private String describe(SavedAccountsRefresher.BalanceChange balanceChange) {
+        return context.getString(R.string.balance_change_format,
+                DisplayFormats.formatBurst(balanceChange.getPreviousBalanceNQT()),
+                DisplayFormats.formatBurst(balanceChange.getBalanceNQT()));
+    }
+
+    private void createChannel() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            NotificationManager notificationManager = (NotificationManager) context.getSystemService(Context.NOTIFICATION_SERVICE);
+            if (notificationManager != null) {
+                notificationManager.createNotificationChannel(new NotificationChannel(context.getString(R.string.balance_changes_channel_id),
+                        context.getString(R.string.balance_changes_channel_name), NotificationManager.IMPORTANCE_DEFAULT));
+            }
+        }
+    }
+}
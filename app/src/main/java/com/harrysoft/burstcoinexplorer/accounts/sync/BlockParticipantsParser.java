@@ -0,0 +1,72 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import com.harrysoft.burstcoinexplorer.burst.node.ResponseParser;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+import com.harrysoft.burstcoinexplorer.util.LongHashSet;
+
+import java.io.IOException;
+
+/**
+ * Decodes a getBlock response, requested with {@code includeTransactions=true}, into the IDs of every account that
+ * sent or received one of the block's transactions. Nothing else about the transactions is materialised.
+ */
+public class BlockParticipantsParser implements ResponseParser<long[]> {
+
+    @Override
+    public long[] parse(JsonReader reader) throws IOException {
+        LongHashSet participants = null;
+        String error = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "transactions":
+                    participants = new LongHashSet();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                            // Only the IDs, so the participants cannot be known without fetching every transaction
+                            throw new IllegalStateException("Node response did not include the block's transactions");
+                        }
+                        readTransaction(reader, participants);
+                    }
+                    reader.endArray();
+                    break;
+
+                case "errorDescription":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        error = reader.nextString();
+                    }
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (participants == null) {
+            throw new IllegalStateException(error != null ? error : "Node response did not contain transactions");
+        }
+        return participants.toArray();
+    }
+
+    private static void readTransaction(JsonReader reader, LongHashSet participants) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sender":
+                case "recipient":
+                    participants.add(BurstIDUtils.toLong(reader.nextString()));
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+}
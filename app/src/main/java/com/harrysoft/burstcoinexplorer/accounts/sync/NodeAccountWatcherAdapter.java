@@ -0,0 +1,54 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestPriority;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+
+/**
+ * Connects an {@link AccountWatcher} to the node, and the accounts it finds to the {@link SavedAccountsRefresher}.
+ * Block contents are fetched in the background, and a block's transactions come with it in one request.
+ */
+public class NodeAccountWatcherAdapter implements AccountWatcher.BlockContents, AccountWatcher.ChangeHandler {
+
+    private final BurstNodeClient burstNodeClient;
+    private final BurstNodeClient backgroundClient;
+    private final SavedAccountsRefresher savedAccountsRefresher;
+    private final BlockParticipantsParser participantsParser = new BlockParticipantsParser();
+
+    public NodeAccountWatcherAdapter(BurstNodeClient burstNodeClient, SavedAccountsRefresher savedAccountsRefresher) {
+        this.burstNodeClient = burstNodeClient;
+        this.backgroundClient = burstNodeClient.withPriority(RequestPriority.BACKGROUND);
+        this.savedAccountsRefresher = savedAccountsRefresher;
+    }
+
+    @Override
+    public Single<long[]> fetchParticipants(long blockId) {
+        return backgroundClient.request("requestType=getBlock&block=" + BurstIDUtils.toUnsignedString(blockId) + "&includeTransactions=true", participantsParser);
+    }
+
+    @Override
+    public Single<Long> fetchRewardRecipient(long accountId) {
+        return backgroundClient.getRewardRecipient(BurstAddress.fromId(new BurstID(BurstIDUtils.toUnsignedString(accountId))))
+                .map(rewardRecipient -> BurstIDUtils.toLong(rewardRecipient.getID()));
+    }
+
+    @Override
+    public Completable onAccountsChanged(long[] accountIds) {
+        return Completable.fromAction(() -> {
+            // The cached account would otherwise hide the change for its time to live
+            for (long accountId : accountIds) {
+                burstNodeClient.invalidateAccount(accountId);
+            }
+        }).andThen(savedAccountsRefresher.refresh(accountIds, (done, total) -> {}).toCompletable());
+    }
+
+    @Override
+    public Completable onAllAccountsStale() {
+        return savedAccountsRefresher.refresh((done, total) -> {}).toCompletable();
+    }
+}
@@ -0,0 +1,242 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
+import com.harrysoft.burstcoinexplorer.util.LongHashSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import burst.kit.entity.BurstAddress;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+
+/**
+ * Brings the balance and name of every saved account up to date in one batch. At most {@code maxConcurrency} accounts
+ * are fetched from the node at once, and only the accounts that actually changed are written back, in one transaction
+ * once every fetch has finished. An account that fails to fetch keeps what it had and does not stop the others.
+ */
+public class SavedAccountsRefresher {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    // Stands in for an account that does not need writing, as Rx streams cannot carry null
+    private static final SavedAccount NOT_CHANGED = new SavedAccount();
+
+    public interface AccountFetcher {
+        Single<AccountState> fetchAccount(BurstAddress address);
+    }
+
+    public interface LocalAccounts {
+        /**
+         * Blocking
+         */
+        List<SavedAccount> loadAll();
+
+        /**
+         * Blocking, writes every account in one transaction
+         */
+        void updateAll(List<SavedAccount> savedAccounts);
+    }
+
+    public interface ProgressListener {
+        /**
+         * Called from whichever thread the fetch finished on
+         */
+        void onProgress(int done, int total);
+    }
+
+    private final AccountFetcher accountFetcher;
+    private final LocalAccounts localAccounts;
+    private final int maxConcurrency;
+
+    public SavedAccountsRefresher(AccountFetcher accountFetcher, LocalAccounts localAccounts, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        this.accountFetcher = accountFetcher;
+        this.localAccounts = localAccounts;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public Single<Result> refresh(ProgressListener progressListener) {
+        return refresh(Single.fromCallable(localAccounts::loadAll), progressListener);
+    }
+
+    /**
+     * Refreshes only the saved accounts in {@code accountIds}
+     */
+    public Single<Result> refresh(long[] accountIds, ProgressListener progressListener) {
+        return refresh(Single.fromCallable(() -> {
+            LongHashSet wanted = new LongHashSet(accountIds.length);
+            for (long accountId : accountIds) {
+                wanted.add(accountId);
+            }
+            List<SavedAccount> savedAccounts = new ArrayList<>(accountIds.length);
+            for (SavedAccount savedAccount : localAccounts.loadAll()) {
+                if (wanted.contains(savedAccount.getAccountId())) {
+                    savedAccounts.add(savedAccount);
+                }
+            }
+            return savedAccounts;
+        }), progressListener);
+    }
+
+    private Single<Result> refresh(Single<List<SavedAccount>> load, ProgressListener progressListener) {
+        return load.flatMap(savedAccounts -> {
+            int total = savedAccounts.size();
+            AtomicInteger done = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            List<BalanceChange> balanceChanges = Collections.synchronizedList(new ArrayList<>());
+            progressListener.onProgress(0, total);
+            return Flowable.fromIterable(savedAccounts)
+                    .flatMapSingle(savedAccount -> accountFetcher.fetchAccount(savedAccount.getAddress())
+                            .map(state -> {
+                                Long previousBalanceNQT = savedAccount.getLastKnownBalanceNQT();
+                                if (previousBalanceNQT != null && previousBalanceNQT != state.getBalanceNQT()) {
+                                    balanceChanges.add(new BalanceChange(savedAccount.getAccountId(), state.getName(), previousBalanceNQT, state.getBalanceNQT()));
+                                }
+                                return applyState(savedAccount, state) ? savedAccount : NOT_CHANGED;
+                            })
+                            .onErrorReturn(t -> {
+                                failed.incrementAndGet();
+                                return NOT_CHANGED;
+                            })
+                            .doOnSuccess(ignored -> progressListener.onProgress(done.incrementAndGet(), total)),
+                            false, maxConcurrency)
+                    .filter(savedAccount -> savedAccount != NOT_CHANGED)
+                    .toList()
+                    .map(changed -> {
+                        if (!changed.isEmpty()) {
+                            localAccounts.updateAll(changed);
+                        }
+                        return new Result(total, changed.size(), failed.get(), balanceChanges);
+                    });
+        });
+    }
+
+    /**
+     * @return Whether the saved account was changed
+     */
+    private static boolean applyState(SavedAccount savedAccount, AccountState state) {
+        boolean changed = false;
+        Long balanceNQT = savedAccount.getLastKnownBalanceNQT();
+        if (balanceNQT == null || balanceNQT != state.getBalanceNQT()) {
+            savedAccount.setLastKnownBalanceNQT(state.getBalanceNQT());
+            changed = true;
+        }
+        if (!sameName(savedAccount.getLastKnownName(), state.getName())) {
+            savedAccount.setLastKnownName(state.getName());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean sameName(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    public static class AccountState {
+        private final long balanceNQT;
+        private final String name;
+
+        public AccountState(long balanceNQT, String name) {
+            this.balanceNQT = balanceNQT;
+            this.name = name;
+        }
+
+        public long getBalanceNQT() {
+            return balanceNQT;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Progress {
+        private final int done;
+        private final int total;
+
+        public Progress(int done, int total) {
+            this.done = done;
+            this.total = total;
+        }
+
+        public int getDone() {
+            return done;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public boolean isFinished() {
+            return done >= total;
+        }
+    }
+
+    /**
+     * A balance that was known before the refresh and is now different
+     */
+    public static class BalanceChange {
+        private final long accountId;
+        private final String name;
+        private final long previousBalanceNQT;
+        private final long balanceNQT;
+
+        BalanceChange(long accountId, String name, long previousBalanceNQT, long balanceNQT) {
+            this.accountId = accountId;
+            this.name = name;
+            this.previousBalanceNQT = previousBalanceNQT;
+            this.balanceNQT = balanceNQT;
+        }
+
+        public long getAccountId() {
+            return accountId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getPreviousBalanceNQT() {
+            return previousBalanceNQT;
+        }
+
+        public long getBalanceNQT() {
+            return balanceNQT;
+        }
+    }
+
+    public static class Result {
+        private final int total;
+        private final int changed;
+        private final int failed;
+        private final List<BalanceChange> balanceChanges;
+
+        Result(int total, int changed, int failed, List<BalanceChange> balanceChanges) {
+            this.total = total;
+            this.changed = changed;
+            this.failed = failed;
+            this.balanceChanges = balanceChanges;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getChanged() {
+            return changed;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public List<BalanceChange> getBalanceChanges() {
+            return balanceChanges;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import io.reactivex.Completable;
+
+/**
+ * Brings every saved account up to date in the background, reporting balances that changed.
+ */
+public interface SavedAccountsSync {
+    Completable sync();
+}
@@ -0,0 +1,71 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.harrysoft.burstcoinexplorer.util.SingleFlight;
+
+import java.io.IOException;
+import java.util.List;
+
+import io.reactivex.Completable;
+
+/**
+ * Plain Java {@link SavedAccountsSync} on top of a {@link SavedAccountsRefresher}. Every saved account is refreshed in
+ * one batch, syncs that overlap share that batch, and a sync that comes too soon after the last one does nothing.
+ * If no account could be fetched the sync fails, so that it can be retried later.
+ */
+public class SavedAccountsSyncEngine implements SavedAccountsSync {
+
+    public static final long DEFAULT_MIN_INTERVAL = 5 * 60 * 1000;
+
+    public interface BalanceChangeListener {
+        void onBalancesChanged(List<SavedAccountsRefresher.BalanceChange> balanceChanges);
+    }
+
+    private final SavedAccountsRefresher refresher;
+    private final BalanceChangeListener balanceChangeListener;
+    private final Clock clock;
+    private final long minInterval;
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+    private long lastSyncedAt = Long.MIN_VALUE; // Guarded by this
+
+    public SavedAccountsSyncEngine(SavedAccountsRefresher refresher, BalanceChangeListener balanceChangeListener, Clock clock, long minInterval) {
+        this.refresher = refresher;
+        this.balanceChangeListener = balanceChangeListener;
+        this.clock = clock;
+        this.minInterval = minInterval;
+    }
+
+    @Override
+    public Completable sync() {
+        return Completable.defer(() -> {
+            if (isRecent()) {
+                return Completable.complete();
+            }
+            return singleFlight.execute("sync", () -> refresher.refresh((done, total) -> {})
+                    .doOnSuccess(this::onSynced))
+                    .flatMapCompletable(result -> isAllFailed(result)
+                            ? Completable.error(new IOException("Could not fetch any saved account"))
+                            : Completable.complete());
+        });
+    }
+
+    private synchronized boolean isRecent() {
+        return lastSyncedAt != Long.MIN_VALUE && clock.currentTimeMillis() - lastSyncedAt < minInterval;
+    }
+
+    private static boolean isAllFailed(SavedAccountsRefresher.Result result) {
+        return result.getTotal() > 0 && result.getFailed() == result.getTotal();
+    }
+
+    private void onSynced(SavedAccountsRefresher.Result result) {
+        synchronized (this) {
+            if (!isAllFailed(result)) {
+                lastSyncedAt = clock.currentTimeMillis();
+            }
+        }
+        if (!result.getBalanceChanges().isEmpty()) {
+            balanceChangeListener.onBalancesChanged(result.getBalanceChanges());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import android.app.job.JobParameters;
+import android.app.job.JobService;
+
+import javax.inject.Inject;
+
+import dagger.android.AndroidInjection;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Runs the periodic saved account sync scheduled by {@link SavedAccountsSyncScheduler}.
+ */
+public class SavedAccountsSyncJobService extends JobService {
+
+    @Inject
+    SavedAccountsSync savedAccountsSync;
+
+    private Disposable running = null;
+
+    @Override
+    public void onCreate() {
+        AndroidInjection.inject(this);
+        super.onCreate();
+    }
+
+    @Override
+    public boolean onStartJob(JobParameters params) {
+        running = savedAccountsSync.sync()
+                .subscribeOn(Schedulers.io())
+                .subscribe(() -> jobFinished(params, false), t -> jobFinished(params, true));
+        return true;
+    }
+
+    @Override
+    public boolean onStopJob(JobParameters params) {
+        if (running != null) {
+            running.dispose();
+            running = null;
+        }
+        return true; // Constraints no longer met, try again when they are
+    }
+}
@@ -0,0 +1,54 @@
+package com.harrysoft.burstcoinexplorer.accounts.sync;
+
+import android.app.job.JobInfo;
+import android.app.job.JobScheduler;
+import android.content.ComponentName;
+import android.content.Context;
+import android.support.v7.preference.PreferenceManager;
+
+import com.harrysoft.burstcoinexplorer.R;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules {@link SavedAccountsSyncJobService} to run periodically, only while charging on an unmetered network, at
+ * the interval chosen in the settings.
+ */
+public final class SavedAccountsSyncScheduler {
+
+    private static final int JOB_ID = 1;
+
+    private SavedAccountsSyncScheduler() {
+    }
+
+    public static void schedule(Context context) {
+        String interval = PreferenceManager.getDefaultSharedPreferences(context).getString(context.getString(R.string.sync_interval_key), context.getString(R.string.sync_interval_default));
+        schedule(context, Long.parseLong(interval));
+    }
+
+    /**
+     * @param intervalMinutes How often to sync, or 0 to stop syncing
+     */
+    public static void schedule(Context context, long intervalMinutes) {
+        JobScheduler jobScheduler = (JobScheduler) context.getSystemService(Context.JOB_SCHEDULER_SERVICE);
+        if (jobScheduler == null) {
+            return;
+        }
+        if (intervalMinutes <= 0) {
+            jobScheduler.cancel(JOB_ID);
+            return;
+        }
+        long interval = TimeUnit.MINUTES.toMillis(intervalMinutes);
+        for (JobInfo pending : jobScheduler.getAllPendingJobs()) {
+            if (pending.getId() == JOB_ID && pending.getIntervalMillis() == interval) {
+                return; // Already scheduled, rescheduling would restart the interval
+            }
+        }
+        jobScheduler.schedule(new JobInfo.Builder(JOB_ID, new ComponentName(context, SavedAccountsSyncJobService.class))
+                .setRequiredNetworkType(JobInfo.NETWORK_TYPE_UNMETERED)
+                .setRequiresCharging(true)
+                .setPeriodic(interval)
+                .setPersisted(true)
+                .build());
+    }
+}
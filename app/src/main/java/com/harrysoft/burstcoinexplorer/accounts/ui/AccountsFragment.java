@@ -19,6 +19,7 @@ import android.widget.TextView;
 
 import com.harrysoft.burstcoinexplorer.R;
 import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsRefresher;
 import com.harrysoft.burstcoinexplorer.accounts.viewmodel.SavedAccountViewModel;
 import com.harrysoft.burstcoinexplorer.accounts.viewmodel.SavedAccountViewModelFactory;
 
@@ -40,7 +41,9 @@ public class AccountsFragment extends Fragment {
     private TextView accountsLabel;
     private EditText addressBox;
 
-    private boolean updated = false;
+    @Nullable
+    private SavedAccountsRefresher.Progress savedInfoProgress = null;
+    private int savedAccountCount = 0;
 
     @Override
     public void onAttach(Context context) {
@@ -70,6 +73,7 @@ public class AccountsFragment extends Fragment {
         savedAccountViewModel.getAddressBoxText().observe(this, addressBox::setText);
         savedAccountViewModel.getAddressBoxError().observe(this, addressBox::setError);
         savedAccountViewModel.getSavedAccountsList().observe(this, this::onSavedAccountsList);
+        savedAccountViewModel.getSavedInfoProgress().observe(this, this::onSavedInfoProgress);
 
         return view;
     }
@@ -83,24 +87,27 @@ public class AccountsFragment extends Fragment {
     }
 
     private void onSavedAccountsList(LiveData<List<SavedAccount>> savedAccountList) {
-        updated = false;
         SavedAccountsRecyclerAdapter adapter = new SavedAccountsRecyclerAdapter(getContext());
         savedAccountList.observe(this, newSavedAccountList -> {
             adapter.updateData(newSavedAccountList);
-
-            if (newSavedAccountList == null || newSavedAccountList.size() == 0) {
-                accountsLabel.setText(R.string.pinned_accounts_empty);
-            } else {
-                accountsLabel.setText(R.string.pinned_accounts);
-            }
-
-            if (newSavedAccountList != null && !updated) {
-                for (SavedAccount savedAccount : newSavedAccountList) {
-                    savedAccountViewModel.updateSavedInfo(savedAccount.getAddress());
-                }
-                updated = true;
-            }
+            savedAccountCount = newSavedAccountList == null ? 0 : newSavedAccountList.size();
+            updateAccountsLabel();
         });
         accountsList.setAdapter(adapter);
     }
+
+    private void onSavedInfoProgress(SavedAccountsRefresher.Progress progress) {
+        savedInfoProgress = progress;
+        updateAccountsLabel();
+    }
+
+    private void updateAccountsLabel() {
+        if (savedAccountCount == 0) {
+            accountsLabel.setText(R.string.pinned_accounts_empty);
+        } else if (savedInfoProgress != null && !savedInfoProgress.isFinished()) {
+            accountsLabel.setText(getString(R.string.pinned_accounts_updating, savedInfoProgress.getDone(), savedInfoProgress.getTotal()));
+        } else {
+            accountsLabel.setText(R.string.pinned_accounts);
+        }
+    }
 }
@@ -13,6 +13,8 @@ import android.widget.TextView;
 import com.harrysoft.burstcoinexplorer.R;
 import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
 import com.harrysoft.burstcoinexplorer.main.router.ExplorerRouter;
+import com.harrysoft.burstcoinexplorer.main.ui.BackgroundDiffer;
+import com.harrysoft.burstcoinexplorer.util.DisplayFormats;
 import com.harrysoft.burstcoinexplorer.util.TextFormatUtils;
 
 import java.util.ArrayList;
@@ -23,7 +25,7 @@ public class SavedAccountsRecyclerAdapter extends RecyclerView.Adapter<SavedAcco
 
     private final Context context;
 
-    private List<SavedAccount> savedAccounts = new ArrayList<>();
+    private final BackgroundDiffer<List<SavedAccount>> differ = new BackgroundDiffer<>(this, new ArrayList<>(), SavedAccountsRecyclerAdapter::diffCallback);
 
     SavedAccountsRecyclerAdapter(Context context) {
         this.context = context;
@@ -37,48 +39,45 @@ public class SavedAccountsRecyclerAdapter extends RecyclerView.Adapter<SavedAcco
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        holder.setupView(savedAccounts.get(position));
+        holder.setupView(differ.getData().get(position));
     }
 
     @Override
     public int getItemCount() {
-        return savedAccounts.size();
+        return differ.getData().size();
     }
 
     public void updateData(List<SavedAccount> newSavedAccounts) {
-        if (savedAccounts == null) {
-            savedAccounts = newSavedAccounts;
-            notifyDataSetChanged();
-        } else {
-            DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
-                @Override
-                public int getOldListSize() {
-                    return savedAccounts.size();
-                }
-
-                @Override
-                public int getNewListSize() {
-                    return newSavedAccounts.size();
-                }
-
-                @Override
-                public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-                    return savedAccounts.get(oldItemPosition).getId() == newSavedAccounts.get(newItemPosition).getId();
-                }
-
-                @Override
-                public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-                    SavedAccount newAccount = newSavedAccounts.get(newItemPosition);
-                    SavedAccount oldAccount = savedAccounts.get(oldItemPosition);
-                    return newAccount.getId() == oldAccount.getId()
-                            && Objects.equals(newAccount.getAddress(), oldAccount.getAddress())
-                            && Objects.equals(newAccount.getLastKnownName(), oldAccount.getLastKnownName())
-                            && Objects.equals(newAccount.getLastKnownBalance(), oldAccount.getLastKnownBalance());
-                }
-            });
-            savedAccounts = newSavedAccounts;
-            result.dispatchUpdatesTo(this);
-        }
+        differ.submit(newSavedAccounts);
+    }
+
+    private static DiffUtil.Callback diffCallback(List<SavedAccount> oldSavedAccounts, List<SavedAccount> newSavedAccounts) {
+        return new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldSavedAccounts.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newSavedAccounts.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return oldSavedAccounts.get(oldItemPosition).getId() == newSavedAccounts.get(newItemPosition).getId();
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                SavedAccount newAccount = newSavedAccounts.get(newItemPosition);
+                SavedAccount oldAccount = oldSavedAccounts.get(oldItemPosition);
+                return newAccount.getId() == oldAccount.getId()
+                        && newAccount.getAccountId() == oldAccount.getAccountId()
+                        && Objects.equals(newAccount.getLastKnownName(), oldAccount.getLastKnownName())
+                        && Objects.equals(newAccount.getLastKnownBalanceNQT(), oldAccount.getLastKnownBalanceNQT());
+            }
+        };
     }
 
     class ViewHolder extends RecyclerView.ViewHolder {
@@ -97,7 +96,7 @@ public class SavedAccountsRecyclerAdapter extends RecyclerView.Adapter<SavedAcco
 
         void setupView(SavedAccount savedAccount) {
             text1.setText(context.getString(R.string.basic_data, savedAccount.getAddress().getFullAddress()));
-            String lastKnownBalance = savedAccount.getLastKnownBalance() == null ? context.getString(R.string.unknown_balance) : savedAccount.getLastKnownBalance().toString();
+            String lastKnownBalance = savedAccount.getLastKnownBalanceNQT() == null ? context.getString(R.string.unknown_balance) : DisplayFormats.formatBurst(savedAccount.getLastKnownBalanceNQT());
             String lastKnownName = savedAccount.getLastKnownName() == null ? context.getString(R.string.unknown_name) : TextFormatUtils.checkIfSet(context, savedAccount.getLastKnownName());
             String details = context.getString(R.string.saved_account_details_display_format, lastKnownName, lastKnownBalance);
             text2.setText(context.getString(R.string.basic_data, details));
@@ -10,33 +10,34 @@ import com.crashlytics.android.Crashlytics;
 import com.harrysoft.burstcoinexplorer.R;
 import com.harrysoft.burstcoinexplorer.accounts.db.AccountsDatabase;
 import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsRefresher;
 import com.harrysoft.burstcoinexplorer.accounts.util.SavedAccountsUtils;
 
 import java.util.List;
 
 import burst.kit.entity.BurstAddress;
-import burst.kit.entity.response.AccountResponse;
-import burst.kit.service.BurstNodeService;
-import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
 import io.reactivex.schedulers.Schedulers;
 
 public class SavedAccountViewModel extends ViewModel implements SwipeRefreshLayout.OnRefreshListener {
 
-    private final BurstNodeService burstNodeService;
+    private final SavedAccountsRefresher savedAccountsRefresher;
     private final AccountsDatabase accountsDatabase;
 
     private final CompositeDisposable compositeDisposable = new CompositeDisposable();
+    private Disposable savedInfoDisposable = null;
 
     private final MutableLiveData<Boolean> refreshing = new MutableLiveData<>();
     private final MutableLiveData<String> addressBoxText = new MutableLiveData<>();
     private final MutableLiveData<String> addressBoxError = new MutableLiveData<>();
     private final MutableLiveData<LiveData<List<SavedAccount>>> savedAccountsList = new MutableLiveData<>();
+    private final MutableLiveData<SavedAccountsRefresher.Progress> savedInfoProgress = new MutableLiveData<>();
 
-    SavedAccountViewModel(BurstNodeService burstNodeService, AccountsDatabase accountsDatabase) {
-        this.burstNodeService = burstNodeService;
+    SavedAccountViewModel(SavedAccountsRefresher savedAccountsRefresher, AccountsDatabase accountsDatabase) {
+        this.savedAccountsRefresher = savedAccountsRefresher;
         this.accountsDatabase = accountsDatabase;
 
         // Update immediately
@@ -45,8 +46,8 @@ public class SavedAccountViewModel extends ViewModel implements SwipeRefreshLayo
     }
 
     private void onSavedAccountsList(LiveData<List<SavedAccount>> savedAccountsList) {
-        refreshing.postValue(false);
         this.savedAccountsList.postValue(savedAccountsList);
+        updateSavedInfo();
     }
 
     public void addToDatabase(Context context, BurstAddress address) {
@@ -66,18 +67,20 @@ public class SavedAccountViewModel extends ViewModel implements SwipeRefreshLayo
                         }));
     }
 
-    public void updateSavedInfo(BurstAddress address) {
-        compositeDisposable.add(Completable.fromAction(() -> {
-            SavedAccount savedAccount = accountsDatabase.savedAccountDao().findByAddress(address);
-            if (savedAccount != null) {
-                AccountResponse account = burstNodeService.getAccount(address).blockingGet(); // TODO don't use blockingGet
-                savedAccount.setLastKnownBalance(account.getBalanceNQT());
-                savedAccount.setLastKnownName(account.getName());
-                if (accountsDatabase.isOpen()) {
-                    accountsDatabase.savedAccountDao().update(savedAccount);
-                }
-            }
-        }).subscribeOn(Schedulers.io()).observeOn(Schedulers.io()).subscribe(() -> {}, t -> {}));
+    /**
+     * Fetches every saved account's balance and name in one batch. Does nothing if a batch is already running.
+     */
+    private void updateSavedInfo() {
+        if (savedInfoDisposable != null && !savedInfoDisposable.isDisposed()) {
+            return;
+        }
+        savedInfoDisposable = savedAccountsRefresher.refresh((done, total) -> savedInfoProgress.postValue(new SavedAccountsRefresher.Progress(done, total)))
+                .subscribeOn(Schedulers.io())
+                .subscribe(result -> refreshing.postValue(false), t -> {
+                    refreshing.postValue(false);
+                    Crashlytics.logException(t);
+                });
+        compositeDisposable.add(savedInfoDisposable);
     }
 
     @Override
@@ -97,4 +100,5 @@ public class SavedAccountViewModel extends ViewModel implements SwipeRefreshLayo
     public LiveData<String> getAddressBoxText() { return addressBoxText; }
     public LiveData<String> getAddressBoxError() { return addressBoxError; }
     public LiveData<LiveData<List<SavedAccount>>> getSavedAccountsList() { return savedAccountsList; }
+    public LiveData<SavedAccountsRefresher.Progress> getSavedInfoProgress() { return savedInfoProgress; }
 }
@@ -5,19 +5,18 @@ import android.arch.lifecycle.ViewModelProvider;
 import android.support.annotation.NonNull;
 
 import com.harrysoft.burstcoinexplorer.accounts.db.AccountsDatabase;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsRefresher;
 
 import javax.inject.Inject;
 
-import burst.kit.service.BurstNodeService;
-
 public class SavedAccountViewModelFactory implements ViewModelProvider.Factory {
 
-    private final BurstNodeService burstNodeService;
+    private final SavedAccountsRefresher savedAccountsRefresher;
     private final AccountsDatabase accountsDatabase;
 
     @Inject
-    SavedAccountViewModelFactory(BurstNodeService burstNodeService, AccountsDatabase accountsDatabase) {
-        this.burstNodeService = burstNodeService;
+    SavedAccountViewModelFactory(SavedAccountsRefresher savedAccountsRefresher, AccountsDatabase accountsDatabase) {
+        this.savedAccountsRefresher = savedAccountsRefresher;
         this.accountsDatabase = accountsDatabase;
     }
 
@@ -25,6 +24,6 @@ public class SavedAccountViewModelFactory implements ViewModelProvider.Factory {
     @NonNull
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
-        return (T) new SavedAccountViewModel(burstNodeService, accountsDatabase);
+        return (T) new SavedAccountViewModel(savedAccountsRefresher, accountsDatabase);
     }
 }
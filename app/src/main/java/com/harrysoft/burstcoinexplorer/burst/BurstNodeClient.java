@@ -0,0 +1,354 @@
+package com.harrysoft.burstcoinexplorer.burst;
+
+import com.harrysoft.burstcoinexplorer.burst.cache.EntityCache;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeApi;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeMetrics;
+import com.harrysoft.burstcoinexplorer.burst.node.NodePool;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeProber;
+import com.harrysoft.burstcoinexplorer.burst.node.RequestHedger;
+import com.harrysoft.burstcoinexplorer.burst.node.ResponseParser;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreaker;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitOpenException;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestPriority;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestScheduler;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HostRateLimiter;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.harrysoft.burstcoinexplorer.util.SingleFlight;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+import burst.kit.entity.response.AccountResponse;
+import burst.kit.entity.response.BlockResponse;
+import burst.kit.entity.response.BlocksResponse;
+import burst.kit.entity.response.TransactionResponse;
+import burst.kit.service.BurstNodeService;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Entry point for all node reads. Identical requests made at the same time share one call to the node.
+ * Each call goes to the healthiest node in the {@link NodePool}, and moves on to the next node if that one cannot be reached.
+ * Block and transaction lookups can also be hedged: if the first node is slow to answer, the second best node is asked as
+ * well, and the first call's failover skips it.
+ * Nodes whose circuit breaker is open are skipped, and if every node fails the whole call is retried after a backoff.
+ * Blocks, transactions and accounts are kept in memory, so screens showing the same entity do not fetch it twice.
+ * Calls are sent through a {@link RequestScheduler} at the client's priority, which {@link #withPriority(RequestPriority)} changes,
+ * and wait for the node's {@link HostRateLimiter} budget so that bursts of calls do not get the app throttled.
+ */
+public class BurstNodeClient {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long PROBE_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+    private static final int LATENCY_SAMPLES = 100;
+
+    private static final int BLOCK_CACHE_SIZE = 256;
+    private static final int TRANSACTION_CACHE_SIZE = 512;
+    private static final int ACCOUNT_CACHE_SIZE = 128;
+    private static final long UNCONFIRMED_TIME_TO_LIVE = TimeUnit.SECONDS.toMillis(15);
+    /** A transaction's confirmation count goes up with every block, so even a settled one is only kept for about a block */
+    private static final long CONFIRMED_TRANSACTION_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(4);
+    /** Blocks with at least this many confirmations are treated as immutable */
+    private static final int DEEP_CONFIRMATIONS = 10;
+    private static final long ACCOUNT_TIME_TO_LIVE = TimeUnit.SECONDS.toMillis(30);
+
+    private final NodePool nodePool;
+    private final NodeProber nodeProber;
+    private final Function<String, BurstNodeService> serviceFactory;
+    private final NodeApi nodeApi;
+    private final Clock clock;
+    private final NodeMetrics metrics;
+    private final RequestHedger requestHedger;
+    private final AtomicBoolean hedgingEnabled;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RetryPolicy retryPolicy;
+    private final RequestScheduler scheduler;
+    private final RequestPriority priority;
+    private final HostRateLimiter rateLimiter;
+    private final Map<String, BurstNodeService> services;
+    // Not shared between priorities, so that an interactive call never waits on one deferred behind background work
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    private final EntityCache<BlockResponse> blocksByID;
+    private final EntityCache<BlockResponse> blocksByHeight;
+    private final EntityCache<TransactionResponse> transactions;
+    private final EntityCache<AccountResponse> accounts;
+    private final AtomicLong chainHeight;
+
+    public BurstNodeClient(NodePool nodePool, NodeProber nodeProber, Function<String, BurstNodeService> serviceFactory, NodeApi nodeApi, Clock clock, NodeMetrics metrics, boolean hedgingEnabled, CircuitBreakerRegistry circuitBreakers, RetryPolicy retryPolicy, RequestScheduler scheduler, HostRateLimiter rateLimiter) {
+        this.nodePool = nodePool;
+        this.nodeProber = nodeProber;
+        this.serviceFactory = serviceFactory;
+        this.nodeApi = nodeApi;
+        this.clock = clock;
+        this.metrics = metrics;
+        this.requestHedger = new RequestHedger(LATENCY_SAMPLES, metrics, Schedulers.computation());
+        this.hedgingEnabled = new AtomicBoolean(hedgingEnabled);
+        this.circuitBreakers = circuitBreakers;
+        this.retryPolicy = retryPolicy;
+        this.scheduler = scheduler;
+        this.priority = RequestPriority.INTERACTIVE;
+        this.rateLimiter = rateLimiter;
+        this.services = new HashMap<>();
+        this.blocksByID = new EntityCache<>(BLOCK_CACHE_SIZE, clock);
+        this.blocksByHeight = new EntityCache<>(BLOCK_CACHE_SIZE, clock);
+        this.transactions = new EntityCache<>(TRANSACTION_CACHE_SIZE, clock);
+        this.accounts = new EntityCache<>(ACCOUNT_CACHE_SIZE, clock);
+        this.chainHeight = new AtomicLong(-1);
+    }
+
+    private BurstNodeClient(BurstNodeClient client, RequestPriority priority) {
+        this.nodePool = client.nodePool;
+        this.nodeProber = client.nodeProber;
+        this.serviceFactory = client.serviceFactory;
+        this.nodeApi = client.nodeApi;
+        this.clock = client.clock;
+        this.metrics = client.metrics;
+        this.requestHedger = client.requestHedger;
+        this.hedgingEnabled = client.hedgingEnabled;
+        this.circuitBreakers = client.circuitBreakers;
+        this.retryPolicy = client.retryPolicy;
+        this.scheduler = client.scheduler;
+        this.priority = priority;
+        this.rateLimiter = client.rateLimiter;
+        this.services = client.services;
+        this.blocksByID = client.blocksByID;
+        this.blocksByHeight = client.blocksByHeight;
+        this.transactions = client.transactions;
+        this.accounts = client.accounts;
+        this.chainHeight = client.chainHeight;
+    }
+
+    /**
+     * @return A client sharing this one's nodes and caches, whose calls are made at {@code priority}
+     */
+    public BurstNodeClient withPriority(RequestPriority priority) {
+        return priority == this.priority ? this : new BurstNodeClient(this, priority);
+    }
+
+    /**
+     * Turns hedging on or off for this client and every client made from it by {@link #withPriority(RequestPriority)}.
+     */
+    public void setHedgingEnabled(boolean hedgingEnabled) {
+        this.hedgingEnabled.set(hedgingEnabled);
+    }
+
+    public Single<BlockResponse> getBlock(BurstID block) {
+        return cached(blocksByID, BurstIDUtils.toLong(block), fetchBlock(block));
+    }
+
+    /**
+     * @param blockID The block's ID as stored by {@link BurstIDUtils}, a BurstID is only built if it has to be fetched
+     */
+    public Single<BlockResponse> getBlockByID(long blockID) {
+        return cached(blocksByID, blockID, Single.defer(() -> fetchBlock(new BurstID(BurstIDUtils.toUnsignedString(blockID)))));
+    }
+
+    private Single<BlockResponse> fetchBlock(BurstID block) {
+        return executeHedged("getBlock", block.getID(), service -> service.getBlock(block))
+                .doOnSuccess(this::cacheBlock);
+    }
+
+    public Single<BlockResponse> getBlock(long height) {
+        return cached(blocksByHeight, height, executeHedged("getBlockAtHeight", String.valueOf(height), service -> service.getBlock(height))
+                .doOnSuccess(this::cacheBlock));
+    }
+
+    public Single<BlocksResponse> getBlocks(int firstIndex, int lastIndex) {
+        return execute("getBlocks:" + firstIndex + ":" + lastIndex, service -> service.getBlocks(firstIndex, lastIndex))
+                .doOnSuccess(blocks -> {
+                    for (BlockResponse block : blocks.getBlocks()) {
+                        cacheBlock(block);
+                    }
+                });
+    }
+
+    public Single<AccountResponse> getAccount(BurstAddress account) {
+        long accountID = BurstIDUtils.toLong(account.getID());
+        return cached(accounts, accountID, execute("getAccount:" + account.getID(), service -> service.getAccount(account))
+                .doOnSuccess(response -> accounts.put(accountID, response, ACCOUNT_TIME_TO_LIVE)));
+    }
+
+    /**
+     * Forgets the cached account, for when it is known to have changed.
+     */
+    public void invalidateAccount(long accountID) {
+        accounts.remove(accountID);
+    }
+
+    /**
+     * Fetches one range of the account's transaction IDs, newest first, so that the whole history never has to be held at once.
+     * @return The IDs as stored by {@link BurstIDUtils}
+     */
+    public Single<List<Long>> getAccountTransactionIDs(long accountID, int firstIndex, int lastIndex) {
+        String account = BurstIDUtils.toUnsignedString(accountID);
+        return executeRaw("getAccountTransactionIDs:" + account + ":" + firstIndex + ":" + lastIndex, node -> Single.fromCallable(() -> {
+            List<String> ids = nodeApi.getAccountTransactionIDs(node, account, firstIndex, lastIndex);
+            List<Long> transactionIDs = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                transactionIDs.add(BurstIDUtils.toLong(id));
+            }
+            return transactionIDs;
+        }).subscribeOn(Schedulers.io()));
+    }
+
+    /**
+     * Makes any node request, decoding the response while it downloads rather than buffering it. Identical queries
+     * made at the same time share one request.
+     * @param query The query string without the leading '?'
+     */
+    public <T> Single<T> request(String query, ResponseParser<T> parser) {
+        return executeRaw(query, node -> Single.fromCallable(() -> nodeApi.request(node, query, parser)).subscribeOn(Schedulers.io()));
+    }
+
+    public Single<BurstAddress> getRewardRecipient(BurstAddress account) {
+        return execute("getRewardRecipient:" + account.getID(), service -> service.getRewardRecipient(account).map(response -> response.getRewardRecipient()));
+    }
+
+    public Single<TransactionResponse> getTransaction(BurstID transaction) {
+        long transactionID = BurstIDUtils.toLong(transaction);
+        return cached(transactions, transactionID, fetchTransaction(transactionID, transaction));
+    }
+
+    /**
+     * @param transactionID The transaction's ID as stored by {@link BurstIDUtils}, a BurstID is only built if it has to be fetched
+     */
+    public Single<TransactionResponse> getTransactionByID(long transactionID) {
+        return cached(transactions, transactionID, Single.defer(() -> fetchTransaction(transactionID, new BurstID(BurstIDUtils.toUnsignedString(transactionID)))));
+    }
+
+    private Single<TransactionResponse> fetchTransaction(long transactionID, BurstID transaction) {
+        return executeHedged("getTransaction", transaction.getID(), service -> service.getTransaction(transaction))
+                .doOnSuccess(response -> transactions.put(transactionID, response, response.getConfirmations() >= DEEP_CONFIRMATIONS ? CONFIRMED_TRANSACTION_TIME_TO_LIVE : UNCONFIRMED_TIME_TO_LIVE));
+    }
+
+    private void cacheBlock(BlockResponse block) {
+        long height = block.getHeight();
+        long tip = chainHeight.get();
+        while (height > tip && !chainHeight.compareAndSet(tip, height)) {
+            tip = chainHeight.get();
+        }
+        // A block only changes if it is orphaned, which cannot happen once it is deep enough
+        long timeToLive = chainHeight.get() - height >= DEEP_CONFIRMATIONS ? EntityCache.NEVER_EXPIRES : UNCONFIRMED_TIME_TO_LIVE;
+        blocksByID.put(BurstIDUtils.toLong(block.getBlock()), block, timeToLive);
+        blocksByHeight.put(height, block, timeToLive);
+    }
+
+    private static <T> Single<T> cached(EntityCache<T> cache, long key, Single<T> source) {
+        return Single.defer(() -> {
+            T cached = cache.get(key);
+            return cached != null ? Single.just(cached) : source;
+        });
+    }
+
+    private <T> Single<T> execute(String key, Function<BurstNodeService, Single<T>> call) {
+        return executeRaw(key, node -> call.apply(getService(node)));
+    }
+
+    /**
+     * Like {@link #execute(String, Function)}, but the call is given the node's address rather than its service.
+     */
+    private <T> Single<T> executeRaw(String key, Function<String, Single<T>> call) {
+        probeIfDue();
+        return singleFlight.execute(key, () -> retryPolicy.apply(Single.defer(() -> executeOnNode(nodePool.rank(), 0, call))));
+    }
+
+    /**
+     * @param endpoint Which kind of request this is, as each kind is hedged after its own recent latency
+     */
+    private <T> Single<T> executeHedged(String endpoint, String id, Function<BurstNodeService, Single<T>> call) {
+        String key = endpoint + ":" + id;
+        if (!hedgingEnabled.get()) {
+            return execute(key, call);
+        }
+        probeIfDue();
+        Function<String, Single<T>> nodeCall = node -> Single.defer(() -> {
+            long start = clock.currentTimeMillis();
+            return call.apply(getService(node))
+                    .doOnSuccess(result -> requestHedger.recordLatency(endpoint, clock.currentTimeMillis() - start));
+        });
+        return singleFlight.execute(key, () -> retryPolicy.apply(Single.defer(() -> {
+            List<String> nodes = nodePool.rank();
+            if (nodes.size() < 2) {
+                return executeOnNode(nodes, 0, nodeCall);
+            }
+            // The backup goes to the second best node, which the primary then skips when failing over
+            List<String> primaryNodes = new ArrayList<>(nodes);
+            String backupNode = primaryNodes.remove(1);
+            return requestHedger.hedge(endpoint, executeOnNode(primaryNodes, 0, nodeCall), executeOnNode(Collections.singletonList(backupNode), 0, nodeCall));
+        })));
+    }
+
+    private <T> Single<T> executeOnNode(List<String> nodes, int attempt, Function<String, Single<T>> call) {
+        String node = nodes.get(attempt);
+        return Single.defer(() -> {
+            CircuitBreaker circuitBreaker = circuitBreakers.get(node);
+            if (!circuitBreaker.tryAcquire()) {
+                // Known to be down, so move on without waiting for it to time out
+                if (attempt + 1 < nodes.size()) {
+                    return executeOnNode(nodes, attempt + 1, call);
+                }
+                return Single.error(new CircuitOpenException(node));
+            }
+            // Timed from when it is sent, so time spent queued or waiting for budget is not blamed on the node
+            Single<T> request = rateLimiter.throttle(node, Single.defer(() -> {
+                metrics.recordRequest();
+                long start = clock.currentTimeMillis();
+                return call.apply(node)
+                        .doOnSuccess(result -> nodePool.recordSuccess(node, clock.currentTimeMillis() - start));
+            }));
+            return circuitBreaker.record(scheduler.schedule(priority, request))
+                    .onErrorResumeNext(error -> {
+                        if (!isNodeFailure(error)) {
+                            return Single.error(error);
+                        }
+                        nodePool.recordFailure(node);
+                        if (attempt + 1 < Math.min(nodes.size(), MAX_ATTEMPTS)) {
+                            metrics.recordFailover();
+                            return executeOnNode(nodes, attempt + 1, call);
+                        }
+                        return Single.error(error);
+                    });
+        });
+    }
+
+    private void probeIfDue() {
+        if (nodePool.claimProbe(PROBE_INTERVAL)) {
+            Completable.fromAction(() -> nodePool.probeAll(nodeProber))
+                    .subscribeOn(Schedulers.io())
+                    .onErrorComplete()
+                    .subscribe();
+        }
+    }
+
+    private BurstNodeService getService(String node) throws Exception {
+        synchronized (services) {
+            BurstNodeService service = services.get(node);
+            if (service == null) {
+                service = serviceFactory.apply(node);
+                services.put(node, service);
+            }
+            return service;
+        }
+    }
+
+    /**
+     * Only connection problems and server errors say anything about the node. Errors returned by the node itself would be the same on any other node.
+     */
+    private static boolean isNodeFailure(Throwable error) {
+        return RetryPolicy.isRetryable(error);
+    }
+}
@@ -3,22 +3,32 @@ package com.harrysoft.burstcoinexplorer.burst;
 import com.harrysoft.burstcoinexplorer.burst.entity.AccountWithRewardRecipient;
 import com.harrysoft.burstcoinexplorer.burst.entity.BlockWithGenerator;
 
+import burst.kit.entity.BurstAddress;
 import burst.kit.entity.response.AccountResponse;
 import burst.kit.entity.response.BlockResponse;
-import burst.kit.service.BurstNodeService;
 import io.reactivex.Single;
 
 public class BurstServiceExtensions {
-    public static Single<AccountWithRewardRecipient> fetchAccountWithRewardRecipient(BurstNodeService nodeService, Single<AccountResponse> accountResponseSingle) {
-        return accountResponseSingle
-                .flatMap(accountResponse -> nodeService.getRewardRecipient(accountResponse.getAccount())
-                        .flatMap(rewardRecipientAddress -> nodeService.getAccount(rewardRecipientAddress.getRewardRecipient())
-                                .map(rewardRecipient -> new AccountWithRewardRecipient(accountResponse, rewardRecipient.getAccount(), rewardRecipient.getName()))));
+    /**
+     * Fetches the account and its reward recipient at the same time. The recipient's account is then only fetched if it is a different account.
+     */
+    public static Single<AccountWithRewardRecipient> fetchAccountWithRewardRecipient(BurstNodeClient nodeClient, BurstAddress address) {
+        return Single.zip(nodeClient.getAccount(address), nodeClient.getRewardRecipient(address),
+                (accountResponse, rewardRecipientAddress) -> fetchRewardRecipient(nodeClient, accountResponse, rewardRecipientAddress))
+                .flatMap(accountWithRewardRecipient -> accountWithRewardRecipient);
     }
 
-    public static Single<BlockWithGenerator> fetchBlockWithGenerator(BurstNodeService nodeService, Single<BlockResponse> blockResponseSingle) {
+    public static Single<BlockWithGenerator> fetchBlockWithGenerator(BurstNodeClient nodeClient, Single<BlockResponse> blockResponseSingle) {
         return blockResponseSingle
-                .flatMap(blockResponse -> fetchAccountWithRewardRecipient(nodeService, nodeService.getAccount(blockResponse.getGenerator()))
+                .flatMap(blockResponse -> fetchAccountWithRewardRecipient(nodeClient, blockResponse.getGenerator())
                         .map(generator -> new BlockWithGenerator(blockResponse, generator)));
     }
+
+    private static Single<AccountWithRewardRecipient> fetchRewardRecipient(BurstNodeClient nodeClient, AccountResponse accountResponse, BurstAddress rewardRecipientAddress) {
+        if (rewardRecipientAddress.getFullAddress().equals(accountResponse.getAccount().getFullAddress())) { // Solo miners are their own reward recipient
+            return Single.just(new AccountWithRewardRecipient(accountResponse, accountResponse.getAccount(), accountResponse.getName()));
+        }
+        return nodeClient.getAccount(rewardRecipientAddress)
+                .map(rewardRecipient -> new AccountWithRewardRecipient(accountResponse, rewardRecipient.getAccount(), rewardRecipient.getName()));
+    }
 }
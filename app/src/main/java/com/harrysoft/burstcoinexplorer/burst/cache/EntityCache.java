@@ -0,0 +1,157 @@
+package com.harrysoft.burstcoinexplorer.burst.cache;
+
+import android.support.annotation.Nullable;
+
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+/**
+ * Size-bounded LRU cache keyed by primitive longs, so that lookups by Burst ID or height do not allocate a boxed key.
+ * Each entry has its own time to live.
+ */
+public class EntityCache<V> {
+
+    public static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+    private final int capacity;
+    private final Clock clock;
+    private final Entry<V>[] table;
+    private final int mask;
+
+    // Sentinel of the circular LRU list: head.after is the eldest entry, head.before the most recent
+    private final Entry<V> head = new Entry<>(0, null, 0);
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    public EntityCache(int capacity, Clock clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.clock = clock;
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity * 4 / 3) - 1) << 1;
+        this.table = (Entry<V>[]) new Entry[tableSize];
+        this.mask = tableSize - 1;
+        head.before = head;
+        head.after = head;
+    }
+
+    @Nullable
+    public synchronized V get(long key) {
+        Entry<V> entry = find(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.currentTimeMillis()) {
+            removeEntry(entry);
+            return null;
+        }
+        unlink(entry);
+        linkLast(entry);
+        return entry.value;
+    }
+
+    /**
+     * @param timeToLive How long the entry stays valid in milliseconds, or {@link #NEVER_EXPIRES} to keep it until evicted.
+     */
+    public synchronized void put(long key, V value, long timeToLive) {
+        long now = clock.currentTimeMillis();
+        long expiresAt = timeToLive == NEVER_EXPIRES || now > Long.MAX_VALUE - timeToLive ? Long.MAX_VALUE : now + timeToLive;
+
+        Entry<V> entry = find(key);
+        if (entry != null) {
+            entry.value = value;
+            entry.expiresAt = expiresAt;
+            unlink(entry);
+            linkLast(entry);
+            return;
+        }
+
+        if (size == capacity) {
+            removeEntry(head.after);
+        }
+        entry = new Entry<>(key, value, expiresAt);
+        int bucket = bucket(key);
+        entry.next = table[bucket];
+        table[bucket] = entry;
+        linkLast(entry);
+        size++;
+    }
+
+    public synchronized void remove(long key) {
+        Entry<V> entry = find(key);
+        if (entry != null) {
+            removeEntry(entry);
+        }
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+        }
+        head.before = head;
+        head.after = head;
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    @Nullable
+    private Entry<V> find(long key) {
+        for (Entry<V> entry = table[bucket(key)]; entry != null; entry = entry.next) {
+            if (entry.key == key) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void removeEntry(Entry<V> entry) {
+        int bucket = bucket(entry.key);
+        if (table[bucket] == entry) {
+            table[bucket] = entry.next;
+        } else {
+            for (Entry<V> previous = table[bucket]; previous != null; previous = previous.next) {
+                if (previous.next == entry) {
+                    previous.next = entry.next;
+                    break;
+                }
+            }
+        }
+        unlink(entry);
+        size--;
+    }
+
+    private void unlink(Entry<V> entry) {
+        entry.before.after = entry.after;
+        entry.after.before = entry.before;
+    }
+
+    private void linkLast(Entry<V> entry) {
+        entry.before = head.before;
+        entry.after = head;
+        head.before.after = entry;
+        head.before = entry;
+    }
+
+    private int bucket(long key) {
+        int hash = (int) (key ^ (key >>> 32));
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static class Entry<V> {
+        private final long key;
+        private V value;
+        private long expiresAt;
+        private Entry<V> next;
+        private Entry<V> before;
+        private Entry<V> after;
+
+        private Entry(long key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import com.harrysoft.burstcoinexplorer.main.service.transport.HttpStatusException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calls the node's HTTP API directly, reading the response as a stream.
+ */
+public class HttpNodeApi implements NodeApi {
+
+    private final int timeout;
+
+    public HttpNodeApi(int timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public List<String> getAccountTransactionIDs(String address, String accountID, int firstIndex, int lastIndex) throws IOException {
+        return request(address, "requestType=getAccountTransactionIds&account=" + accountID + "&firstIndex=" + firstIndex + "&lastIndex=" + lastIndex, HttpNodeApi::readTransactionIDs);
+    }
+
+    @Override
+    public <T> T request(String address, String query, ResponseParser<T> parser) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(address + "?" + query).openConnection();
+        try {
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+            int responseCode = connection.getResponseCode();
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new HttpStatusException(responseCode);
+            }
+            try (JsonReader reader = new JsonReader(new InputStreamReader(connection.getInputStream(), "UTF-8"))) {
+                return parser.parse(reader);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static List<String> readTransactionIDs(JsonReader reader) throws IOException {
+        List<String> transactionIDs = null;
+        String error = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "transactionIds":
+                    transactionIDs = new ArrayList<>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        transactionIDs.add(reader.nextString());
+                    }
+                    reader.endArray();
+                    break;
+
+                case "errorDescription":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        error = reader.nextString();
+                    }
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (transactionIDs == null) {
+            // The node answered, so asking another node would not help
+            throw new IllegalStateException(error != null ? error : "Node response did not contain transaction IDs");
+        }
+        return transactionIDs;
+    }
+}
@@ -0,0 +1,48 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import com.harrysoft.burstcoinexplorer.main.service.transport.HttpStatusException;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Probes a node by timing a cheap status request against its API.
+ */
+public class HttpNodeProber implements NodeProber {
+
+    private static final String PROBE_REQUEST = "?requestType=getBlockchainStatus";
+
+    private final int timeout;
+    private final Clock clock;
+
+    public HttpNodeProber(int timeout, Clock clock) {
+        this.timeout = timeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public long probe(String address) throws IOException {
+        long start = clock.currentTimeMillis();
+        HttpURLConnection connection = (HttpURLConnection) new URL(address + PROBE_REQUEST).openConnection();
+        try {
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+            connection.setUseCaches(false);
+            int responseCode = connection.getResponseCode();
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new HttpStatusException(responseCode);
+            }
+            try (InputStream inputStream = connection.getInputStream()) {
+                byte[] buffer = new byte[1024];
+                //noinspection StatementWithEmptyBody
+                while (inputStream.read(buffer) != -1) ;
+            }
+            return clock.currentTimeMillis() - start;
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
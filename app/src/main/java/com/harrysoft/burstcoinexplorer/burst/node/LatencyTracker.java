@@ -0,0 +1,41 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent request latencies in a ring buffer so that percentiles follow the current network conditions.
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int next = 0;
+    private int count = 0;
+
+    public LatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long latency) {
+        samples[next] = latency;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    public synchronized int getSampleCount() {
+        return count;
+    }
+
+    /**
+     * @param percentile Between 0 and 100
+     * @return The latency below which {@code percentile}% of the recent samples fall, or -1 if nothing has been recorded yet.
+     */
+    public synchronized long getPercentile(double percentile) {
+        if (count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+}
@@ -0,0 +1,23 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Node API calls that the Burst service does not expose.
+ */
+public interface NodeApi {
+    /**
+     * @return The IDs of the account's transactions from {@code firstIndex} to {@code lastIndex} inclusive, newest
+     * first, as unsigned decimal strings. Fewer than asked for means the end of the account's history.
+     * @throws IOException If the node could not be reached or did not answer properly
+     */
+    List<String> getAccountTransactionIDs(String address, String accountID, int firstIndex, int lastIndex) throws IOException;
+
+    /**
+     * Makes any request, decoding the response with {@code parser} while it is still downloading.
+     * @param query The query string without the leading '?', eg. "requestType=getBlocks&firstIndex=0&lastIndex=99"
+     * @throws IOException If the node could not be reached or did not answer properly
+     */
+    <T> T request(String address, String query, ResponseParser<T> parser) throws IOException;
+}
@@ -0,0 +1,57 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters describing how node calls have been served.
+ */
+public class NodeMetrics {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failovers = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    public void recordRequest() {
+        requests.incrementAndGet();
+    }
+
+    public void recordFailover() {
+        failovers.incrementAndGet();
+    }
+
+    public void recordHedge() {
+        hedges.incrementAndGet();
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getFailovers() {
+        return failovers.get();
+    }
+
+    /**
+     * @return How many times a second request was sent because the first was too slow
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * @return How many hedged requests answered before the request they backed up
+     */
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    @Override
+    public String toString() {
+        return "NodeMetrics{requests=" + getRequests() + ", failovers=" + getFailovers() + ", hedges=" + getHedges() + ", hedgeWins=" + getHedgeWins() + "}";
+    }
+}
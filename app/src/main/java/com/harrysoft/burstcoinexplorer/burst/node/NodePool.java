@@ -0,0 +1,173 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks a moving average of the latency and error rate of each known node, and ranks the nodes for calls. The node
+ * configured in the settings is always tried first, and the fallback nodes are only used when it fails, healthiest
+ * first. Fallbacks are only used when the configured node is one of them, so that a user who picked a private or test
+ * network node is never served data from a public node. Nodes that keep failing are rested for a while before they
+ * are tried again.
+ */
+public class NodePool {
+
+    static final double SMOOTHING = 0.3;
+    static final long INITIAL_LATENCY = 1000;
+    static final long ERROR_PENALTY = 5000;
+    static final int FAILURES_BEFORE_REST = 3;
+    static final long REST_DURATION = 30 * 1000;
+
+    private final Clock clock;
+    private final List<String> fallbackNodes;
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+    private String configuredNode;
+    private long lastProbe = Long.MIN_VALUE;
+
+    /**
+     * @param fallbackNodes The public nodes to fall back on, in order of preference for ties
+     */
+    public NodePool(String configuredNode, List<String> fallbackNodes, Clock clock) {
+        this.clock = clock;
+        this.fallbackNodes = new ArrayList<>(fallbackNodes);
+        setConfiguredNode(configuredNode);
+    }
+
+    /**
+     * Replaces the configured node, for when the user changes the node address in the settings.
+     */
+    public synchronized void setConfiguredNode(String address) {
+        configuredNode = address;
+        List<String> addresses = new ArrayList<>();
+        addresses.add(address);
+        if (fallbackNodes.contains(address)) {
+            addresses.addAll(fallbackNodes);
+        }
+        // Keep what is known about nodes that are still in use, forget the rest
+        nodes.keySet().retainAll(addresses);
+        for (String node : addresses) {
+            if (!nodes.containsKey(node)) {
+                nodes.put(node, new Node(node));
+            }
+        }
+    }
+
+    public synchronized String getConfiguredNode() {
+        return configuredNode;
+    }
+
+    /**
+     * @return The node to call first
+     */
+    public String select() {
+        return rank().get(0);
+    }
+
+    /**
+     * @return Every node in use, the configured node first unless it is resting and the fallbacks healthiest first.
+     * Resting nodes come last so that they are only used when nothing else is left.
+     */
+    public synchronized List<String> rank() {
+        long now = clock.currentTimeMillis();
+        List<Node> ranked = new ArrayList<>(nodes.values());
+        Collections.sort(ranked, (a, b) -> {
+            boolean aResting = a.isResting(now), bResting = b.isResting(now);
+            if (aResting != bResting) return aResting ? 1 : -1;
+            if (aResting) return Long.compare(a.restingUntil, b.restingUntil);
+            boolean aConfigured = a.address.equals(configuredNode), bConfigured = b.address.equals(configuredNode);
+            if (aConfigured != bConfigured) return aConfigured ? -1 : 1;
+            return Double.compare(a.score(), b.score()); // Stable, so ties keep the configured order
+        });
+        List<String> addresses = new ArrayList<>(ranked.size());
+        for (Node node : ranked) {
+            addresses.add(node.address);
+        }
+        return addresses;
+    }
+
+    public synchronized void recordSuccess(String address, long latency) {
+        Node node = nodes.get(address);
+        if (node != null) {
+            node.latency = node.latency + SMOOTHING * (latency - node.latency);
+            node.errorRate = node.errorRate * (1 - SMOOTHING);
+            node.consecutiveFailures = 0;
+            node.restingUntil = Long.MIN_VALUE;
+        }
+    }
+
+    public synchronized void recordFailure(String address) {
+        Node node = nodes.get(address);
+        if (node != null) {
+            node.errorRate = node.errorRate + SMOOTHING * (1 - node.errorRate);
+            if (++node.consecutiveFailures >= FAILURES_BEFORE_REST) {
+                node.restingUntil = clock.currentTimeMillis() + REST_DURATION;
+            }
+        }
+    }
+
+    /**
+     * Measures every node with the prober. This blocks, so it must not be called on the main thread.
+     */
+    public void probeAll(NodeProber prober) {
+        List<String> addresses;
+        synchronized (this) {
+            addresses = new ArrayList<>(nodes.keySet());
+        }
+        for (String address : addresses) {
+            try {
+                recordSuccess(address, prober.probe(address));
+            } catch (IOException e) {
+                recordFailure(address);
+            }
+        }
+    }
+
+    /**
+     * @return Whether a probe is due. If it is, the caller is expected to run it, and no one else is asked to until the interval has passed again.
+     */
+    public synchronized boolean claimProbe(long interval) {
+        long now = clock.currentTimeMillis();
+        if (lastProbe != Long.MIN_VALUE && now - lastProbe < interval) {
+            return false;
+        }
+        lastProbe = now;
+        return true;
+    }
+
+    public synchronized long getLatency(String address) {
+        Node node = nodes.get(address);
+        return node == null ? -1 : Math.round(node.latency);
+    }
+
+    public synchronized double getErrorRate(String address) {
+        Node node = nodes.get(address);
+        return node == null ? -1 : node.errorRate;
+    }
+
+    private static class Node {
+        private final String address;
+        private double latency = INITIAL_LATENCY;
+        private double errorRate = 0;
+        private int consecutiveFailures = 0;
+        private long restingUntil = Long.MIN_VALUE;
+
+        private Node(String address) {
+            this.address = address;
+        }
+
+        private double score() {
+            return latency + errorRate * ERROR_PENALTY;
+        }
+
+        private boolean isResting(long now) {
+            return restingUntil > now;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import java.io.IOException;
+
+public interface NodeProber {
+    /**
+     * @return The round trip time to the node in milliseconds
+     * @throws IOException If the node could not be reached or did not answer properly
+     */
+    long probe(String address) throws IOException;
+}
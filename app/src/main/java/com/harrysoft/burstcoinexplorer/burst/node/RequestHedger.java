@@ -0,0 +1,69 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+
+/**
+ * Sends a backup request if the primary one has not answered within the recent p95 latency of the same endpoint, so
+ * that a slow kind of request does not set off backups for the fast ones. Whichever answers first wins and the other is
+ * cancelled. Only use this for reads, which are safe to repeat.
+ */
+public class RequestHedger {
+
+    static final double HEDGE_PERCENTILE = 95;
+    static final int MIN_SAMPLES = 20;
+    static final long DEFAULT_DELAY = 1000;
+    static final long MIN_DELAY = 50;
+
+    private final int latencySamples;
+    private final NodeMetrics metrics;
+    private final Scheduler scheduler;
+    private final Map<String, LatencyTracker> latencyTrackers = new HashMap<>();
+
+    /**
+     * @param latencySamples How many of the most recent latencies to keep for each endpoint
+     */
+    public RequestHedger(int latencySamples, NodeMetrics metrics, Scheduler scheduler) {
+        this.latencySamples = latencySamples;
+        this.metrics = metrics;
+        this.scheduler = scheduler;
+    }
+
+    public void recordLatency(String endpoint, long latency) {
+        getLatencyTracker(endpoint).record(latency);
+    }
+
+    public long getHedgeDelay(String endpoint) {
+        LatencyTracker latencyTracker = getLatencyTracker(endpoint);
+        if (latencyTracker.getSampleCount() < MIN_SAMPLES) {
+            return DEFAULT_DELAY;
+        }
+        return Math.max(MIN_DELAY, latencyTracker.getPercentile(HEDGE_PERCENTILE));
+    }
+
+    public <T> Single<T> hedge(String endpoint, Single<T> primary, Single<T> backup) {
+        return Single.defer(() -> {
+            Single<T> hedged = Single.timer(getHedgeDelay(endpoint), TimeUnit.MILLISECONDS, scheduler)
+                    .doOnSuccess(tick -> metrics.recordHedge())
+                    .flatMap(tick -> backup)
+                    .doOnSuccess(result -> metrics.recordHedgeWin())
+                    .onErrorResumeNext(Single.never()); // A failed backup must not beat a primary that may still succeed
+            return Single.ambArray(primary, hedged);
+        });
+    }
+
+    private LatencyTracker getLatencyTracker(String endpoint) {
+        synchronized (latencyTrackers) {
+            LatencyTracker latencyTracker = latencyTrackers.get(endpoint);
+            if (latencyTracker == null) {
+                latencyTracker = new LatencyTracker(latencySamples);
+                latencyTrackers.put(endpoint, latencyTracker);
+            }
+            return latencyTracker;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.harrysoft.burstcoinexplorer.burst.node;
+
+import android.util.JsonReader;
+
+import java.io.IOException;
+
+/**
+ * Decodes a node response as it is downloaded, so that the whole body never has to be held as a String.
+ */
+public interface ResponseParser<T> {
+    /**
+     * @param reader Positioned before the top level value of the response
+     * @throws IOException If the response could not be read
+     * @throws IllegalStateException If the node answered with an error
+     */
+    T parse(JsonReader reader) throws IOException;
+}
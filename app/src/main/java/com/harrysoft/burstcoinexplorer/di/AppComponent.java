@@ -13,6 +13,7 @@ import dagger.android.support.AndroidSupportInjectionModule;
         AndroidSupportInjectionModule.class,
         ActivitiesModule.class,
         FragmentsModule.class,
+        ServicesModule.class,
         ToolsModule.class,
         RepositoriesModule.class,
         BurstKitModule.class,
@@ -1,7 +1,25 @@
 package com.harrysoft.burstcoinexplorer.di;
 
+import android.content.Context;
+import android.support.v7.preference.PreferenceManager;
+
 import com.harry1453.burst.explorer.repository.ConfigRepository;
+import com.harrysoft.burstcoinexplorer.R;
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+import com.harrysoft.burstcoinexplorer.burst.node.HttpNodeApi;
+import com.harrysoft.burstcoinexplorer.burst.node.HttpNodeProber;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeApi;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeMetrics;
+import com.harrysoft.burstcoinexplorer.burst.node.NodePool;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeProber;
 import com.harrysoft.burstcoinexplorer.main.service.AndroidSchedulerAssigner;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestScheduler;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HostRateLimiter;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import java.util.Arrays;
 
 import javax.inject.Singleton;
 
@@ -12,10 +30,41 @@ import dagger.Provides;
 
 @Module
 public class BurstKitModule {
+    private static final int PROBE_TIMEOUT = 5000;
+    private static final int REQUEST_TIMEOUT = 15000;
+    // Each attempt already fails over between nodes, so one retry after a backoff is enough
+    private static final int NODE_CALL_ATTEMPTS = 2;
+
+    @Singleton
+    @Provides
+    public NodePool provideNodePool(Context context, ConfigRepository configRepository) {
+        return new NodePool(configRepository.getNodeAddress(), Arrays.asList(context.getResources().getStringArray(R.array.node_addresses)), Clock.SYSTEM);
+    }
+
+    @Singleton
+    @Provides
+    public NodeProber provideNodeProber() {
+        return new HttpNodeProber(PROBE_TIMEOUT, Clock.SYSTEM);
+    }
+
+    @Singleton
+    @Provides
+    public NodeMetrics provideNodeMetrics() {
+        return new NodeMetrics();
+    }
+
+    @Singleton
+    @Provides
+    public NodeApi provideNodeApi() {
+        return new HttpNodeApi(REQUEST_TIMEOUT);
+    }
+
     @Singleton
     @Provides
-    public BurstNodeService provideBurstNodeService(ConfigRepository configRepository) { // TODO address switching
-        return BurstNodeService.getInstance(configRepository.getNodeAddress(), new AndroidSchedulerAssigner());
+    public BurstNodeClient provideBurstNodeClient(Context context, NodePool nodePool, NodeProber nodeProber, NodeApi nodeApi, NodeMetrics nodeMetrics, CircuitBreakerRegistry circuitBreakers, RequestScheduler scheduler, HostRateLimiter rateLimiter) {
+        // On unless turned off in the settings
+        boolean hedgeRequests = PreferenceManager.getDefaultSharedPreferences(context).getBoolean(context.getString(R.string.hedge_requests_key), true);
+        return new BurstNodeClient(nodePool, nodeProber, address -> BurstNodeService.getInstance(address, new AndroidSchedulerAssigner()), nodeApi, Clock.SYSTEM, nodeMetrics, hedgeRequests, circuitBreakers, RetryPolicy.withMaxAttempts(NODE_CALL_ATTEMPTS), scheduler, rateLimiter);
     }
 
     @Singleton
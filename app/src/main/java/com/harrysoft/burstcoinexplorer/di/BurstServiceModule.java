@@ -11,18 +11,72 @@ import com.harry1453.burst.explorer.service.BurstServiceProviders;
 import com.harry1453.burst.explorer.service.NetworkService;
 import com.harry1453.burst.explorer.service.ObjectService;
 import com.harrysoft.burstcoinexplorer.main.service.AndroidNetworkService;
+import com.harrysoft.burstcoinexplorer.main.service.cache.CachePolicy;
+import com.harrysoft.burstcoinexplorer.main.service.cache.ResponseCache;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestPriority;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestScheduler;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HostRateLimiter;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HttpTransport;
+import com.harrysoft.burstcoinexplorer.main.service.transport.OkHttpTransport;
+import com.harrysoft.burstcoinexplorer.main.service.transport.RateLimitProfile;
+import com.harrysoft.burstcoinexplorer.main.service.transport.RateLimitedTransport;
+import com.harrysoft.burstcoinexplorer.main.service.transport.VolleyTransport;
+import com.harrysoft.burstcoinexplorer.util.Clock;
 
 import javax.inject.Singleton;
 
 import dagger.Module;
 import dagger.Provides;
+import io.reactivex.schedulers.Schedulers;
 
 @Module
 class BurstServiceModule {
+    private static final boolean USE_OKHTTP_TRANSPORT = true;
+    private static final int TRANSPORT_THREADS = OkHttpTransport.DEFAULT_DISPATCHER_THREADS;
+
+    @Singleton
+    @Provides
+    CachePolicy provideCachePolicy() {
+        return CachePolicy.defaultPolicy();
+    }
+
+    @Singleton
+    @Provides
+    ResponseCache provideResponseCache(Context context) {
+        return AndroidNetworkService.createResponseCache(context);
+    }
+
+    @Singleton
+    @Provides
+    CircuitBreakerRegistry provideCircuitBreakerRegistry() {
+        return AndroidNetworkService.createCircuitBreakerRegistry();
+    }
+
+    @Singleton
+    @Provides
+    RequestScheduler provideRequestScheduler() {
+        return RequestScheduler.defaultScheduler();
+    }
+
+    @Singleton
+    @Provides
+    HostRateLimiter provideHostRateLimiter() {
+        return new HostRateLimiter(HostRateLimiter.defaultRules(), RateLimitProfile.UNKNOWN_HOST, Clock.SYSTEM, Schedulers.computation());
+    }
+
+    @Singleton
+    @Provides
+    HttpTransport provideHttpTransport(Context context, HostRateLimiter rateLimiter) {
+        HttpTransport transport = USE_OKHTTP_TRANSPORT ? OkHttpTransport.create(TRANSPORT_THREADS) : new VolleyTransport(context);
+        return new RateLimitedTransport(transport, rateLimiter);
+    }
+
     @Singleton
     @Provides
-    NetworkService provideNetworkService(Context context) {
-        return new AndroidNetworkService(context);
+    NetworkService provideNetworkService(HttpTransport transport, ResponseCache responseCache, CachePolicy cachePolicy, CircuitBreakerRegistry circuitBreakers, RequestScheduler scheduler) {
+        return new AndroidNetworkService(transport, responseCache, cachePolicy, circuitBreakers, RetryPolicy.defaultPolicy(), scheduler, RequestPriority.INTERACTIVE);
     }
 
     @Singleton
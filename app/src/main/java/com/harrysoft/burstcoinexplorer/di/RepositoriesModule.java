@@ -6,14 +6,33 @@ import android.content.Context;
 import com.harry1453.burst.explorer.repository.ConfigRepository;
 import com.harrysoft.burstcoinexplorer.R;
 import com.harrysoft.burstcoinexplorer.accounts.db.AccountsDatabase;
+import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccountStore;
+import com.harrysoft.burstcoinexplorer.accounts.sync.AccountWatcher;
+import com.harrysoft.burstcoinexplorer.accounts.sync.BalanceChangeNotifier;
+import com.harrysoft.burstcoinexplorer.accounts.sync.NodeAccountWatcherAdapter;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsRefresher;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsSync;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsSyncEngine;
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+import com.harrysoft.burstcoinexplorer.explore.db.AccountHistoryStore;
+import com.harrysoft.burstcoinexplorer.explore.db.BlockchainDatabase;
+import com.harrysoft.burstcoinexplorer.explore.db.BlockchainStore;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlocksParser;
+import com.harrysoft.burstcoinexplorer.explore.sync.AccountHistorySync;
+import com.harrysoft.burstcoinexplorer.explore.sync.ChainTipService;
+import com.harrysoft.burstcoinexplorer.explore.sync.RecentBlocksSync;
 import com.harrysoft.burstcoinexplorer.main.repository.AndroidClipboardRepository;
 import com.harrysoft.burstcoinexplorer.main.repository.AndroidConfigRepository;
 import com.harrysoft.burstcoinexplorer.main.repository.ClipboardRepository;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestPriority;
+import com.harrysoft.burstcoinexplorer.util.BurstValueUtils;
+import com.harrysoft.burstcoinexplorer.util.Clock;
 
 import javax.inject.Singleton;
 
 import dagger.Module;
 import dagger.Provides;
+import io.reactivex.schedulers.Schedulers;
 
 @Module
 class RepositoriesModule {
@@ -32,6 +51,66 @@ class RepositoriesModule {
     @Singleton
     @Provides
     public AccountsDatabase provideAccountsDatabase(Context context) {
-        return Room.databaseBuilder(context.getApplicationContext(), AccountsDatabase.class, context.getString(R.string.accounts_db_name)).build();
+        return Room.databaseBuilder(context.getApplicationContext(), AccountsDatabase.class, context.getString(R.string.accounts_db_name))
+                .addMigrations(AccountsDatabase.MIGRATION_1_2)
+                .build();
+    }
+
+    @Singleton
+    @Provides
+    public SavedAccountsRefresher provideSavedAccountsRefresher(BurstNodeClient burstNodeClient, AccountsDatabase accountsDatabase) {
+        BurstNodeClient backgroundClient = burstNodeClient.withPriority(RequestPriority.BACKGROUND);
+        return new SavedAccountsRefresher(address -> backgroundClient.getAccount(address)
+                .map(account -> new SavedAccountsRefresher.AccountState(BurstValueUtils.toNQT(account.getBalanceNQT()), account.getName())),
+                new SavedAccountStore(accountsDatabase), SavedAccountsRefresher.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    @Singleton
+    @Provides
+    public SavedAccountsSync provideSavedAccountsSync(Context context, SavedAccountsRefresher savedAccountsRefresher) {
+        return new SavedAccountsSyncEngine(savedAccountsRefresher, new BalanceChangeNotifier(context), Clock.SYSTEM, SavedAccountsSyncEngine.DEFAULT_MIN_INTERVAL);
+    }
+
+    @Singleton
+    @Provides
+    public AccountWatcher provideAccountWatcher(BurstNodeClient burstNodeClient, SavedAccountsRefresher savedAccountsRefresher) {
+        NodeAccountWatcherAdapter adapter = new NodeAccountWatcherAdapter(burstNodeClient, savedAccountsRefresher);
+        return new AccountWatcher(adapter, adapter, AccountWatcher.DEFAULT_MAX_BLOCKS);
+    }
+
+    @Singleton
+    @Provides
+    public BlockchainDatabase provideBlockchainDatabase(Context context) {
+        // Only a cache of what the node returns, so it can be rebuilt rather than migrated
+        return Room.databaseBuilder(context.getApplicationContext(), BlockchainDatabase.class, context.getString(R.string.blockchain_db_name)).fallbackToDestructiveMigration().build();
+    }
+
+    @Singleton
+    @Provides
+    public BlockchainStore provideBlockchainStore(BlockchainDatabase blockchainDatabase) {
+        return new BlockchainStore(blockchainDatabase);
+    }
+
+    @Singleton
+    @Provides
+    public RecentBlocksSync provideRecentBlocksSync(BurstNodeClient burstNodeClient, BlockchainStore blockchainStore) {
+        StoredBlocksParser parser = new StoredBlocksParser();
+        // Polled rather than asked for, but what it finds is shown straight away
+        BurstNodeClient prefetchClient = burstNodeClient.withPriority(RequestPriority.PREFETCH);
+        return new RecentBlocksSync((firstIndex, lastIndex) -> prefetchClient.request("requestType=getBlocks&firstIndex=" + firstIndex + "&lastIndex=" + lastIndex, parser),
+                blockchainStore::loadRecentBlocks, RecentBlocksSync.DEFAULT_CAPACITY, RecentBlocksSync.DEFAULT_TIP_WINDOW);
+    }
+
+    @Singleton
+    @Provides
+    public ChainTipService provideChainTipService(RecentBlocksSync recentBlocksSync, BlockchainStore blockchainStore) {
+        return new ChainTipService(recentBlocksSync, blockchainStore, Clock.SYSTEM, Schedulers.computation());
+    }
+
+    @Singleton
+    @Provides
+    public AccountHistorySync provideAccountHistorySync(BurstNodeClient burstNodeClient, BlockchainDatabase blockchainDatabase) {
+        return new AccountHistorySync((accountId, firstIndex, lastIndex) -> burstNodeClient.getAccountTransactionIDs(accountId, firstIndex, lastIndex).blockingGet(),
+                new AccountHistoryStore(blockchainDatabase), Clock.SYSTEM, AccountHistorySync.DEFAULT_MIN_SYNC_INTERVAL);
     }
 }
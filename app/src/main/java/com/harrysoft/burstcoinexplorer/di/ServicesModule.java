@@ -0,0 +1,12 @@
+package com.harrysoft.burstcoinexplorer.di;
+
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsSyncJobService;
+
+import dagger.Module;
+import dagger.android.ContributesAndroidInjector;
+
+@Module
+interface ServicesModule {
+    @ContributesAndroidInjector
+    SavedAccountsSyncJobService bindSavedAccountsSyncJobService();
+}
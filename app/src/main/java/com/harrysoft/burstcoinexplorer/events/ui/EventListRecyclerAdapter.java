@@ -17,6 +17,7 @@ import com.harry1453.burst.explorer.entity.EventInfo;
 import com.harrysoft.burstcoinexplorer.R;
 import com.harrysoft.burstcoinexplorer.events.entity.EventsList;
 import com.harrysoft.burstcoinexplorer.events.util.EventUtils;
+import com.harrysoft.burstcoinexplorer.main.ui.BackgroundDiffer;
 
 import java.util.Objects;
 
@@ -24,7 +25,7 @@ class EventListRecyclerAdapter extends RecyclerView.Adapter<EventListRecyclerAda
 
     private final Context context;
 
-    private EventsList eventsList = EventsList.EMPTY;
+    private final BackgroundDiffer<EventsList> differ = new BackgroundDiffer<>(this, EventsList.EMPTY, EventListRecyclerAdapter::diffCallback);
 
     EventListRecyclerAdapter(Context context) {
         this.context = context;
@@ -38,51 +39,48 @@ class EventListRecyclerAdapter extends RecyclerView.Adapter<EventListRecyclerAda
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        holder.setupView(eventsList.events.get(position));
+        holder.setupView(differ.getData().events.get(position));
     }
 
     @Override
     public int getItemCount() {
-        return eventsList.events.size();
+        return differ.getData().events.size();
     }
 
     void updateData(EventsList newEventsList) {
-        if (eventsList == null) {
-            eventsList = newEventsList;
-            notifyDataSetChanged();
-        } else {
-            DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
-                @Override
-                public int getOldListSize() {
-                    return eventsList.events.size();
-                }
-
-                @Override
-                public int getNewListSize() {
-                    return newEventsList.events.size();
-                }
-
-                @Override
-                public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-                    return Objects.equals(eventsList.events.get(oldItemPosition).name, newEventsList.events.get(newItemPosition).name)
-                            && Objects.equals(eventsList.blockHeight, newEventsList.blockHeight);
-                }
+        differ.submit(newEventsList);
+    }
 
-                @Override
-                public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-                    EventInfo newEvent = newEventsList.events.get(newItemPosition);
-                    EventInfo oldEvent = eventsList.events.get(oldItemPosition);
-                    return Objects.equals(newEvent.name, oldEvent.name)
-                            && Objects.equals(newEvent.infoPage, oldEvent.infoPage)
-                            && Objects.equals(newEvent.infoPageSet, oldEvent.infoPageSet)
-                            && Objects.equals(newEvent.blockHeight, oldEvent.blockHeight)
-                            && Objects.equals(newEvent.blockHeightSet, oldEvent.blockHeightSet)
-                            && Objects.equals(newEventsList.blockHeight, eventsList.blockHeight);
-                }
-            });
-            eventsList = newEventsList;
-            result.dispatchUpdatesTo(this);
-        }
+    private static DiffUtil.Callback diffCallback(EventsList oldEventsList, EventsList newEventsList) {
+        return new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldEventsList.events.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newEventsList.events.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return Objects.equals(oldEventsList.events.get(oldItemPosition).name, newEventsList.events.get(newItemPosition).name)
+                        && Objects.equals(oldEventsList.blockHeight, newEventsList.blockHeight);
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                EventInfo newEvent = newEventsList.events.get(newItemPosition);
+                EventInfo oldEvent = oldEventsList.events.get(oldItemPosition);
+                return Objects.equals(newEvent.name, oldEvent.name)
+                        && Objects.equals(newEvent.infoPage, oldEvent.infoPage)
+                        && Objects.equals(newEvent.infoPageSet, oldEvent.infoPageSet)
+                        && Objects.equals(newEvent.blockHeight, oldEvent.blockHeight)
+                        && Objects.equals(newEvent.blockHeightSet, oldEvent.blockHeightSet)
+                        && Objects.equals(newEventsList.blockHeight, oldEventsList.blockHeight);
+            }
+        };
     }
 
     class ViewHolder extends RecyclerView.ViewHolder {
@@ -101,7 +99,7 @@ class EventListRecyclerAdapter extends RecyclerView.Adapter<EventListRecyclerAda
 
         void setupView(EventInfo eventInfo) {
             text1.setText(context.getString(R.string.basic_data, eventInfo.name));
-            text2.setText(eventInfo.blockHeightSet ? EventUtils.formatEventInfo(context, eventsList.blockHeight, eventInfo.name, eventInfo.blockHeight) : context.getString(R.string.event_height_not_set));
+            text2.setText(eventInfo.blockHeightSet ? EventUtils.formatEventInfo(context, differ.getData().blockHeight, eventInfo.name, eventInfo.blockHeight) : context.getString(R.string.event_height_not_set));
             layout.setOnClickListener(view -> {
                 if (eventInfo.infoPageSet) {
                     Intent i = new Intent(Intent.ACTION_VIEW);
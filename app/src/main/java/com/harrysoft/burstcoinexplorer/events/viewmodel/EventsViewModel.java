@@ -2,16 +2,17 @@ package com.harrysoft.burstcoinexplorer.events.viewmodel;
 
 import android.arch.lifecycle.LiveData;
 import android.arch.lifecycle.MutableLiveData;
+import android.arch.lifecycle.Observer;
 import android.arch.lifecycle.ViewModel;
 import android.support.annotation.Nullable;
 import android.support.v4.widget.SwipeRefreshLayout;
 import android.view.View;
 
-import com.harry1453.burst.explorer.entity.Block;
 import com.harry1453.burst.explorer.entity.EventInfo;
-import com.harry1453.burst.explorer.service.BurstBlockchainService;
 import com.harry1453.burst.explorer.service.BurstInfoService;
 import com.harrysoft.burstcoinexplorer.events.entity.EventsList;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+import com.harrysoft.burstcoinexplorer.explore.sync.ChainTipService;
 
 import java.util.List;
 
@@ -21,9 +22,10 @@ import io.reactivex.schedulers.Schedulers;
 
 public class EventsViewModel extends ViewModel implements SwipeRefreshLayout.OnRefreshListener {
 
-    private final BurstBlockchainService burstBlockchainService;
+    private final ChainTipService chainTipService;
     private final BurstInfoService burstInfoService;
     private final CompositeDisposable compositeDisposable = new CompositeDisposable();
+    private final Observer<StoredBlock> chainTipObserver = this::onChainTip;
 
     private final MutableLiveData<EventsList> eventsList = new MutableLiveData<>();
     private final MutableLiveData<Integer> errorMessageVisibility = new MutableLiveData<>();
@@ -34,18 +36,22 @@ public class EventsViewModel extends ViewModel implements SwipeRefreshLayout.OnR
     @Nullable
     private List<EventInfo> eventInfoList;
 
-    EventsViewModel(BurstBlockchainService burstBlockchainService, BurstInfoService burstInfoService) {
-        this.burstBlockchainService = burstBlockchainService;
+    EventsViewModel(ChainTipService chainTipService, BurstInfoService burstInfoService) {
+        this.chainTipService = chainTipService;
         this.burstInfoService = burstInfoService;
 
+        chainTipService.getChainTip().observeForever(chainTipObserver);
+
         // Update immediately
         refreshing.postValue(true);
         onRefresh();
     }
 
-    private void onRecentBlocks(List<Block> recentBlocks) {
-        blockHeight = recentBlocks.get(0).blockNumber;
-        updateEventsList();
+    private void onChainTip(@Nullable StoredBlock tip) {
+        if (tip != null) {
+            blockHeight = tip.getHeight();
+            updateEventsList();
+        }
     }
 
     private void onEventInfoList(List<EventInfo> newEventInfoList) {
@@ -57,10 +63,10 @@ public class EventsViewModel extends ViewModel implements SwipeRefreshLayout.OnR
 
     @Override
     public void onRefresh() {
-        compositeDisposable.add(burstBlockchainService.fetchRecentBlocks()
+        compositeDisposable.add(chainTipService.refresh()
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
-                .subscribe(this::onRecentBlocks, t -> onError()));
+                .subscribe(() -> {}, t -> onError()));
         compositeDisposable.add(burstInfoService.getEvents()
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
@@ -85,6 +91,7 @@ public class EventsViewModel extends ViewModel implements SwipeRefreshLayout.OnR
 
     @Override
     protected void onCleared() {
+        chainTipService.getChainTip().removeObserver(chainTipObserver);
         compositeDisposable.dispose();
     }
 
@@ -4,19 +4,19 @@ import android.arch.lifecycle.ViewModel;
 import android.arch.lifecycle.ViewModelProvider;
 import android.support.annotation.NonNull;
 
-import com.harry1453.burst.explorer.service.BurstBlockchainService;
 import com.harry1453.burst.explorer.service.BurstInfoService;
+import com.harrysoft.burstcoinexplorer.explore.sync.ChainTipService;
 
 import javax.inject.Inject;
 
 public class EventsViewModelFactory implements ViewModelProvider.Factory {
 
-    private final BurstBlockchainService burstBlockchainService;
+    private final ChainTipService chainTipService;
     private final BurstInfoService burstInfoService;
 
     @Inject
-    EventsViewModelFactory(BurstBlockchainService burstBlockchainService, BurstInfoService burstInfoService) {
-        this.burstBlockchainService = burstBlockchainService;
+    EventsViewModelFactory(ChainTipService chainTipService, BurstInfoService burstInfoService) {
+        this.chainTipService = chainTipService;
         this.burstInfoService = burstInfoService;
     }
 
@@ -24,6 +24,6 @@ public class EventsViewModelFactory implements ViewModelProvider.Factory {
     @NonNull
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
-        return (T) new EventsViewModel(burstBlockchainService, burstInfoService);
+        return (T) new EventsViewModel(chainTipService, burstInfoService);
     }
 }
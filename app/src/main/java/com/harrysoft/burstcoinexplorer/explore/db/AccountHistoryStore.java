@@ -0,0 +1,76 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import com.harrysoft.burstcoinexplorer.explore.sync.AccountHistorySync;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Room backed {@link AccountHistorySync.LocalHistory}. Blocking, for use off the main thread.
+ */
+public class AccountHistoryStore implements AccountHistorySync.LocalHistory {
+
+    private final BlockchainDatabase database;
+
+    public AccountHistoryStore(BlockchainDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public AccountSyncRecord getRecord(long accountId) {
+        return database.blockchainDao().findSyncRecord(accountId);
+    }
+
+    @Override
+    public List<Long> getTransactionIDs(long accountId, int offset, int count) {
+        return database.blockchainDao().findAccountTransactionIDs(accountId, offset, count);
+    }
+
+    @Override
+    public void update(AccountSyncRecord record, List<Long> removed, List<Long> newer, List<Long> older) {
+        BlockchainDao dao = database.blockchainDao();
+        long accountId = record.getAccountId();
+        database.runInTransaction(() -> {
+            if (!removed.isEmpty()) {
+                dao.deleteAccountTransactions(accountId, removed);
+            }
+            if (!newer.isEmpty()) {
+                Long max = dao.getMaxAccountSequence(accountId);
+                long sequence = (max == null ? 0 : max) + newer.size();
+                List<AccountTransaction> rows = new ArrayList<>(newer.size());
+                for (long transactionId : newer) {
+                    rows.add(AccountTransaction.create(accountId, transactionId, sequence--));
+                }
+                dao.insertAccountTransactions(rows);
+            }
+            if (!older.isEmpty()) {
+                Long min = dao.getMinAccountSequence(accountId);
+                long sequence = min == null ? 0 : min - 1;
+                List<AccountTransaction> rows = new ArrayList<>(older.size());
+                for (long transactionId : older) {
+                    rows.add(AccountTransaction.create(accountId, transactionId, sequence--));
+                }
+                dao.insertAccountTransactions(rows);
+            }
+            record.setTransactionCount(dao.countAccountTransactions(accountId));
+            dao.insertSyncRecord(record);
+        });
+    }
+
+    @Override
+    public void replace(AccountSyncRecord record, List<Long> transactionIDs) {
+        BlockchainDao dao = database.blockchainDao();
+        long accountId = record.getAccountId();
+        database.runInTransaction(() -> {
+            dao.deleteAllAccountTransactions(accountId);
+            long sequence = 0;
+            List<AccountTransaction> rows = new ArrayList<>(transactionIDs.size());
+            for (long transactionId : transactionIDs) {
+                rows.add(AccountTransaction.create(accountId, transactionId, sequence--));
+            }
+            dao.insertAccountTransactions(rows);
+            record.setTransactionCount(dao.countAccountTransactions(accountId));
+            dao.insertSyncRecord(record);
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import android.arch.persistence.room.ColumnInfo;
+import android.arch.persistence.room.Entity;
+import android.arch.persistence.room.PrimaryKey;
+
+/**
+ * How much of an account's transaction history is held locally. The newest transaction seen is the high-water mark
+ * that the next sync only has to fetch above.
+ */
+@Entity
+public class AccountSyncRecord {
+    public static final long NO_TRANSACTION = 0;
+
+    @PrimaryKey
+    @ColumnInfo(name = "accountId")
+    private long accountId;
+
+    @ColumnInfo(name = "lastTransactionId")
+    private long lastTransactionId = NO_TRANSACTION;
+
+    @ColumnInfo(name = "lastSyncedAt")
+    private long lastSyncedAt;
+
+    @ColumnInfo(name = "transactionCount")
+    private int transactionCount;
+
+    /**
+     * Whether the oldest transaction of the account is held, so there is nothing further back to fetch
+     */
+    @ColumnInfo(name = "complete")
+    private boolean complete;
+
+    public static AccountSyncRecord create(long accountId) {
+        AccountSyncRecord record = new AccountSyncRecord();
+        record.setAccountId(accountId);
+        return record;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    public long getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public void setLastTransactionId(long lastTransactionId) {
+        this.lastTransactionId = lastTransactionId;
+    }
+
+    public long getLastSyncedAt() {
+        return lastSyncedAt;
+    }
+
+    public void setLastSyncedAt(long lastSyncedAt) {
+        this.lastSyncedAt = lastSyncedAt;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(int transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+}
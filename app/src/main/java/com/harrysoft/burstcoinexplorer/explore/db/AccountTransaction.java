@@ -0,0 +1,54 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import android.arch.persistence.room.ColumnInfo;
+import android.arch.persistence.room.Entity;
+import android.arch.persistence.room.Index;
+
+/**
+ * One entry in an account's locally held transaction history. Entries are ordered by {@code sequence}, highest being
+ * the newest, so that newer transactions can be added above and older ones below without renumbering.
+ */
+@Entity(primaryKeys = {"accountId", "transactionId"}, indices = {@Index({"accountId", "sequence"})})
+public class AccountTransaction {
+
+    @ColumnInfo(name = "accountId")
+    private long accountId;
+
+    @ColumnInfo(name = "transactionId")
+    private long transactionId;
+
+    @ColumnInfo(name = "sequence")
+    private long sequence;
+
+    public static AccountTransaction create(long accountId, long transactionId, long sequence) {
+        AccountTransaction accountTransaction = new AccountTransaction();
+        accountTransaction.setAccountId(accountId);
+        accountTransaction.setTransactionId(transactionId);
+        accountTransaction.setSequence(sequence);
+        return accountTransaction;
+    }
+
+    public long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(long accountId) {
+        this.accountId = accountId;
+    }
+
+    public long getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(long transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
@@ -0,0 +1,60 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import android.arch.lifecycle.LiveData;
+import android.arch.persistence.room.Dao;
+import android.arch.persistence.room.Insert;
+import android.arch.persistence.room.OnConflictStrategy;
+import android.arch.persistence.room.Query;
+
+import java.util.List;
+
+@Dao
+public interface BlockchainDao {
+    @Query("SELECT * FROM StoredBlock ORDER BY height DESC LIMIT (:count)")
+    LiveData<List<StoredBlock>> getRecentBlocks(int count);
+
+    @Query("SELECT * FROM StoredBlock ORDER BY height DESC LIMIT (:count)")
+    List<StoredBlock> loadRecentBlocks(int count);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertBlocks(List<StoredBlock> blocks);
+
+    @Query("DELETE FROM StoredBlock WHERE height > (:height)")
+    void deleteBlocksAbove(long height);
+
+    /**
+     * Only keeps the {@code count} highest blocks
+     */
+    @Query("DELETE FROM StoredBlock WHERE height <= (SELECT MAX(height) FROM StoredBlock) - (:count)")
+    void trimBlocks(int count);
+
+    @Query("SELECT * FROM AccountSyncRecord WHERE accountId = (:accountId)")
+    AccountSyncRecord findSyncRecord(long accountId);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertSyncRecord(AccountSyncRecord record);
+
+    /**
+     * @return The account's transaction IDs, newest first
+     */
+    @Query("SELECT transactionId FROM AccountTransaction WHERE accountId = (:accountId) ORDER BY sequence DESC LIMIT (:count) OFFSET (:offset)")
+    List<Long> findAccountTransactionIDs(long accountId, int offset, int count);
+
+    @Query("SELECT COUNT(*) FROM AccountTransaction WHERE accountId = (:accountId)")
+    int countAccountTransactions(long accountId);
+
+    @Query("SELECT MAX(sequence) FROM AccountTransaction WHERE accountId = (:accountId)")
+    Long getMaxAccountSequence(long accountId);
+
+    @Query("SELECT MIN(sequence) FROM AccountTransaction WHERE accountId = (:accountId)")
+    Long getMinAccountSequence(long accountId);
+
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void insertAccountTransactions(List<AccountTransaction> accountTransactions);
+
+    @Query("DELETE FROM AccountTransaction WHERE accountId = (:accountId) AND transactionId IN (:transactionIds)")
+    void deleteAccountTransactions(long accountId, List<Long> transactionIds);
+
+    @Query("DELETE FROM AccountTransaction WHERE accountId = (:accountId)")
+    void deleteAllAccountTransactions(long accountId);
+}
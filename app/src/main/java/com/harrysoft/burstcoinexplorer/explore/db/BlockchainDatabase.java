@@ -0,0 +1,9 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import android.arch.persistence.room.Database;
+import android.arch.persistence.room.RoomDatabase;
+
+@Database(entities = {StoredBlock.class, AccountSyncRecord.class, AccountTransaction.class}, version = 4, exportSchema = false)
+public abstract class BlockchainDatabase extends RoomDatabase {
+    public abstract BlockchainDao blockchainDao();
+}
@@ -0,0 +1,47 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import android.arch.lifecycle.LiveData;
+
+import java.util.List;
+
+import io.reactivex.Completable;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Local copy of the blocks that have been seen, so that screens can show them before the node answers.
+ */
+public class BlockchainStore {
+
+    public static final int RECENT_BLOCKS = 100;
+    private static final int MAX_BLOCKS = 1000;
+
+    private final BlockchainDatabase database;
+
+    public BlockchainStore(BlockchainDatabase database) {
+        this.database = database;
+    }
+
+    public LiveData<List<StoredBlock>> getRecentBlocks() {
+        return database.blockchainDao().getRecentBlocks(RECENT_BLOCKS);
+    }
+
+    /**
+     * Blocking, for use off the main thread
+     */
+    public List<StoredBlock> loadRecentBlocks() {
+        return database.blockchainDao().loadRecentBlocks(RECENT_BLOCKS);
+    }
+
+    /**
+     * @param orphanedAbove Blocks above this height are deleted first, or -1 to keep them
+     */
+    public Completable saveStoredBlocks(List<StoredBlock> blocks, long orphanedAbove) {
+        return Completable.fromAction(() -> database.runInTransaction(() -> {
+            if (orphanedAbove >= 0) {
+                database.blockchainDao().deleteBlocksAbove(orphanedAbove);
+            }
+            database.blockchainDao().insertBlocks(blocks);
+            database.blockchainDao().trimBlocks(MAX_BLOCKS);
+        })).subscribeOn(Schedulers.io());
+    }
+}
@@ -0,0 +1,119 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import android.arch.persistence.room.ColumnInfo;
+import android.arch.persistence.room.Entity;
+import android.arch.persistence.room.Index;
+import android.arch.persistence.room.PrimaryKey;
+
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+import com.harrysoft.burstcoinexplorer.util.BurstValueUtils;
+
+import burst.kit.entity.response.BlockResponse;
+
+/**
+ * A block header that has been seen. IDs are unsigned 64-bit numbers stored in a signed long, see {@link BurstIDUtils}.
+ */
+@Entity(indices = {@Index(value = "height", unique = true)})
+public class StoredBlock {
+    @PrimaryKey
+    @ColumnInfo(name = "blockId")
+    private long blockId;
+
+    @ColumnInfo(name = "height")
+    private long height;
+
+    @ColumnInfo(name = "timestamp")
+    private long timestamp;
+
+    @ColumnInfo(name = "generatorId")
+    private long generatorId;
+
+    @ColumnInfo(name = "numberOfTransactions")
+    private long numberOfTransactions;
+
+    @ColumnInfo(name = "totalAmountNQT")
+    private long totalAmountNQT;
+
+    @ColumnInfo(name = "totalFeeNQT")
+    private long totalFeeNQT;
+
+    @ColumnInfo(name = "payloadLength")
+    private long payloadLength;
+
+    public static StoredBlock fromBlockResponse(BlockResponse block) {
+        StoredBlock storedBlock = new StoredBlock();
+        storedBlock.setBlockId(BurstIDUtils.toLong(block.getBlock()));
+        storedBlock.setHeight(block.getHeight());
+        storedBlock.setTimestamp(block.getTimestamp().getAsDate().getTime());
+        storedBlock.setGeneratorId(BurstIDUtils.toLong(block.getGenerator().getID()));
+        storedBlock.setNumberOfTransactions(block.getNumberOfTransactions());
+        storedBlock.setTotalAmountNQT(BurstValueUtils.toNQT(block.getTotalAmountNQT()));
+        storedBlock.setTotalFeeNQT(BurstValueUtils.toNQT(block.getTotalFeeNQT()));
+        storedBlock.setPayloadLength(block.getPayloadLength());
+        return storedBlock;
+    }
+
+    public long getBlockId() {
+        return blockId;
+    }
+
+    public void setBlockId(long blockId) {
+        this.blockId = blockId;
+    }
+
+    public long getHeight() {
+        return height;
+    }
+
+    public void setHeight(long height) {
+        this.height = height;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public long getGeneratorId() {
+        return generatorId;
+    }
+
+    public void setGeneratorId(long generatorId) {
+        this.generatorId = generatorId;
+    }
+
+    public long getNumberOfTransactions() {
+        return numberOfTransactions;
+    }
+
+    public void setNumberOfTransactions(long numberOfTransactions) {
+        this.numberOfTransactions = numberOfTransactions;
+    }
+
+    public long getTotalAmountNQT() {
+        return totalAmountNQT;
+    }
+
+    public void setTotalAmountNQT(long totalAmountNQT) {
+        this.totalAmountNQT = totalAmountNQT;
+    }
+
+    public long getTotalFeeNQT() {
+        return totalFeeNQT;
+    }
+
+    public void setTotalFeeNQT(long totalFeeNQT) {
+        this.totalFeeNQT = totalFeeNQT;
+    }
+
+    public long getPayloadLength() {
+        return payloadLength;
+    }
+
+    public void setPayloadLength(long payloadLength) {
+        this.payloadLength = payloadLength;
+    }
+}
@@ -0,0 +1,102 @@
+package com.harrysoft.burstcoinexplorer.explore.db;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import com.harrysoft.burstcoinexplorer.burst.node.ResponseParser;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes a getBlocks response straight into {@link StoredBlock}s. Only the header fields are kept, everything else,
+ * such as the IDs of the transactions in each block, is skipped without being materialised.
+ */
+public class StoredBlocksParser implements ResponseParser<List<StoredBlock>> {
+
+    /** The Burst genesis block, 2014-08-11 02:00:00 UTC. Node timestamps count seconds from here. */
+    static final long BURST_EPOCH_MILLIS = 1407722400000L;
+
+    @Override
+    public List<StoredBlock> parse(JsonReader reader) throws IOException {
+        List<StoredBlock> blocks = null;
+        String error = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "blocks":
+                    blocks = new ArrayList<>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        blocks.add(readBlock(reader));
+                    }
+                    reader.endArray();
+                    break;
+
+                case "errorDescription":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        error = reader.nextString();
+                    }
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (blocks == null) {
+            throw new IllegalStateException(error != null ? error : "Node response did not contain blocks");
+        }
+        return blocks;
+    }
+
+    private static StoredBlock readBlock(JsonReader reader) throws IOException {
+        StoredBlock block = new StoredBlock();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "block":
+                    block.setBlockId(BurstIDUtils.toLong(reader.nextString()));
+                    break;
+
+                case "height":
+                    block.setHeight(reader.nextLong());
+                    break;
+
+                case "timestamp":
+                    block.setTimestamp(BURST_EPOCH_MILLIS + reader.nextLong() * 1000);
+                    break;
+
+                case "generator":
+                    block.setGeneratorId(BurstIDUtils.toLong(reader.nextString()));
+                    break;
+
+                case "numberOfTransactions":
+                    block.setNumberOfTransactions(reader.nextLong());
+                    break;
+
+                case "totalAmountNQT":
+                    // Sent as a string, which nextLong() accepts
+                    block.setTotalAmountNQT(reader.nextLong());
+                    break;
+
+                case "totalFeeNQT":
+                    block.setTotalFeeNQT(reader.nextLong());
+                    break;
+
+                case "payloadLength":
+                    block.setPayloadLength(reader.nextLong());
+                    break;
+
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return block;
+    }
+}
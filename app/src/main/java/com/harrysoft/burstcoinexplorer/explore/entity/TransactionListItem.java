@@ -0,0 +1,27 @@
+package com.harrysoft.burstcoinexplorer.explore.entity;
+
+import com.harrysoft.burstcoinexplorer.util.BurstValueUtils;
+
+import burst.kit.entity.response.TransactionResponse;
+
+/**
+ * A transaction as shown in a list. The amount is converted to NQT once when the transaction is loaded, rather than
+ * every time its row is bound.
+ */
+public class TransactionListItem {
+    private final TransactionResponse transaction;
+    private final long amountNQT;
+
+    public TransactionListItem(TransactionResponse transaction) {
+        this.transaction = transaction;
+        this.amountNQT = BurstValueUtils.toNQT(transaction.getAmountNQT());
+    }
+
+    public TransactionResponse getTransaction() {
+        return transaction;
+    }
+
+    public long getAmountNQT() {
+        return amountNQT;
+    }
+}
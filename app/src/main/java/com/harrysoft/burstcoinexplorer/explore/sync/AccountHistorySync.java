@@ -0,0 +1,173 @@
+package com.harrysoft.burstcoinexplorer.explore.sync;
+
+import com.harrysoft.burstcoinexplorer.explore.db.AccountSyncRecord;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps a local copy of each account's transaction IDs so that revisiting an account only asks the node for what is
+ * newer than the last transaction seen. The node only lists confirmed transactions, newest first, so a transaction
+ * that confirms after the last visit appears above the high-water mark and is picked up by the next delta. The delta
+ * is checked against a window of the newest IDs held rather than just the newest one, so a transaction that was
+ * orphaned out of the chain is found and dropped instead of being kept forever.
+ *
+ * Loads of the same account that need the node take turns, but a slow node only holds up that account, and pages that
+ * are already held are read without waiting.
+ */
+public class AccountHistorySync {
+
+    public static final int DEFAULT_MIN_SYNC_INTERVAL = 30 * 1000;
+    static final int OVERLAP = 10;
+    static final int DELTA_PAGE_SIZE = 20;
+    private static final int MAX_DELTA_PAGE_SIZE = 160;
+    static final int MAX_DELTA = 500;
+
+    public interface RemoteHistory {
+        /**
+         * @return The account's transaction IDs from {@code firstIndex} to {@code lastIndex} inclusive, newest first.
+         */
+        List<Long> fetchTransactionIDs(long accountId, int firstIndex, int lastIndex) throws Exception;
+    }
+
+    public interface LocalHistory {
+        AccountSyncRecord getRecord(long accountId);
+
+        /**
+         * @return The transaction IDs held for the account, newest first
+         */
+        List<Long> getTransactionIDs(long accountId, int offset, int count);
+
+        /**
+         * Atomically removes {@code removed}, adds {@code newer} above and {@code older} below the IDs held, then saves
+         * the record with its transaction count brought up to date.
+         */
+        void update(AccountSyncRecord record, List<Long> removed, List<Long> newer, List<Long> older);
+
+        /**
+         * Atomically replaces every ID held for the account and saves the record.
+         */
+        void replace(AccountSyncRecord record, List<Long> transactionIDs);
+    }
+
+    private final RemoteHistory remote;
+    private final LocalHistory local;
+    private final Clock clock;
+    private final long minSyncInterval;
+    private final ConcurrentMap<Long, Object> accountLocks = new ConcurrentHashMap<>();
+
+    public AccountHistorySync(RemoteHistory remote, LocalHistory local, Clock clock, long minSyncInterval) {
+        this.remote = remote;
+        this.local = local;
+        this.clock = clock;
+        this.minSyncInterval = minSyncInterval;
+    }
+
+    /**
+     * Blocking. Loading from the start of the list brings the local copy up to date first, and loading past the end of
+     * the local copy fetches the older transactions from the node.
+     * @return Up to {@code count} transaction IDs starting at {@code firstIndex}, newest first. Fewer are returned only
+     * once the end of the account's history is reached.
+     */
+    public List<Long> loadTransactionIDs(long accountId, int firstIndex, int count) throws Exception {
+        AccountSyncRecord record = local.getRecord(accountId);
+        if (record != null && !isSyncDue(record, firstIndex) && !isBeyondHeld(record, firstIndex, count)) {
+            return local.getTransactionIDs(accountId, firstIndex, count);
+        }
+        synchronized (lockFor(accountId)) {
+            // Another load of the account may have fetched what is needed while this one waited
+            record = local.getRecord(accountId);
+            if (record == null) {
+                record = AccountSyncRecord.create(accountId);
+            } else if (isSyncDue(record, firstIndex)) {
+                record = syncNewer(record);
+            }
+
+            if (isBeyondHeld(record, firstIndex, count)) {
+                fetchOlder(record, record.getTransactionCount(), firstIndex + count);
+            }
+            return local.getTransactionIDs(accountId, firstIndex, count);
+        }
+    }
+
+    private boolean isSyncDue(AccountSyncRecord record, int firstIndex) {
+        return firstIndex == 0 && clock.currentTimeMillis() - record.getLastSyncedAt() >= minSyncInterval;
+    }
+
+    private static boolean isBeyondHeld(AccountSyncRecord record, int firstIndex, int count) {
+        return firstIndex + count > record.getTransactionCount() && !record.isComplete();
+    }
+
+    private Object lockFor(long accountId) {
+        Object lock = new Object();
+        Object existing = accountLocks.putIfAbsent(accountId, lock);
+        return existing != null ? existing : lock;
+    }
+
+    private AccountSyncRecord syncNewer(AccountSyncRecord record) throws Exception {
+        long accountId = record.getAccountId();
+        List<Long> window = local.getTransactionIDs(accountId, 0, OVERLAP);
+        List<Long> fetched = new ArrayList<>();
+        int pageSize = DELTA_PAGE_SIZE;
+        while (true) {
+            List<Long> page = remote.fetchTransactionIDs(accountId, fetched.size(), fetched.size() + pageSize - 1);
+            for (int i = 0; i < page.size(); i++) {
+                int match = window.indexOf(page.get(i));
+                if (match >= 0 && isAligned(page, i, window, match)) {
+                    fetched.addAll(page.subList(0, i));
+                    // Anything held above the match was orphaned or has moved up into the new IDs
+                    List<Long> removed = new ArrayList<>(window.subList(0, match));
+                    record.setLastSyncedAt(clock.currentTimeMillis());
+                    record.setLastTransactionId(fetched.isEmpty() ? window.get(match) : fetched.get(0));
+                    local.update(record, removed, fetched, Collections.emptyList());
+                    return record;
+                }
+            }
+            fetched.addAll(page);
+            boolean endReached = page.size() < pageSize;
+            if (endReached || fetched.size() >= MAX_DELTA) {
+                // Nothing held is still in the node's list, or too much has happened since the last visit to be worth
+                // merging, so start again from what was just fetched
+                record.setComplete(endReached);
+                record.setLastSyncedAt(clock.currentTimeMillis());
+                record.setLastTransactionId(fetched.isEmpty() ? AccountSyncRecord.NO_TRANSACTION : fetched.get(0));
+                local.replace(record, fetched);
+                return record;
+            }
+            pageSize = Math.min(pageSize * 2, MAX_DELTA_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * @return Whether the IDs held from {@code windowIndex} on are in the same order as the node's from {@code pageIndex}
+     * on, so that a transaction which has moved is not taken as the point the two lists meet.
+     */
+    private static boolean isAligned(List<Long> page, int pageIndex, List<Long> window, int windowIndex) {
+        for (int i = pageIndex, j = windowIndex; i < page.size() && j < window.size(); i++, j++) {
+            if (!page.get(i).equals(window.get(j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The node's indexes only line up with the local copy as of the last delta, so a transaction arriving since then
+     * can shift the page by one. Duplicates are ignored by the store, and the next delta corrects the rest.
+     */
+    private void fetchOlder(AccountSyncRecord record, int held, int wanted) throws Exception {
+        List<Long> older = remote.fetchTransactionIDs(record.getAccountId(), held, wanted - 1);
+        if (older.size() < wanted - held) {
+            record.setComplete(true);
+        }
+        if (held == 0) {
+            record.setLastSyncedAt(clock.currentTimeMillis());
+            record.setLastTransactionId(older.isEmpty() ? AccountSyncRecord.NO_TRANSACTION : older.get(0));
+        }
+        local.update(record, Collections.emptyList(), Collections.emptyList(), older);
+    }
+}
@@ -0,0 +1,143 @@
+package com.harrysoft.burstcoinexplorer.explore.sync;
+
+import android.arch.lifecycle.DefaultLifecycleObserver;
+import android.arch.lifecycle.LifecycleOwner;
+import android.arch.lifecycle.LiveData;
+import android.arch.lifecycle.MutableLiveData;
+import android.support.annotation.NonNull;
+
+import com.harrysoft.burstcoinexplorer.explore.db.BlockchainStore;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.harrysoft.burstcoinexplorer.util.SingleFlight;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Completable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.disposables.SerialDisposable;
+
+/**
+ * Follows the chain tip for the whole app. Polls are spaced by a {@link TipPollSchedule}, new blocks are written to the
+ * {@link BlockchainStore}, and the newest block is published through {@link #getChainTip()} for every screen to share.
+ * Polling only happens while the process is in the foreground.
+ */
+public class ChainTipService implements DefaultLifecycleObserver {
+
+    public interface BlockListener {
+        /**
+         * Called once for each poll that finds new blocks, from the polling thread.
+         * @param blocks Blocks that are new or replace an orphaned block, newest first
+         * @param fullSync Whether the sync could not be linked to the blocks held, so the blocks are not necessarily new
+         */
+        void onNewBlocks(List<StoredBlock> blocks, boolean fullSync);
+    }
+
+    private final RecentBlocksSync recentBlocksSync;
+    private final BlockchainStore blockchainStore;
+    private final Clock clock;
+    private final Scheduler scheduler;
+
+    private final TipPollSchedule schedule = new TipPollSchedule();
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+    private final SerialDisposable nextPoll = new SerialDisposable();
+    private final MutableLiveData<StoredBlock> chainTip = new MutableLiveData<>();
+    private final List<BlockListener> blockListeners = new CopyOnWriteArrayList<>();
+
+    private boolean active = false;
+    private long publishedBlockId = 0;
+
+    public ChainTipService(RecentBlocksSync recentBlocksSync, BlockchainStore blockchainStore, Clock clock, Scheduler scheduler) {
+        this.recentBlocksSync = recentBlocksSync;
+        this.blockchainStore = blockchainStore;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void onStart(@NonNull LifecycleOwner owner) {
+        synchronized (this) {
+            active = true;
+        }
+        scheduleNextPoll(0);
+    }
+
+    @Override
+    public void onStop(@NonNull LifecycleOwner owner) {
+        synchronized (this) {
+            active = false;
+        }
+        nextPoll.set(null);
+    }
+
+    /**
+     * Polls now rather than waiting for the next scheduled poll, for when the user asks to refresh.
+     */
+    public Completable refresh() {
+        return poll().toCompletable();
+    }
+
+    /**
+     * @return The newest block, updated each time a poll finds a new one
+     */
+    public LiveData<StoredBlock> getChainTip() {
+        return chainTip;
+    }
+
+    public void addBlockListener(BlockListener blockListener) {
+        blockListeners.add(blockListener);
+    }
+
+    private Single<StoredBlock> poll() {
+        return singleFlight.execute("tip", () -> recentBlocksSync.sync()
+                .flatMap(result -> save(result).andThen(Single.fromCallable(() -> {
+                    notifyBlockListeners(result);
+                    return result.getRecentBlocks().get(0);
+                })))
+                .doOnSuccess(this::onTip)
+                .doOnError(t -> onPollFailed()));
+    }
+
+    private Completable save(RecentBlocksSync.Result result) {
+        if (result.getChangedBlocks().isEmpty() && result.getRemovedAbove() < 0) {
+            return Completable.complete();
+        }
+        return blockchainStore.saveStoredBlocks(result.getChangedBlocks(), result.getRemovedAbove());
+    }
+
+    private void notifyBlockListeners(RecentBlocksSync.Result result) {
+        if (result.getChangedBlocks().isEmpty()) return;
+        for (BlockListener blockListener : blockListeners) {
+            blockListener.onNewBlocks(result.getChangedBlocks(), result.isFullSync());
+        }
+    }
+
+    private void onTip(StoredBlock tip) {
+        long now = clock.currentTimeMillis();
+        schedule.onTip(tip.getHeight(), tip.getTimestamp(), now);
+        scheduleNextPoll(schedule.nextDelay(now));
+        synchronized (this) {
+            // A reorganisation can replace the tip without changing the height
+            if (tip.getBlockId() == publishedBlockId) return;
+            publishedBlockId = tip.getBlockId();
+        }
+        chainTip.postValue(tip);
+    }
+
+    private void onPollFailed() {
+        schedule.onFailure();
+        scheduleNextPoll(schedule.nextDelay(clock.currentTimeMillis()));
+    }
+
+    private void scheduleNextPoll(long delay) {
+        synchronized (this) {
+            if (!active) return;
+        }
+        nextPoll.set(Completable.timer(delay, TimeUnit.MILLISECONDS, scheduler)
+                .andThen(Completable.defer(this::refresh))
+                .subscribe(() -> {}, t -> {})); // Failures are handled by rescheduling
+    }
+}
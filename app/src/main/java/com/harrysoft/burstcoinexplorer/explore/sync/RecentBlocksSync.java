@@ -0,0 +1,226 @@
+package com.harrysoft.burstcoinexplorer.explore.sync;
+
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Single;
+
+/**
+ * Keeps the most recent blocks in a ring buffer indexed by height, and brings it up to date by only asking the node for
+ * the few blocks at the tip. The tip window overlaps the blocks already held, so a reorganisation shows up as a
+ * different block ID at a known height. If the window does not reach back to a block we hold, or the reorganisation
+ * goes deeper than the window, all of the recent blocks are fetched again.
+ */
+public class RecentBlocksSync {
+
+    public static final int DEFAULT_CAPACITY = 100;
+    public static final int DEFAULT_TIP_WINDOW = 5;
+
+    public interface BlockFetcher {
+        /**
+         * @return The blocks from {@code firstIndex} to {@code lastIndex} counting back from the tip, newest first.
+         */
+        Single<List<StoredBlock>> fetchBlocks(int firstIndex, int lastIndex);
+    }
+
+    private final BlockFetcher blockFetcher;
+    private final Callable<List<StoredBlock>> seedLoader;
+    private final int capacity;
+    private final int tipWindow;
+
+    private final StoredBlock[] ring;
+    private long tipHeight = -1;
+    private int size = 0;
+    private boolean seeded = false;
+
+    /**
+     * @param seedLoader Loads previously stored blocks, newest first, so that the first sync does not have to fetch everything.
+     */
+    public RecentBlocksSync(BlockFetcher blockFetcher, Callable<List<StoredBlock>> seedLoader, int capacity, int tipWindow) {
+        if (tipWindow < 2 || tipWindow > capacity) {
+            throw new IllegalArgumentException("Tip window must be between 2 and the capacity");
+        }
+        this.blockFetcher = blockFetcher;
+        this.seedLoader = seedLoader;
+        this.capacity = capacity;
+        this.tipWindow = tipWindow;
+        this.ring = new StoredBlock[capacity];
+    }
+
+    public Single<Result> sync() {
+        return Single.defer(() -> {
+            seedIfNeeded();
+            if (isEmpty()) {
+                return fullSync();
+            }
+            return blockFetcher.fetchBlocks(0, tipWindow - 1)
+                    .flatMap(window -> {
+                        Result result = mergeTip(window);
+                        return result != null ? Single.just(result) : fullSync();
+                    });
+        });
+    }
+
+    public synchronized List<StoredBlock> getRecentBlocks() {
+        List<StoredBlock> blocks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            blocks.add(ring[slot(tipHeight - i)]);
+        }
+        return blocks;
+    }
+
+    private Single<Result> fullSync() {
+        return blockFetcher.fetchBlocks(0, capacity - 1)
+                .map(this::replaceAll);
+    }
+
+    private synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void seedIfNeeded() throws Exception {
+        synchronized (this) {
+            if (seeded) return;
+            seeded = true;
+        }
+        List<StoredBlock> stored = seedLoader.call();
+        synchronized (this) {
+            if (size > 0 || stored == null || stored.isEmpty()) return;
+            // Only use the contiguous run at the top, older sessions may have left gaps
+            tipHeight = stored.get(0).getHeight();
+            for (StoredBlock block : stored) {
+                if (size == capacity || block.getHeight() != tipHeight - size) break;
+                ring[slot(block.getHeight())] = block;
+                size++;
+            }
+        }
+    }
+
+    private synchronized Result replaceAll(List<StoredBlock> blocks) {
+        long previousTip = tipHeight;
+        size = 0;
+        tipHeight = -1;
+        List<StoredBlock> added = new ArrayList<>(blocks.size());
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            StoredBlock block = blocks.get(i);
+            if (size > 0 && block.getHeight() != tipHeight + 1) {
+                // Not contiguous, start again from this block
+                size = 0;
+                added.clear();
+            }
+            put(block);
+            added.add(block);
+        }
+        Collections.reverse(added);
+        return new Result(added, getRecentBlocks(), false, true, previousTip > tipHeight ? tipHeight : -1);
+    }
+
+    /**
+     * @return The result, or null if the window cannot be linked to the blocks held and everything must be fetched again.
+     */
+    private synchronized Result mergeTip(List<StoredBlock> window) {
+        if (window.isEmpty()) {
+            return null;
+        }
+        long newest = window.get(0).getHeight();
+        long oldest = window.get(window.size() - 1).getHeight();
+        long lowestHeld = tipHeight - size + 1;
+        if (oldest > tipHeight || oldest < lowestHeld) {
+            return null; // No overlap to check against
+        }
+
+        StoredBlock oldestHeld = ring[slot(oldest)];
+        if (oldestHeld.getBlockId() != window.get(window.size() - 1).getBlockId()) {
+            return null; // Reorganised deeper than the window
+        }
+
+        boolean reorganised = false;
+        long previousTip = tipHeight;
+        List<StoredBlock> changed = new ArrayList<>();
+        for (int i = window.size() - 2; i >= 0; i--) {
+            StoredBlock block = window.get(i);
+            long height = block.getHeight();
+            if (height <= previousTip) {
+                if (ring[slot(height)].getBlockId() == block.getBlockId()) {
+                    continue;
+                }
+                reorganised = true;
+            }
+            put(block);
+            changed.add(block);
+        }
+
+        long removedAbove = -1;
+        if (newest < previousTip) {
+            // The new chain is shorter, forget the blocks above its tip
+            reorganised = true;
+            size -= (int) (previousTip - newest);
+            tipHeight = newest;
+            removedAbove = newest;
+        }
+        Collections.reverse(changed);
+        return new Result(changed, getRecentBlocks(), reorganised, false, removedAbove);
+    }
+
+    private void put(StoredBlock block) {
+        long height = block.getHeight();
+        if (size == 0 || height > tipHeight) {
+            size = size == 0 ? 1 : (int) Math.min(capacity, size + (height - tipHeight));
+            tipHeight = height;
+        }
+        ring[slot(height)] = block;
+    }
+
+    private int slot(long height) {
+        return (int) (height % capacity);
+    }
+
+    public static class Result {
+        private final List<StoredBlock> changedBlocks;
+        private final List<StoredBlock> recentBlocks;
+        private final boolean reorganised;
+        private final boolean fullSync;
+        private final long removedAbove;
+
+        Result(List<StoredBlock> changedBlocks, List<StoredBlock> recentBlocks, boolean reorganised, boolean fullSync, long removedAbove) {
+            this.changedBlocks = changedBlocks;
+            this.recentBlocks = recentBlocks;
+            this.reorganised = reorganised;
+            this.fullSync = fullSync;
+            this.removedAbove = removedAbove;
+        }
+
+        /**
+         * @return Blocks that are new or replace a block that was orphaned, newest first
+         */
+        public List<StoredBlock> getChangedBlocks() {
+            return changedBlocks;
+        }
+
+        /**
+         * @return Every block held after the sync, newest first
+         */
+        public List<StoredBlock> getRecentBlocks() {
+            return recentBlocks;
+        }
+
+        public boolean isReorganised() {
+            return reorganised;
+        }
+
+        public boolean isFullSync() {
+            return fullSync;
+        }
+
+        /**
+         * @return The height above which blocks were orphaned without a replacement, or -1 if there are none
+         */
+        public long getRemovedAbove() {
+            return removedAbove;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.harrysoft.burstcoinexplorer.explore.sync;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works out how long to wait before asking the node for the chain tip again. Burst aims for a block every 4 minutes,
+ * so straight after a new block there is little point polling, and as the next block becomes due the polls get closer
+ * together. Failed polls back off exponentially.
+ */
+public class TipPollSchedule {
+
+    public static final long BLOCK_TIME = TimeUnit.MINUTES.toMillis(4);
+    public static final long MIN_DELAY = TimeUnit.SECONDS.toMillis(15);
+    public static final long MAX_DELAY = TimeUnit.MINUTES.toMillis(2);
+
+    private long tipHeight = -1;
+    private long tipSeenAt = -1;
+    private int failures = 0;
+
+    /**
+     * @param height The height of the newest block
+     * @param timestamp When the newest block was forged, in milliseconds since the epoch
+     * @param now The current time, in milliseconds since the epoch
+     */
+    public synchronized void onTip(long height, long timestamp, long now) {
+        failures = 0;
+        if (height == tipHeight) {
+            return;
+        }
+        tipHeight = height;
+        // The device clock may be behind the network, never treat a block as forged in the future
+        tipSeenAt = Math.min(timestamp, now);
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+    }
+
+    public synchronized long nextDelay(long now) {
+        if (failures > 0) {
+            return Math.min(MAX_DELAY, MIN_DELAY << Math.min(failures, 4));
+        }
+        if (tipSeenAt < 0) {
+            return MIN_DELAY;
+        }
+        // Wait half of the time until the next block is due, so polls tighten as it approaches
+        long untilNextBlock = tipSeenAt + BLOCK_TIME - now;
+        return Math.max(MIN_DELAY, Math.min(MAX_DELAY, untilNextBlock / 2));
+    }
+
+    public synchronized long getTipHeight() {
+        return tipHeight;
+    }
+}
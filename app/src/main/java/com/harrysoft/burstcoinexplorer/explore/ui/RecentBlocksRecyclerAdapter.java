@@ -11,62 +11,62 @@ import android.widget.RelativeLayout;
 import android.widget.TextView;
 
 import com.harrysoft.burstcoinexplorer.R;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
 import com.harrysoft.burstcoinexplorer.main.router.ExplorerRouter;
+import com.harrysoft.burstcoinexplorer.main.ui.BackgroundDiffer;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+import com.harrysoft.burstcoinexplorer.util.DisplayFormats;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
-import burst.kit.entity.response.BlockResponse;
+import burst.kit.entity.BurstID;
 
 class RecentBlocksRecyclerAdapter extends RecyclerView.Adapter<RecentBlocksRecyclerAdapter.ViewHolder> {
 
     private final Context context;
 
-    private List<BlockResponse> blocks = new ArrayList<>();
+    private final BackgroundDiffer<List<StoredBlock>> differ = new BackgroundDiffer<>(this, new ArrayList<>(), RecentBlocksRecyclerAdapter::diffCallback);
 
     RecentBlocksRecyclerAdapter(Context context) {
         this.context = context;
     }
 
-    public void updateData(List<BlockResponse> newBlocks) {
-        if (blocks == null) {
-            blocks = newBlocks;
-            notifyDataSetChanged();
-        } else {
-            DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
-                @Override
-                public int getOldListSize() {
-                    return blocks.size();
-                }
-
-                @Override
-                public int getNewListSize() {
-                    return newBlocks.size();
-                }
-
-                @Override
-                public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-                    return Objects.equals(blocks.get(oldItemPosition).getBlock(), newBlocks.get(newItemPosition).getBlock());
-                }
-
-                @Override
-                public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-                    BlockResponse newBlock = newBlocks.get(newItemPosition);
-                    BlockResponse oldBlock = blocks.get(oldItemPosition);
-                    return Objects.equals(newBlock.getBlock(), oldBlock.getBlock())
-                            && Objects.equals(newBlock.getHeight(), oldBlock.getHeight())
-                            && Objects.equals(newBlock.getTimestamp(), oldBlock.getTimestamp())
-                            && Objects.equals(newBlock.getNumberOfTransactions(), oldBlock.getNumberOfTransactions())
-                            && Objects.equals(newBlock.getTotalAmountNQT(), oldBlock.getTotalAmountNQT())
-                            && Objects.equals(newBlock.getPayloadLength(), oldBlock.getPayloadLength())
-                            && Objects.equals(newBlock.getGenerator(), oldBlock.getGenerator())
-                            && Objects.equals(newBlock.getTotalFeeNQT(), oldBlock.getTotalFeeNQT());
-                }
-            });
-            blocks = newBlocks;
-            result.dispatchUpdatesTo(this);
-        }
+    public void updateData(List<StoredBlock> newBlocks) {
+        differ.submit(newBlocks);
+    }
+
+    private static DiffUtil.Callback diffCallback(List<StoredBlock> oldBlocks, List<StoredBlock> newBlocks) {
+        return new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldBlocks.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newBlocks.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return oldBlocks.get(oldItemPosition).getBlockId() == newBlocks.get(newItemPosition).getBlockId();
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                StoredBlock newBlock = newBlocks.get(newItemPosition);
+                StoredBlock oldBlock = oldBlocks.get(oldItemPosition);
+                return newBlock.getBlockId() == oldBlock.getBlockId()
+                        && newBlock.getHeight() == oldBlock.getHeight()
+                        && newBlock.getTimestamp() == oldBlock.getTimestamp()
+                        && newBlock.getNumberOfTransactions() == oldBlock.getNumberOfTransactions()
+                        && newBlock.getTotalAmountNQT() == oldBlock.getTotalAmountNQT()
+                        && newBlock.getPayloadLength() == oldBlock.getPayloadLength()
+                        && newBlock.getGeneratorId() == oldBlock.getGeneratorId()
+                        && newBlock.getTotalFeeNQT() == oldBlock.getTotalFeeNQT();
+            }
+        };
     }
 
     @NonNull
@@ -77,12 +77,12 @@ class RecentBlocksRecyclerAdapter extends RecyclerView.Adapter<RecentBlocksRecyc
 
     @Override
     public void onBindViewHolder(@NonNull RecentBlocksRecyclerAdapter.ViewHolder holder, int position) {
-        holder.setupView(blocks.get(position));
+        holder.setupView(differ.getData().get(position));
     }
 
     @Override
     public int getItemCount() {
-        return blocks.size();
+        return differ.getData().size();
     }
 
     class ViewHolder extends RecyclerView.ViewHolder {
@@ -99,11 +99,12 @@ class RecentBlocksRecyclerAdapter extends RecyclerView.Adapter<RecentBlocksRecyc
             text2 = v.findViewById(R.id.list_item_text2);
         }
 
-        void setupView(BlockResponse block) {
-            text1.setText(context.getString(R.string.block_number_with_data, String.valueOf(block.getBlock())));
-            text2.setText(context.getString(R.string.number_of_transactions_with_data, String.valueOf(block.getNumberOfTransactions()), block.getTotalAmountNQT().toString()));
+        void setupView(StoredBlock block) {
+            String blockID = BurstIDUtils.toUnsignedString(block.getBlockId());
+            text1.setText(context.getString(R.string.block_number_with_data, blockID));
+            text2.setText(context.getString(R.string.number_of_transactions_with_data, String.valueOf(block.getNumberOfTransactions()), DisplayFormats.formatBurst(block.getTotalAmountNQT())));
 
-            layout.setOnClickListener(view -> ExplorerRouter.viewBlockDetailsByID(context, block.getBlock()));
+            layout.setOnClickListener(view -> ExplorerRouter.viewBlockDetailsByID(context, new BurstID(blockID)));
         }
     }
 }
\ No newline at end of file
@@ -49,7 +49,7 @@ public class ViewAccountTransactionsActivity extends ViewTransactionsActivity {
         TextView addressText = findViewById(R.id.view_account_transactions_address_value);
         TextView transactionsLabel = findViewById(R.id.view_account_transactions_label);
 
-        viewAccountTransactionsViewModel.getTransactionIDs().observe(this, transactionIDs -> setupViewTransactionsActivity(findViewById(R.id.view_account_transactions_list), viewTransactionsViewModelFactory, TransactionDisplayType.TO, transactionIDs));
+        setupViewTransactionsActivity(findViewById(R.id.view_account_transactions_list), viewTransactionsViewModelFactory, TransactionDisplayType.TO, viewAccountTransactionsViewModel.getAccount());
         viewAccountTransactionsViewModel.getTransactionsLabel().observe(this, transactionsLabel::setText);
         viewAccountTransactionsViewModel.getAddress().observe(this, address -> { addressText.setText(address); TextViewUtils.setupTextViewAsCopyable(clipboardRepository, addressText, address); });
 
@@ -82,8 +82,10 @@ public class ViewTransactionDetailsActivity extends ViewDetailsActivity {
             senderText.setText(TextFormatUtils.burstAddress(this, transaction.getSender()));
             recipientText.setText(TextFormatUtils.burstAddress(this, transaction.getRecipient()));
             amountText.setText(transaction.getAmountNQT().toString());
-            typeText.setText(TransactionTypeUtils.getTransactionTypes().get((byte) transaction.getType()));
-            subTypeText.setText(TransactionTypeUtils.getTransactionSubTypes().get((byte) transaction.getType()).get((byte) transaction.getSubtype()));
+            int typeName = TransactionTypeUtils.getTypeName(transaction.getType());
+            int subtypeName = TransactionTypeUtils.getSubtypeName(transaction.getType(), transaction.getSubtype());
+            typeText.setText(typeName != 0 ? typeName : R.string.transaction_type_unknown);
+            subTypeText.setText(subtypeName != 0 ? subtypeName : R.string.transaction_type_unknown);
             feeText.setText(transaction.getFeeNQT().toString());
             timestampText.setText(TimestampUtils.formatBurstTimestamp(transaction.getTimestamp()));
             blockIDText.setText(transaction.getBlockId().getID());
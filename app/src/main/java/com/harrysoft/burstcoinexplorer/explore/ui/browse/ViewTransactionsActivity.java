@@ -12,6 +12,7 @@ import com.harrysoft.burstcoinexplorer.explore.viewmodel.browse.ViewTransactions
 
 import java.util.List;
 
+import burst.kit.entity.BurstAddress;
 import burst.kit.entity.BurstID;
 
 public abstract class ViewTransactionsActivity extends ViewDetailsActivity {
@@ -19,16 +20,23 @@ public abstract class ViewTransactionsActivity extends ViewDetailsActivity {
     protected void setupViewTransactionsActivity(RecyclerView recyclerView, ViewTransactionsViewModelFactory factory, TransactionDisplayType displayType, List<BurstID> transactionIDs) {
         if (transactionIDs != null) {
             factory.setup(displayType, transactionIDs);
-            ViewTransactionsViewModel viewTransactionsViewModel = ViewModelProviders.of(this, factory).get(ViewTransactionsViewModel.class);
-            recyclerView.setLayoutManager(new LinearLayoutManager(this));
-            TransactionsRecyclerAdapter transactionsAdapter = new TransactionsRecyclerAdapter(viewTransactionsViewModel.getDisplayType(), this, viewTransactionsViewModel.getTransactionIDs(), viewTransactionsViewModel::loadMoreTransactions);
-            recyclerView.setAdapter(transactionsAdapter);
-            viewTransactionsViewModel.getTransactions().observe(this, transactionsAdapter::updateData);
-            viewTransactionsViewModel.getTransactionsLabel().observe(this, this::setTransactionsLabelText);
+            showTransactions(recyclerView, factory);
         } else {
             setTransactionsLabelText(R.string.loading_error);
         }
     }
 
+    protected void setupViewTransactionsActivity(RecyclerView recyclerView, ViewTransactionsViewModelFactory factory, TransactionDisplayType displayType, BurstAddress account) {
+        factory.setup(displayType, account);
+        showTransactions(recyclerView, factory);
+    }
+
+    private void showTransactions(RecyclerView recyclerView, ViewTransactionsViewModelFactory factory) {
+        ViewTransactionsViewModel viewTransactionsViewModel = ViewModelProviders.of(this, factory).get(ViewTransactionsViewModel.class);
+        recyclerView.setLayoutManager(new LinearLayoutManager(this));
+        recyclerView.setAdapter(new TransactionsRecyclerAdapter(viewTransactionsViewModel.getDisplayType(), this, viewTransactionsViewModel.getTransactions()));
+        viewTransactionsViewModel.getTransactionsLabel().observe(this, this::setTransactionsLabelText);
+    }
+
     protected abstract void setTransactionsLabelText(@StringRes int text);
 }
@@ -0,0 +1,249 @@
+package com.harrysoft.burstcoinexplorer.explore.util;
+
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+
+/**
+ * A list that loads itself a page at a time as it is read. Items that have not been loaded are placeholders (null),
+ * and reading an item loads every page within {@code prefetchDistance} of it. Only {@code maxPages} pages are kept, the
+ * ones furthest from the last item read go back to being placeholders, so memory use does not grow with the list.
+ * Items are shown as each one arrives. If a page fails part way through, the items already loaded stay and the page
+ * carries on from the one that failed the next time it is read.
+ * Loaded items are held in a {@link PositionalStore}, so reading an item is an array lookup.
+ *
+ * If the size is not known up front, a page of placeholders is shown after the last full page until a page comes back
+ * short, which marks the end of the list.
+ *
+ * Not thread safe, it must only be used on the thread that {@code resultScheduler} delivers to.
+ */
+public class PagedList<V> {
+
+    public static final int UNKNOWN_COUNT = -1;
+
+    public interface PageLoader<V> {
+        /**
+         * @return Up to {@code count} items starting at {@code firstIndex}, in order, each emitted as soon as it and
+         * every item before it has arrived. Completing with fewer than {@code count} means the end of the list.
+         */
+        Observable<V> load(int firstIndex, int count);
+    }
+
+    /**
+     * Told about every change to the list's items, in the same terms as a RecyclerView adapter.
+     */
+    public interface Callback {
+        void onInserted(int position, int count);
+        void onRemoved(int position, int count);
+        void onChanged(int position, int count);
+    }
+
+    public interface LoadListener<V> {
+        /**
+         * @param items The items loaded by one request, starting at {@code firstIndex}
+         */
+        void onPageLoaded(int firstIndex, List<V> items);
+        void onLoadFailed(Throwable error);
+    }
+
+    private final PageLoader<V> pageLoader;
+    private final int pageSize;
+    private final int prefetchDistance;
+    private final int maxPages;
+    private final Scheduler resultScheduler;
+
+    private final PositionalStore<V> pages;
+    private final Map<Integer, Disposable> loadingPages = new HashMap<>();
+    @Nullable
+    private Callback callback;
+    @Nullable
+    private LoadListener<V> loadListener;
+
+    private int size;
+    private boolean endReached;
+    private int lastAccessed = 0;
+
+    /**
+     * @param knownCount The size of the list, or {@link #UNKNOWN_COUNT} to find it by loading until a page comes back short
+     */
+    public PagedList(PageLoader<V> pageLoader, int knownCount, int pageSize, int prefetchDistance, int maxPages, Scheduler resultScheduler) {
+        if (pageSize < 1 || prefetchDistance < 0) {
+            throw new IllegalArgumentException("Page size must be positive and prefetch distance must not be negative");
+        }
+        if (maxPages < 2 + 2 * prefetchDistance / pageSize) {
+            throw new IllegalArgumentException("Must keep enough pages to cover the prefetch distance either side");
+        }
+        this.pageLoader = pageLoader;
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+        this.maxPages = maxPages;
+        this.resultScheduler = resultScheduler;
+        this.pages = new PositionalStore<>(pageSize);
+        this.endReached = knownCount != UNKNOWN_COUNT;
+        this.size = endReached ? knownCount : 0;
+    }
+
+    public void setCallback(@Nullable Callback callback) {
+        this.callback = callback;
+    }
+
+    public void setLoadListener(@Nullable LoadListener<V> loadListener) {
+        this.loadListener = loadListener;
+    }
+
+    /**
+     * @return The number of items, including placeholders
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEndReached() {
+        return endReached;
+    }
+
+    public boolean isLoading() {
+        return !loadingPages.isEmpty();
+    }
+
+    public int getLoadedPageCount() {
+        return pages.getPageCount();
+    }
+
+    /**
+     * @return The position most recently read, which is taken to be on screen
+     */
+    public int getLastAccessed() {
+        return lastAccessed;
+    }
+
+    /**
+     * @return The item, or null if it is a placeholder. Either way, the pages around it are loaded.
+     */
+    @Nullable
+    public V get(int position) {
+        loadAround(position);
+        return pages.get(position);
+    }
+
+    public void loadAround(int position) {
+        lastAccessed = position;
+        int firstPage = Math.max(0, position - prefetchDistance) / pageSize;
+        int lastPage = (position + prefetchDistance) / pageSize;
+        for (int page = firstPage; page <= lastPage; page++) {
+            loadPage(page);
+        }
+    }
+
+    public void dispose() {
+        for (Disposable disposable : loadingPages.values()) {
+            disposable.dispose();
+        }
+        loadingPages.clear();
+    }
+
+    private void loadPage(int page) {
+        int held = pages.getCount(page);
+        if (held == pageSize || loadingPages.containsKey(page)) {
+            return;
+        }
+        // Carries on after whatever an earlier attempt loaded
+        int firstIndex = page * pageSize + held;
+        // Past the end, or more than a page beyond what is known to exist
+        if (firstIndex >= size && (endReached || firstIndex > size)) {
+            return;
+        }
+        int count = pageSize - held;
+        List<V> received = new ArrayList<>(count);
+        // Marked before subscribing, as the result may be delivered straight away
+        loadingPages.put(page, Disposables.empty());
+        Disposable disposable = pageLoader.load(firstIndex, count)
+                .observeOn(resultScheduler)
+                .subscribe(item -> onItemLoaded(page, item, received),
+                        error -> onPageFailed(page, error),
+                        () -> onPageLoaded(page, firstIndex, count, received));
+        if (loadingPages.containsKey(page)) {
+            loadingPages.put(page, disposable);
+        }
+    }
+
+    private void onItemLoaded(int page, V item, List<V> received) {
+        received.add(item);
+        int position = pages.append(page, item);
+        if (position < size) {
+            if (callback != null) {
+                callback.onChanged(position, 1);
+            }
+        } else {
+            int oldSize = size;
+            size = position + 1;
+            if (callback != null) {
+                callback.onInserted(oldSize, size - oldSize);
+            }
+        }
+    }
+
+    private void onPageLoaded(int page, int firstIndex, int count, List<V> received) {
+        loadingPages.remove(page);
+
+        int oldSize = size;
+        int newSize = oldSize;
+        if (!endReached) {
+            if (received.size() < count) {
+                endReached = true;
+                newSize = firstIndex + received.size();
+            } else {
+                // Leave a page of placeholders for whatever comes next
+                newSize = Math.max(oldSize, (page + 2) * pageSize);
+            }
+        }
+        size = newSize;
+        if (callback != null) {
+            if (newSize > oldSize) {
+                callback.onInserted(oldSize, newSize - oldSize);
+            } else if (newSize < oldSize) {
+                callback.onRemoved(newSize, oldSize - newSize);
+            }
+        }
+
+        evictDistantPages();
+        if (loadListener != null) {
+            loadListener.onPageLoaded(firstIndex, received);
+        }
+        // The new items may have brought more pages within reach
+        loadAround(lastAccessed);
+    }
+
+    private void onPageFailed(int page, Throwable error) {
+        loadingPages.remove(page);
+        if (loadListener != null) {
+            loadListener.onLoadFailed(error);
+        }
+    }
+
+    private void evictDistantPages() {
+        int currentPage = lastAccessed / pageSize;
+        while (pages.getPageCount() > maxPages) {
+            int furthest = pages.findFurthestPage(currentPage);
+            pages.removePage(furthest);
+            // A page still loading would otherwise carry on filling from its start
+            Disposable loading = loadingPages.remove(furthest);
+            if (loading != null) {
+                loading.dispose();
+            }
+            int firstIndex = furthest * pageSize;
+            int count = Math.min(pageSize, size - firstIndex);
+            if (callback != null && count > 0) {
+                callback.onChanged(firstIndex, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.harrysoft.burstcoinexplorer.explore.util;
+
+import android.support.annotation.Nullable;
+
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+
+import java.util.List;
+
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.reactivex.functions.Function;
+
+/**
+ * Loads a list of keys with at most {@code concurrency} requests in flight, emitting the results in list order as soon as
+ * each one and everything before it has arrived. Failed items are retried individually, backing off as set by the
+ * {@link RetryPolicy}; the stream stops at the first item that still fails so that the caller can resume from it.
+ */
+public class PipelinedLoader<K, V> {
+
+    private final Function<K, Single<V>> fetcher;
+    private final int concurrency;
+    private final RetryPolicy retryPolicy;
+
+    public PipelinedLoader(Function<K, Single<V>> fetcher, int concurrency, RetryPolicy retryPolicy) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.fetcher = fetcher;
+        this.concurrency = concurrency;
+        this.retryPolicy = retryPolicy;
+    }
+
+    public Observable<Result<K, V>> load(List<K> keys) {
+        return Observable.fromIterable(keys)
+                .concatMapEager(key -> retryPolicy.apply(fetcher.apply(key))
+                        .map(value -> Result.<K, V>success(key, value))
+                        .onErrorReturn(error -> Result.failure(key, error))
+                        .toObservable(), concurrency, 1)
+                .takeUntil((Result<K, V> result) -> result.isFailure());
+    }
+
+    public static class Result<K, V> {
+        private final K key;
+        @Nullable
+        private final V value;
+        @Nullable
+        private final Throwable error;
+
+        private Result(K key, @Nullable V value, @Nullable Throwable error) {
+            this.key = key;
+            this.value = value;
+            this.error = error;
+        }
+
+        static <K, V> Result<K, V> success(K key, V value) {
+            return new Result<>(key, value, null);
+        }
+
+        static <K, V> Result<K, V> failure(K key, Throwable error) {
+            return new Result<>(key, null, error);
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        @Nullable
+        public V getValue() {
+            return value;
+        }
+
+        @Nullable
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isFailure() {
+            return error != null;
+        }
+    }
+}
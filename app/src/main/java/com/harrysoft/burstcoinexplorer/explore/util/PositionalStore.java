@@ -0,0 +1,110 @@
+package com.harrysoft.burstcoinexplorer.explore.util;
+
+import android.support.annotation.Nullable;
+
+/**
+ * Values indexed by position, held in fixed size pages so that each page can be dropped on its own. A page fills from
+ * its start, so it holds the values for its first {@link #getCount(int)} positions. Looking up, appending and dropping
+ * are all constant time, and positions are never boxed. Not thread safe, the owner and its readers should share one thread.
+ */
+public class PositionalStore<V> {
+
+    private static final int INITIAL_PAGES = 16;
+
+    private final int pageSize;
+    private Object[][] pages = new Object[INITIAL_PAGES][];
+    private int[] counts = new int[INITIAL_PAGES];
+    private int pageCount = 0;
+
+    public PositionalStore(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @return The value at {@code position}, or null if it is not held
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(int position) {
+        int page = position / pageSize;
+        if (page >= pages.length || pages[page] == null) {
+            return null;
+        }
+        int offset = position % pageSize;
+        return offset < counts[page] ? (V) pages[page][offset] : null;
+    }
+
+    public boolean hasPage(int page) {
+        return page < pages.length && pages[page] != null;
+    }
+
+    /**
+     * @return How many values the page holds, from its start
+     */
+    public int getCount(int page) {
+        return hasPage(page) ? counts[page] : 0;
+    }
+
+    /**
+     * Stores the value after the last one held in the page.
+     *
+     * @return The position it was stored at
+     */
+    public int append(int page, V value) {
+        if (page >= pages.length) {
+            int length = Math.max(pages.length * 2, page + 1);
+            Object[][] grownPages = new Object[length][];
+            System.arraycopy(pages, 0, grownPages, 0, pages.length);
+            int[] grownCounts = new int[length];
+            System.arraycopy(counts, 0, grownCounts, 0, counts.length);
+            pages = grownPages;
+            counts = grownCounts;
+        }
+        if (pages[page] == null) {
+            pages[page] = new Object[pageSize];
+            counts[page] = 0;
+            pageCount++;
+        }
+        if (counts[page] == pageSize) {
+            throw new IllegalStateException("Page " + page + " is full");
+        }
+        pages[page][counts[page]] = value;
+        return page * pageSize + counts[page]++;
+    }
+
+    public void removePage(int page) {
+        if (hasPage(page)) {
+            pages[page] = null;
+            counts[page] = 0;
+            pageCount--;
+        }
+    }
+
+    /**
+     * @return How many pages hold values
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * @return The page holding values that is furthest from {@code page}, or -1 if no page holds any
+     */
+    public int findFurthestPage(int page) {
+        int lowest = 0;
+        while (lowest < pages.length && pages[lowest] == null) {
+            lowest++;
+        }
+        if (lowest == pages.length) {
+            return -1;
+        }
+        int highest = pages.length - 1;
+        while (pages[highest] == null) {
+            highest--;
+        }
+        return Math.abs(page - lowest) >= Math.abs(highest - page) ? lowest : highest;
+    }
+}
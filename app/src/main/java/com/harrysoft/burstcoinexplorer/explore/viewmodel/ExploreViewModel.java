@@ -3,6 +3,7 @@ package com.harrysoft.burstcoinexplorer.explore.viewmodel;
 import android.app.Application;
 import android.arch.lifecycle.AndroidViewModel;
 import android.arch.lifecycle.LiveData;
+import android.arch.lifecycle.MediatorLiveData;
 import android.arch.lifecycle.MutableLiveData;
 import android.support.v4.widget.SwipeRefreshLayout;
 
@@ -10,52 +11,65 @@ import com.harry1453.burst.explorer.entity.BurstPrice;
 import com.harry1453.burst.explorer.repository.ConfigRepository;
 import com.harry1453.burst.explorer.service.BurstPriceService;
 import com.harrysoft.burstcoinexplorer.R;
+import com.harrysoft.burstcoinexplorer.explore.db.BlockchainStore;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+import com.harrysoft.burstcoinexplorer.explore.sync.ChainTipService;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreaker;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
 import com.harrysoft.burstcoinexplorer.util.CurrencyUtils;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 
-import burst.kit.entity.response.BlockResponse;
-import burst.kit.entity.response.BlocksResponse;
-import burst.kit.service.BurstNodeService;
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.schedulers.Schedulers;
 
 public class ExploreViewModel extends AndroidViewModel implements SwipeRefreshLayout.OnRefreshListener {
 
-    private final BurstNodeService burstNodeService;
     private final BurstPriceService burstPriceService;
     private final ConfigRepository configRepository;
+    private final ChainTipService chainTipService;
 
     private final CompositeDisposable compositeDisposable = new CompositeDisposable();
 
     private final MutableLiveData<Boolean> refreshing = new MutableLiveData<>();
-    private final MutableLiveData<List<BlockResponse>> recentBlocks = new MutableLiveData<>();
+    private final MediatorLiveData<List<StoredBlock>> recentBlocks = new MediatorLiveData<>();
     private final MutableLiveData<String> priceFiat = new MutableLiveData<>();
     private final MutableLiveData<String> priceBtc = new MutableLiveData<>();
     private final MutableLiveData<String> marketCapital = new MutableLiveData<>();
-    private final MutableLiveData<String> blockHeight = new MutableLiveData<>();
+    private final MediatorLiveData<String> blockHeight = new MediatorLiveData<>();
     private final MutableLiveData<String> recentBlocksLabel = new MutableLiveData<>();
 
     private String lastCurrencyCode = "";
+    private boolean recentBlocksFailed = false;
+    private boolean priceFailed = false;
 
-    ExploreViewModel(Application application, BurstNodeService burstNodeService, BurstPriceService burstPriceService, ConfigRepository configRepository) {
+    ExploreViewModel(Application application, BurstPriceService burstPriceService, ConfigRepository configRepository, BlockchainStore blockchainStore, ChainTipService chainTipService, CircuitBreakerRegistry circuitBreakers) {
         super(application);
-        this.burstNodeService = burstNodeService;
         this.burstPriceService = burstPriceService;
         this.configRepository = configRepository;
+        this.chainTipService = chainTipService;
 
         priceFiat.postValue(application.getString(R.string.price_fiat, application.getString(R.string.loading)));
 
+        // Show the blocks from last time straight away, the node's response updates them through the store
+        recentBlocks.addSource(blockchainStore.getRecentBlocks(), this::onStoredBlocks);
+        blockHeight.addSource(chainTipService.getChainTip(), this::onChainTip);
+
+        // Errors are not final: once a host that was failing answers again, load whatever failed
+        compositeDisposable.add(circuitBreakers.stateChanges()
+                .filter(CircuitBreaker.StateChange::isRecovery)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(change -> onHostRecovered()));
+
         refreshing.postValue(true);
         onRefresh();
     }
 
     private void getData() {
-        compositeDisposable.add(burstNodeService.getBlocks(0, 99)
+        compositeDisposable.add(chainTipService.refresh()
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(this::onRecentBlocks, t -> onRecentBlocksError()));
@@ -73,19 +87,29 @@ public class ExploreViewModel extends AndroidViewModel implements SwipeRefreshLa
                 .subscribe(this::onPrice, t -> onPriceError()));
     }
 
+    private void onHostRecovered() {
+        if (recentBlocksFailed) getData();
+        if (priceFailed) getPrice();
+    }
+
     private void onRecentBlocksError() {
+        recentBlocksFailed = true;
         refreshing.postValue(false);
-        blockHeight.postValue(getApplication().getString(R.string.loading_error));
+        if (recentBlocks.getValue() == null || recentBlocks.getValue().isEmpty()) {
+            blockHeight.postValue(getApplication().getString(R.string.loading_error));
+        }
         recentBlocksLabel.postValue(getApplication().getString(R.string.recent_blocks_error));
     }
 
     private void onPriceError() {
+        priceFailed = true;
         priceFiat.postValue(getApplication().getString(R.string.loading_error));
         priceBtc.postValue(getApplication().getString(R.string.loading_error));
         marketCapital.postValue(getApplication().getString(R.string.loading_error));
     }
 
     private void onPrice(BurstPrice burstPrice) {
+        priceFailed = false;
         if (burstPrice.currencyCode.equals("BTC")) {
             priceBtc.postValue(getApplication().getString(R.string.basic_data, CurrencyUtils.formatCurrencyAmount(burstPrice.currencyCode, burstPrice.price, true)));
         } else {
@@ -94,11 +118,24 @@ public class ExploreViewModel extends AndroidViewModel implements SwipeRefreshLa
         }
     }
 
-    private void onRecentBlocks(BlocksResponse blocks) {
+    private void onRecentBlocks() {
+        recentBlocksFailed = false;
         refreshing.postValue(false);
-        recentBlocks.postValue(Arrays.asList(blocks.getBlocks()));
         recentBlocksLabel.postValue(getApplication().getString(R.string.recent_blocks));
-        blockHeight.postValue(String.format(Locale.getDefault(), "%d", blocks.getBlocks()[0].getHeight()));
+    }
+
+    private void onStoredBlocks(List<StoredBlock> blocks) {
+        recentBlocks.setValue(blocks);
+        // Until the chain tip is known, show the newest block from last time
+        if (blockHeight.getValue() == null && blocks != null && !blocks.isEmpty()) {
+            blockHeight.setValue(String.format(Locale.getDefault(), "%d", blocks.get(0).getHeight()));
+        }
+    }
+
+    private void onChainTip(StoredBlock tip) {
+        if (tip != null) {
+            blockHeight.setValue(String.format(Locale.getDefault(), "%d", tip.getHeight()));
+        }
     }
 
     public void checkForCurrencyChange() {
@@ -120,7 +157,7 @@ public class ExploreViewModel extends AndroidViewModel implements SwipeRefreshLa
     }
 
     public LiveData<Boolean> getRefreshing() { return refreshing; }
-    public LiveData<List<BlockResponse>> getRecentBlocks() { return recentBlocks; }
+    public LiveData<List<StoredBlock>> getRecentBlocks() { return recentBlocks; }
     public LiveData<String> getPriceFiat() { return priceFiat; }
     public LiveData<String> getPriceBtc() { return priceBtc; }
     public LiveData<String> getMarketCapital() { return marketCapital; }
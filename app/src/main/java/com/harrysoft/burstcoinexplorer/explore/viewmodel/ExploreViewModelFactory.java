@@ -7,31 +7,36 @@ import android.support.annotation.NonNull;
 
 import com.harry1453.burst.explorer.repository.ConfigRepository;
 import com.harry1453.burst.explorer.service.BurstPriceService;
+import com.harrysoft.burstcoinexplorer.explore.db.BlockchainStore;
+import com.harrysoft.burstcoinexplorer.explore.sync.ChainTipService;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
 
 import javax.inject.Inject;
 
-import burst.kit.service.BurstNodeService;
-
 public class ExploreViewModelFactory extends ViewModelProvider.AndroidViewModelFactory {
 
     private final Application application;
-    private final BurstNodeService burstNodeService;
     private final BurstPriceService burstPriceService;
     private final ConfigRepository configRepository;
+    private final BlockchainStore blockchainStore;
+    private final ChainTipService chainTipService;
+    private final CircuitBreakerRegistry circuitBreakers;
 
     @Inject
-    ExploreViewModelFactory(Application application, BurstNodeService burstNodeService, BurstPriceService burstPriceService, ConfigRepository configRepository) {
+    ExploreViewModelFactory(Application application, BurstPriceService burstPriceService, ConfigRepository configRepository, BlockchainStore blockchainStore, ChainTipService chainTipService, CircuitBreakerRegistry circuitBreakers) {
         super(application);
         this.application = application;
-        this.burstNodeService = burstNodeService;
         this.burstPriceService = burstPriceService;
         this.configRepository = configRepository;
+        this.blockchainStore = blockchainStore;
+        this.chainTipService = chainTipService;
+        this.circuitBreakers = circuitBreakers;
     }
 
     @SuppressWarnings("unchecked")
     @NonNull
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
-        return (T) new ExploreViewModel(application, burstNodeService, burstPriceService, configRepository);
+        return (T) new ExploreViewModel(application, burstPriceService, configRepository, blockchainStore, chainTipService, circuitBreakers);
     }
 }
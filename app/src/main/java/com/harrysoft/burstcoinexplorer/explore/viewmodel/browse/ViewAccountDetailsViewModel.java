@@ -18,13 +18,14 @@ import com.harrysoft.burstcoinexplorer.R;
 import com.harrysoft.burstcoinexplorer.accounts.db.AccountsDatabase;
 import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
 import com.harrysoft.burstcoinexplorer.accounts.util.SavedAccountsUtils;
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
 import com.harrysoft.burstcoinexplorer.burst.BurstServiceExtensions;
 import com.harrysoft.burstcoinexplorer.burst.entity.AccountWithRewardRecipient;
 import com.harrysoft.burstcoinexplorer.main.router.ExplorerRouter;
+import com.harrysoft.burstcoinexplorer.util.BurstValueUtils;
 import com.harrysoft.burstcoinexplorer.util.NfcUtils;
 
 import burst.kit.entity.BurstAddress;
-import burst.kit.service.BurstNodeService;
 import io.reactivex.Completable;
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.CompositeDisposable;
@@ -32,7 +33,7 @@ import io.reactivex.schedulers.Schedulers;
 
 public class ViewAccountDetailsViewModel extends AndroidViewModel implements NfcAdapter.CreateNdefMessageCallback {
 
-    private final BurstNodeService burstNodeService;
+    private final BurstNodeClient burstNodeClient;
     private final AccountsDatabase accountsDatabase;
     private final BurstAddress address;
 
@@ -45,9 +46,9 @@ public class ViewAccountDetailsViewModel extends AndroidViewModel implements Nfc
     @Nullable
     private AccountWithRewardRecipient account;
 
-    ViewAccountDetailsViewModel(Application application, BurstNodeService burstNodeService, AccountsDatabase accountsDatabase, @NonNull BurstAddress address) {
+    ViewAccountDetailsViewModel(Application application, BurstNodeClient burstNodeClient, AccountsDatabase accountsDatabase, @NonNull BurstAddress address) {
         super(application);
-        this.burstNodeService = burstNodeService;
+        this.burstNodeClient = burstNodeClient;
         this.accountsDatabase = accountsDatabase;
         this.address = address;
 
@@ -64,7 +65,7 @@ public class ViewAccountDetailsViewModel extends AndroidViewModel implements Nfc
     }
 
     private void fetchAccount() {
-        compositeDisposable.add(BurstServiceExtensions.fetchAccountWithRewardRecipient(burstNodeService, burstNodeService.getAccount(address))
+        compositeDisposable.add(BurstServiceExtensions.fetchAccountWithRewardRecipient(burstNodeClient, address)
                 .subscribe(this::onAccount, t -> onAccount(null)));
     }
 
@@ -83,7 +84,7 @@ public class ViewAccountDetailsViewModel extends AndroidViewModel implements Nfc
             SavedAccount savedAccount =  new SavedAccount();
             savedAccount.setAddress(account.getAccount().getAccount());
             savedAccount.setLastKnownName(account.getAccount().getName());
-            savedAccount.setLastKnownBalance(account.getAccount().getBalanceNQT());
+            savedAccount.setLastKnownBalanceNQT(BurstValueUtils.toNQT(account.getAccount().getBalanceNQT()));
             return SavedAccountsUtils.saveAccount(getApplication(), accountsDatabase, savedAccount);
         } else {
             return SavedAccountsUtils.saveAccount(getApplication(), accountsDatabase, address);
@@ -7,26 +7,26 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import com.harrysoft.burstcoinexplorer.accounts.db.AccountsDatabase;
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
 
 import javax.inject.Inject;
 
 import burst.kit.entity.BurstAddress;
-import burst.kit.service.BurstNodeService;
 
 public class ViewAccountDetailsViewModelFactory extends ViewModelProvider.AndroidViewModelFactory {
 
     private final Application application;
-    private final BurstNodeService burstNodeService;
+    private final BurstNodeClient burstNodeClient;
     private final AccountsDatabase accountsDatabase;
 
     @Nullable
     private BurstAddress address = null;
 
     @Inject
-    ViewAccountDetailsViewModelFactory(Application application, BurstNodeService burstNodeService, AccountsDatabase accountsDatabase) {
+    ViewAccountDetailsViewModelFactory(Application application, BurstNodeClient burstNodeClient, AccountsDatabase accountsDatabase) {
         super(application);
         this.application = application;
-        this.burstNodeService = burstNodeService;
+        this.burstNodeClient = burstNodeClient;
         this.accountsDatabase = accountsDatabase;
     }
 
@@ -35,7 +35,7 @@ public class ViewAccountDetailsViewModelFactory extends ViewModelProvider.Androi
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
         if (address != null) {
-            return (T) new ViewAccountDetailsViewModel(application, burstNodeService, accountsDatabase, address);
+            return (T) new ViewAccountDetailsViewModel(application, burstNodeClient, accountsDatabase, address);
         } else {
             throw new IllegalArgumentException("Account ID not set.");
         }
@@ -8,18 +8,14 @@ import android.support.annotation.Nullable;
 import javax.inject.Inject;
 
 import burst.kit.entity.BurstAddress;
-import burst.kit.service.BurstNodeService;
 
 public class ViewAccountTransactionsViewModelFactory implements ViewModelProvider.Factory {
 
-    private final BurstNodeService burstNodeService;
-
     @Nullable
     private BurstAddress account;
 
     @Inject
-    public ViewAccountTransactionsViewModelFactory(BurstNodeService burstNodeService) {
-        this.burstNodeService = burstNodeService;
+    public ViewAccountTransactionsViewModelFactory() {
     }
 
     @SuppressWarnings("unchecked")
@@ -27,7 +23,7 @@ public class ViewAccountTransactionsViewModelFactory implements ViewModelProvide
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
         if (account != null) {
-            return (T) new ViewAccountTransactionsViewModel(burstNodeService, account);
+            return (T) new ViewAccountTransactionsViewModel(account);
         } else {
             throw new IllegalArgumentException("Account ID not set.");
         }
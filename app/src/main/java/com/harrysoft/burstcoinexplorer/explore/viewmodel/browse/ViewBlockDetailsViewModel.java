@@ -9,6 +9,7 @@ import android.nfc.NfcEvent;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
 import com.harrysoft.burstcoinexplorer.burst.BurstServiceExtensions;
 import com.harrysoft.burstcoinexplorer.burst.entity.BlockWithGenerator;
 import com.harrysoft.burstcoinexplorer.util.NfcUtils;
@@ -16,14 +17,13 @@ import com.harrysoft.burstcoinexplorer.util.NfcUtils;
 import java.math.BigInteger;
 
 import burst.kit.entity.BurstID;
-import burst.kit.service.BurstNodeService;
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.schedulers.Schedulers;
 
 public class ViewBlockDetailsViewModel extends ViewModel implements NfcAdapter.CreateNdefMessageCallback {
 
-    private final BurstNodeService burstNodeService;
+    private final BurstNodeClient burstNodeClient;
     private final CompositeDisposable compositeDisposable = new CompositeDisposable();
 
     private final MutableLiveData<BlockWithGenerator> blockData = new MutableLiveData<>();
@@ -33,12 +33,12 @@ public class ViewBlockDetailsViewModel extends ViewModel implements NfcAdapter.C
     @Nullable
     private Long blockNumber;
 
-    private ViewBlockDetailsViewModel(BurstNodeService burstNodeService, @NonNull BigInteger block, ConfigurationType configurationType) {
-        this.burstNodeService = burstNodeService;
+    private ViewBlockDetailsViewModel(BurstNodeClient burstNodeClient, @NonNull BigInteger block, ConfigurationType configurationType) {
+        this.burstNodeClient = burstNodeClient;
         switch (configurationType) {
             case BLOCK_ID:
                 this.blockID = new BurstID(block.toString());
-                compositeDisposable.add(BurstServiceExtensions.fetchBlockWithGenerator(burstNodeService, burstNodeService.getBlock(blockID))
+                compositeDisposable.add(BurstServiceExtensions.fetchBlockWithGenerator(burstNodeClient, burstNodeClient.getBlock(blockID))
                         .subscribeOn(Schedulers.io())
                         .observeOn(AndroidSchedulers.mainThread())
                         .subscribe(this::onBlockWithGenerator, t -> onError()));
@@ -46,7 +46,7 @@ public class ViewBlockDetailsViewModel extends ViewModel implements NfcAdapter.C
 
             case BLOCK_NUMBER:
                 this.blockNumber = block.longValue();
-                compositeDisposable.add(BurstServiceExtensions.fetchBlockWithGenerator(burstNodeService, burstNodeService.getBlock(blockNumber))
+                compositeDisposable.add(BurstServiceExtensions.fetchBlockWithGenerator(burstNodeClient, burstNodeClient.getBlock(blockNumber))
                         .subscribeOn(Schedulers.io())
                         .observeOn(AndroidSchedulers.mainThread())
                         .subscribe(this::onBlockWithGenerator, t -> onError()));
@@ -57,12 +57,12 @@ public class ViewBlockDetailsViewModel extends ViewModel implements NfcAdapter.C
         }
     }
 
-    static ViewBlockDetailsViewModel fromBlockID(BurstNodeService burstNodeService, @NonNull BigInteger blockID) {
-        return new ViewBlockDetailsViewModel(burstNodeService, blockID, ConfigurationType.BLOCK_ID);
+    static ViewBlockDetailsViewModel fromBlockID(BurstNodeClient burstNodeClient, @NonNull BigInteger blockID) {
+        return new ViewBlockDetailsViewModel(burstNodeClient, blockID, ConfigurationType.BLOCK_ID);
     }
 
-    static ViewBlockDetailsViewModel fromBlockNumber(BurstNodeService burstNodeService, @NonNull BigInteger blockNumber) {
-        return new ViewBlockDetailsViewModel(burstNodeService, blockNumber, ConfigurationType.BLOCK_NUMBER);
+    static ViewBlockDetailsViewModel fromBlockNumber(BurstNodeClient burstNodeClient, @NonNull BigInteger blockNumber) {
+        return new ViewBlockDetailsViewModel(burstNodeClient, blockNumber, ConfigurationType.BLOCK_NUMBER);
     }
 
     private void onError() {
@@ -5,15 +5,15 @@ import android.arch.lifecycle.ViewModelProvider;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+
 import java.math.BigInteger;
 
 import javax.inject.Inject;
 
-import burst.kit.service.BurstNodeService;
-
 public class ViewBlockDetailsViewModelFactory implements ViewModelProvider.Factory {
 
-    private final BurstNodeService burstNodeService;
+    private final BurstNodeClient burstNodeClient;
 
     @Nullable
     private BigInteger blockID;
@@ -21,8 +21,8 @@ public class ViewBlockDetailsViewModelFactory implements ViewModelProvider.Facto
     private BigInteger blockNumber;
 
     @Inject
-    ViewBlockDetailsViewModelFactory(BurstNodeService burstNodeService) {
-        this.burstNodeService = burstNodeService;
+    ViewBlockDetailsViewModelFactory(BurstNodeClient burstNodeClient) {
+        this.burstNodeClient = burstNodeClient;
     }
 
     @SuppressWarnings("unchecked")
@@ -30,9 +30,9 @@ public class ViewBlockDetailsViewModelFactory implements ViewModelProvider.Facto
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
         if (blockID != null) {
-            return (T) ViewBlockDetailsViewModel.fromBlockID(burstNodeService, blockID);
+            return (T) ViewBlockDetailsViewModel.fromBlockID(burstNodeClient, blockID);
         } else if (blockNumber != null) {
-            return (T) ViewBlockDetailsViewModel.fromBlockNumber(burstNodeService, blockNumber);
+            return (T) ViewBlockDetailsViewModel.fromBlockNumber(burstNodeClient, blockNumber);
         } else {
             throw new IllegalArgumentException("No parameters set.");
         }
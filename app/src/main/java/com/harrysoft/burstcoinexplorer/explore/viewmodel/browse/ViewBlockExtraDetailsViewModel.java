@@ -8,6 +8,7 @@ import android.nfc.NfcAdapter;
 import android.nfc.NfcEvent;
 import android.support.annotation.StringRes;
 
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
 import com.harrysoft.burstcoinexplorer.util.NfcUtils;
 
 import java.util.Arrays;
@@ -16,7 +17,6 @@ import java.util.Locale;
 
 import burst.kit.entity.BurstID;
 import burst.kit.entity.response.BlockResponse;
-import burst.kit.service.BurstNodeService;
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.schedulers.Schedulers;
@@ -32,9 +32,9 @@ public class ViewBlockExtraDetailsViewModel extends ViewModel implements NfcAdap
     private final MutableLiveData<String> blockNumberText = new MutableLiveData<>();
     private final MutableLiveData<String> blockRewardText = new MutableLiveData<>();
 
-    ViewBlockExtraDetailsViewModel(BurstNodeService burstNodeService, BurstID blockID) {
+    ViewBlockExtraDetailsViewModel(BurstNodeClient burstNodeClient, BurstID blockID) {
         this.blockID = blockID;
-        compositeDisposable.add(burstNodeService.getBlock(blockID)
+        compositeDisposable.add(burstNodeClient.getBlock(blockID)
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(this::onBlock, t -> onError()));
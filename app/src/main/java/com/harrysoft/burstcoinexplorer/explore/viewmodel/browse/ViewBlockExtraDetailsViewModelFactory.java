@@ -5,21 +5,22 @@ import android.arch.lifecycle.ViewModelProvider;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+
 import javax.inject.Inject;
 
 import burst.kit.entity.BurstID;
-import burst.kit.service.BurstNodeService;
 
 public class ViewBlockExtraDetailsViewModelFactory implements ViewModelProvider.Factory {
 
-    private final BurstNodeService burstNodeService;
+    private final BurstNodeClient burstNodeClient;
 
     @Nullable
     private BurstID blockID;
 
     @Inject
-    ViewBlockExtraDetailsViewModelFactory(BurstNodeService burstNodeService) {
-        this.burstNodeService = burstNodeService;
+    ViewBlockExtraDetailsViewModelFactory(BurstNodeClient burstNodeClient) {
+        this.burstNodeClient = burstNodeClient;
     }
 
     @SuppressWarnings("unchecked")
@@ -27,7 +28,7 @@ public class ViewBlockExtraDetailsViewModelFactory implements ViewModelProvider.
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
         if (blockID != null) {
-            return (T) new ViewBlockExtraDetailsViewModel(burstNodeService, blockID);
+            return (T) new ViewBlockExtraDetailsViewModel(burstNodeClient, blockID);
         } else {
             throw new IllegalArgumentException("Block ID not set.");
         }
@@ -7,11 +7,11 @@ import android.nfc.NdefMessage;
 import android.nfc.NfcAdapter;
 import android.nfc.NfcEvent;
 
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
 import com.harrysoft.burstcoinexplorer.util.NfcUtils;
 
 import burst.kit.entity.BurstID;
 import burst.kit.entity.response.TransactionResponse;
-import burst.kit.service.BurstNodeService;
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.CompositeDisposable;
 import io.reactivex.schedulers.Schedulers;
@@ -24,9 +24,9 @@ public class ViewTransactionDetailsViewModel extends ViewModel implements NfcAda
 
     private final MutableLiveData<TransactionResponse> transaction = new MutableLiveData<>();
 
-    public ViewTransactionDetailsViewModel(BurstNodeService burstNodeService, BurstID transactionID) {
+    public ViewTransactionDetailsViewModel(BurstNodeClient burstNodeClient, BurstID transactionID) {
         this.transactionID = transactionID;
-        compositeDisposable.add(burstNodeService.getTransaction(transactionID)
+        compositeDisposable.add(burstNodeClient.getTransaction(transactionID)
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
                 .subscribe(this::onTransaction, t -> onError()));
@@ -5,21 +5,22 @@ import android.arch.lifecycle.ViewModelProvider;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+
 import javax.inject.Inject;
 
 import burst.kit.entity.BurstID;
-import burst.kit.service.BurstNodeService;
 
 public class ViewTransactionDetailsViewModelFactory implements ViewModelProvider.Factory {
 
-    private final BurstNodeService burstNodeService;
+    private final BurstNodeClient burstNodeClient;
 
     @Nullable
     private BurstID transactionID;
 
     @Inject
-    public ViewTransactionDetailsViewModelFactory(BurstNodeService burstNodeService) {
-        this.burstNodeService = burstNodeService;
+    public ViewTransactionDetailsViewModelFactory(BurstNodeClient burstNodeClient) {
+        this.burstNodeClient = burstNodeClient;
     }
 
     @SuppressWarnings("unchecked")
@@ -27,7 +28,7 @@ public class ViewTransactionDetailsViewModelFactory implements ViewModelProvider
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
         if (transactionID != null) {
-            return (T) new ViewTransactionDetailsViewModel(burstNodeService, transactionID);
+            return (T) new ViewTransactionDetailsViewModel(burstNodeClient, transactionID);
         } else {
             throw new IllegalArgumentException("No parameters set.");
         }
@@ -4,91 +4,104 @@ import android.app.Application;
 import android.arch.lifecycle.AndroidViewModel;
 import android.arch.lifecycle.LiveData;
 import android.arch.lifecycle.MutableLiveData;
-import android.util.ArrayMap;
-import android.widget.Toast;
 
 import com.harrysoft.burstcoinexplorer.R;
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
 import com.harrysoft.burstcoinexplorer.explore.entity.TransactionDisplayType;
+import com.harrysoft.burstcoinexplorer.explore.entity.TransactionListItem;
+import com.harrysoft.burstcoinexplorer.explore.util.PagedList;
+import com.harrysoft.burstcoinexplorer.explore.util.PipelinedLoader;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestPriority;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
 
 import java.util.List;
-import java.util.Map;
 
-import burst.kit.entity.BurstID;
 import burst.kit.entity.response.TransactionResponse;
-import burst.kit.service.BurstNodeService;
-import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.Observable;
+import io.reactivex.Single;
+import io.reactivex.android.schedulers.AndroidSchedulers;
 
-public class ViewTransactionsViewModel extends AndroidViewModel {
+public class ViewTransactionsViewModel extends AndroidViewModel implements PagedList.LoadListener<TransactionListItem> {
 
-    private final BurstNodeService burstNodeService;
-    private final TransactionDisplayType displayType;
-    private final List<BurstID> transactionIDs;
+    private static final int PAGE_SIZE = 25;
+    private static final int PREFETCH_DISTANCE = 15;
+    private static final int MAX_PAGES = 8;
+    static final int DEFAULT_LOAD_CONCURRENCY = 6;
 
-    private final CompositeDisposable compositeDisposable = new CompositeDisposable();
+    private final IdLoader idLoader;
+    private final PipelinedLoader<Long, TransactionResponse> transactionLoader;
+    private final PipelinedLoader<Long, TransactionResponse> prefetchLoader;
+    private final TransactionDisplayType displayType;
 
-    private final MutableLiveData<Map<BurstID, TransactionResponse>> transactionsData = new MutableLiveData<>();
     private final MutableLiveData<Integer> transactionsLabel = new MutableLiveData<>();
 
-    private final Map<BurstID, TransactionResponse> transactions = new ArrayMap<>();
+    private final PagedList<TransactionListItem> transactions;
+
+    interface IdLoader {
+        /**
+         * @return Up to {@code count} transaction IDs, as stored by {@link BurstIDUtils}, starting at {@code firstIndex}.
+         * Fewer than {@code count} means there are no more.
+         */
+        Single<List<Long>> load(int firstIndex, int count);
+    }
 
-    ViewTransactionsViewModel(Application application, TransactionDisplayType displayType, BurstNodeService burstNodeService, List<BurstID> transactionIDs) {
+    /**
+     * @param idLoader Loads a range of the IDs of the transactions to show
+     * @param knownCount The number of transactions, or {@link PagedList#UNKNOWN_COUNT} to page through the IDs until they run out
+     */
+    ViewTransactionsViewModel(Application application, TransactionDisplayType displayType, BurstNodeClient burstNodeClient, IdLoader idLoader, int knownCount, int loadConcurrency) {
         super(application);
         this.displayType = displayType;
-        this.burstNodeService = burstNodeService;
-        this.transactionIDs = transactionIDs;
-
-        if (transactionIDs.size() == 0) {
+        this.idLoader = idLoader;
+        // The client already retries and fails over each call, so a row that still fails is left for the next read
+        RetryPolicy noRetries = RetryPolicy.withMaxAttempts(1);
+        this.transactionLoader = new PipelinedLoader<>(burstNodeClient::getTransactionByID, loadConcurrency, noRetries);
+        this.prefetchLoader = new PipelinedLoader<>(burstNodeClient.withPriority(RequestPriority.PREFETCH)::getTransactionByID, loadConcurrency, noRetries);
+        this.transactions = new PagedList<>(this::loadTransactions, knownCount, PAGE_SIZE, PREFETCH_DISTANCE, MAX_PAGES, AndroidSchedulers.mainThread());
+        transactions.setLoadListener(this);
+
+        if (knownCount == 0) {
             transactionsLabel.postValue(R.string.transactions_empty);
         } else {
-            loadMoreTransactions();
+            transactionsLabel.postValue(R.string.transactions_loading);
+            transactions.loadAround(0);
         }
     }
 
-    private boolean loading;
-    private int displayedItems = 0;
-
-    public void loadMoreTransactions() {
-        if (!loading) {
-            loading = true;
-            transactionsLabel.postValue(R.string.transactions_loading);
+    private Observable<TransactionListItem> loadTransactions(int firstIndex, int count) {
+        // Only the page on screen is waited on, the pages either side of it are loaded ahead of scrolling
+        int lastAccessed = transactions.getLastAccessed();
+        PipelinedLoader<Long, TransactionResponse> loader = lastAccessed >= firstIndex && lastAccessed < firstIndex + count ? transactionLoader : prefetchLoader;
+        // Each transaction is shown as it arrives. The loader stops at the first one that fails, which the list loads again later.
+        return idLoader.load(firstIndex, count)
+                .flatMapObservable(loader::load)
+                .concatMap(result -> result.isFailure()
+                        // Completing here would look like the end of the list
+                        ? Observable.<TransactionListItem>error(result.getError())
+                        // Converted here, off the main thread, so binding the row only formats it
+                        : Observable.just(new TransactionListItem(result.getValue())));
+    }
 
-            int tempDisplayedItems = displayedItems + 25;
-            if (tempDisplayedItems > transactionIDs.size()) {
-                tempDisplayedItems = transactionIDs.size();
-            }
-
-            int transactionsToAdd = tempDisplayedItems - displayedItems;
-
-            ArrayMap<BurstID, TransactionResponse> newTransactions = new ArrayMap<>();
-
-            for (int i = 1; i <= transactionsToAdd; i++) {
-                BurstID transactionID = transactionIDs.get(displayedItems + i - 1); // get counts from 0, i counts from 1
-                compositeDisposable.add(burstNodeService.getTransaction(transactionID)
-                        .subscribe(transaction -> {
-                            newTransactions.put(transactionID, transaction);
-                            if (newTransactions.size() == transactionsToAdd) {
-                                finaliseTransactionLoad(newTransactions, transactionsToAdd);
-                            }
-                        }, error -> Toast.makeText(getApplication(), "Error loading transaction #" + transactionID.toString(), Toast.LENGTH_LONG).show()));
-            }
-        }
+    @Override
+    public void onPageLoaded(int firstIndex, List<TransactionListItem> items) {
+        transactionsLabel.postValue(transactions.size() == 0 ? R.string.transactions_empty : R.string.transactions);
     }
 
-    private void finaliseTransactionLoad(Map<BurstID, TransactionResponse> newTransactions, int newDisplayedItems) {
-        displayedItems += newDisplayedItems;
-        transactions.putAll(newTransactions);
-        transactionsData.postValue(transactions);
-        loading = false;
-        transactionsLabel.postValue(R.string.transactions);
+    @Override
+    public void onLoadFailed(Throwable error) {
+        transactionsLabel.postValue(R.string.transactions_error);
     }
 
     @Override
     protected void onCleared() {
-        compositeDisposable.dispose();
+        transactions.dispose();
     }
 
-    public LiveData<Map<BurstID, TransactionResponse>> getTransactions() { return transactionsData; }
+    /**
+     * @return The transactions, only to be used on the main thread
+     */
+    public PagedList<TransactionListItem> getTransactions() { return transactions; }
     public LiveData<Integer> getTransactionsLabel() { return transactionsLabel; }
-    public List<BurstID> getTransactionIDs() { return transactionIDs; }
     public TransactionDisplayType getDisplayType() { return displayType; }
 }
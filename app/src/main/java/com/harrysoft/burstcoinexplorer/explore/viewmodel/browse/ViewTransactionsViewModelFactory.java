@@ -6,45 +6,80 @@ import android.arch.lifecycle.ViewModelProvider;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
 import com.harrysoft.burstcoinexplorer.explore.entity.TransactionDisplayType;
+import com.harrysoft.burstcoinexplorer.explore.sync.AccountHistorySync;
+import com.harrysoft.burstcoinexplorer.explore.util.PagedList;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
 
+import burst.kit.entity.BurstAddress;
 import burst.kit.entity.BurstID;
-import burst.kit.service.BurstNodeService;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 
 public class ViewTransactionsViewModelFactory extends ViewModelProvider.AndroidViewModelFactory {
 
     private final Application application;
-    private final BurstNodeService burstNodeService;
+    private final BurstNodeClient burstNodeClient;
+    private final AccountHistorySync accountHistorySync;
 
     @Nullable
     private TransactionDisplayType transactionDisplayType = null;
     @Nullable
-    private List<BurstID> transactionIDs = null;
+    private ViewTransactionsViewModel.IdLoader idLoader = null;
+    private int knownCount = PagedList.UNKNOWN_COUNT;
+    private int loadConcurrency = ViewTransactionsViewModel.DEFAULT_LOAD_CONCURRENCY;
 
     @Inject
-    public ViewTransactionsViewModelFactory(Application application, BurstNodeService burstNodeService) {
+    public ViewTransactionsViewModelFactory(Application application, BurstNodeClient burstNodeClient, AccountHistorySync accountHistorySync) {
         super(application);
         this.application = application;
-        this.burstNodeService = burstNodeService;
+        this.burstNodeClient = burstNodeClient;
+        this.accountHistorySync = accountHistorySync;
     }
 
     @SuppressWarnings("unchecked")
     @NonNull
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
-        if (transactionDisplayType != null && transactionIDs != null) {
-            return (T) new ViewTransactionsViewModel(application, transactionDisplayType, burstNodeService, transactionIDs);
+        if (transactionDisplayType != null && idLoader != null) {
+            return (T) new ViewTransactionsViewModel(application, transactionDisplayType, burstNodeClient, idLoader, knownCount, loadConcurrency);
         } else {
             throw new IllegalArgumentException("Factory not setup.");
         }
     }
 
+    /**
+     * Shows a list of transactions that is already known.
+     */
     public void setup(TransactionDisplayType transactionDisplayType, List<BurstID> transactionIDs) {
         this.transactionDisplayType = transactionDisplayType;
-        this.transactionIDs = transactionIDs;
+        List<Long> ids = new ArrayList<>(transactionIDs.size());
+        for (BurstID transactionID : transactionIDs) {
+            ids.add(BurstIDUtils.toLong(transactionID));
+        }
+        this.idLoader = (firstIndex, count) -> Single.just(ids.subList(Math.min(firstIndex, ids.size()), Math.min(firstIndex + count, ids.size())));
+        this.knownCount = ids.size();
+    }
+
+    /**
+     * Shows the account's transactions from the local copy of its history, which only fetches from the node what is
+     * newer than the last visit, or older than what is held.
+     */
+    public void setup(TransactionDisplayType transactionDisplayType, BurstAddress account) {
+        this.transactionDisplayType = transactionDisplayType;
+        long accountId = BurstIDUtils.toLong(account.getID());
+        this.idLoader = (firstIndex, count) -> Single.fromCallable(() -> accountHistorySync.loadTransactionIDs(accountId, firstIndex, count))
+                .subscribeOn(Schedulers.io());
+        this.knownCount = PagedList.UNKNOWN_COUNT;
+    }
+
+    public void setLoadConcurrency(int loadConcurrency) {
+        this.loadConcurrency = loadConcurrency;
     }
 }
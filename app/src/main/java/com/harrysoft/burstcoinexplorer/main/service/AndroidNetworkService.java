@@ -3,28 +3,83 @@ package com.harrysoft.burstcoinexplorer.main.service;
 import android.content.Context;
 import android.support.annotation.NonNull;
 
-import com.android.volley.RequestQueue;
-import com.android.volley.toolbox.StringRequest;
-import com.android.volley.toolbox.Volley;
 import com.harry1453.burst.explorer.service.NetworkService;
+import com.harrysoft.burstcoinexplorer.main.service.cache.CachePolicy;
+import com.harrysoft.burstcoinexplorer.main.service.cache.ResponseCache;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestPriority;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestScheduler;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HttpTransport;
+import com.harrysoft.burstcoinexplorer.main.service.transport.VolleyTransport;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.harrysoft.burstcoinexplorer.util.SingleFlight;
+
+import java.io.File;
 
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 
 public final class AndroidNetworkService implements NetworkService {
 
-    private final RequestQueue requestQueue;
+    private static final String RESPONSE_CACHE_DIRECTORY = "responses";
+    private static final long RESPONSE_CACHE_SIZE = 10 * 1024 * 1024;
+
+    private final HttpTransport transport;
+    private final ResponseCache responseCache;
+    private final CachePolicy cachePolicy;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RetryPolicy retryPolicy;
+    private final RequestScheduler scheduler;
+    private final RequestPriority priority;
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    /**
+     * @param priority The priority of every request made through this service, see {@link #withPriority(RequestPriority)} for others
+     */
+    public AndroidNetworkService(HttpTransport transport, ResponseCache responseCache, CachePolicy cachePolicy, CircuitBreakerRegistry circuitBreakers, RetryPolicy retryPolicy, RequestScheduler scheduler, RequestPriority priority) {
+        this.transport = transport;
+        this.responseCache = responseCache;
+        this.cachePolicy = cachePolicy;
+        this.circuitBreakers = circuitBreakers;
+        this.retryPolicy = retryPolicy;
+        this.scheduler = scheduler;
+        this.priority = priority;
+    }
 
     public AndroidNetworkService(Context context) {
-        this.requestQueue = Volley.newRequestQueue(context);
+        this(new VolleyTransport(context), createResponseCache(context), CachePolicy.defaultPolicy(), createCircuitBreakerRegistry(), RetryPolicy.defaultPolicy(), RequestScheduler.defaultScheduler(), RequestPriority.INTERACTIVE);
+    }
+
+    /**
+     * @return A service sharing this one's cache and scheduler, whose requests are made at {@code priority}
+     */
+    public AndroidNetworkService withPriority(RequestPriority priority) {
+        return new AndroidNetworkService(transport, responseCache, cachePolicy, circuitBreakers, retryPolicy, scheduler, priority);
+    }
+
+    public static ResponseCache createResponseCache(Context context) {
+        return new ResponseCache(new File(context.getCacheDir(), RESPONSE_CACHE_DIRECTORY), RESPONSE_CACHE_SIZE, Clock.SYSTEM);
+    }
+
+    public static CircuitBreakerRegistry createCircuitBreakerRegistry() {
+        return new CircuitBreakerRegistry(CircuitBreakerRegistry.DEFAULT_FAILURE_THRESHOLD, CircuitBreakerRegistry.DEFAULT_OPEN_DURATION, Clock.SYSTEM);
     }
 
     @NonNull
     @Override
     public Single<String> fetchData(@NonNull String url) {
-        return Single.create(emitter -> {
-            StringRequest request = new StringRequest(url, emitter::onSuccess, emitter::onError);
-            requestQueue.add(request);
-            emitter.setCancellable(request::cancel);
-        });
+        return Single.defer(() -> {
+            String cachedResponse = responseCache.get(url);
+            if (cachedResponse != null) {
+                return Single.just(cachedResponse);
+            }
+            // The breaker is checked again before each retry, so that retries stop as soon as the circuit opens
+            return singleFlight.execute(url, () -> retryPolicy.apply(circuitBreakers.get(url).wrap(scheduler.schedule(priority, transport.get(url))))
+                    .observeOn(Schedulers.io())
+                    .doOnSuccess(response -> responseCache.put(url, response, cachePolicy.getTimeToLive(url, response))));
+        })
+                // The cache is read from disk, which must not happen on the thread that subscribes
+                .subscribeOn(Schedulers.io());
     }
 }
@@ -0,0 +1,73 @@
+package com.harrysoft.burstcoinexplorer.main.service.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Decides how long a response may be served from the {@link ResponseCache}. The first rule matching the URL wins.
+ * Only the price, network and events APIs pass through here, node responses are cached by the node client.
+ */
+public class CachePolicy {
+
+    public static final long NO_CACHE = 0;
+    public static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+    private static final Pattern ERROR_PATTERN = Pattern.compile("\"errorCode\"\\s*:");
+
+    private final List<Rule> rules;
+
+    public CachePolicy(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static CachePolicy defaultPolicy() {
+        List<Rule> rules = new ArrayList<>();
+        rules.add(fixedRule("(?i)price|ticker|coinmarketcap", TimeUnit.SECONDS.toMillis(30)));
+        rules.add(fixedRule("(?i)network|peers|status", TimeUnit.SECONDS.toMillis(30)));
+        rules.add(fixedRule("(?i)events", TimeUnit.MINUTES.toMillis(10)));
+        return new CachePolicy(rules);
+    }
+
+    public static Rule fixedRule(String urlRegex, long timeToLive) {
+        return new FixedRule(Pattern.compile(urlRegex), timeToLive);
+    }
+
+    public long getTimeToLive(String url, String body) {
+        if (ERROR_PATTERN.matcher(body).find()) {
+            return NO_CACHE;
+        }
+        for (Rule rule : rules) {
+            if (rule.matches(url)) {
+                return rule.getTimeToLive(body);
+            }
+        }
+        return NO_CACHE;
+    }
+
+    public interface Rule {
+        boolean matches(String url);
+        long getTimeToLive(String body);
+    }
+
+    private static class FixedRule implements Rule {
+        private final Pattern urlPattern;
+        private final long timeToLive;
+
+        private FixedRule(Pattern urlPattern, long timeToLive) {
+            this.urlPattern = urlPattern;
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public boolean matches(String url) {
+            return urlPattern.matcher(url).find();
+        }
+
+        @Override
+        public long getTimeToLive(String body) {
+            return timeToLive;
+        }
+    }
+}
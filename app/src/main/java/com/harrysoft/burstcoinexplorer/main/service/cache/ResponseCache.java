@@ -0,0 +1,252 @@
+package com.harrysoft.burstcoinexplorer.main.service.cache;
+
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Disk-backed LRU cache of response bodies, keyed by URL.
+ * The most recently used entries are also held in memory so that hits do not touch the disk.
+ */
+public class ResponseCache {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int MEMORY_ENTRIES = 32;
+    private static final long MAX_MEMORY_ENTRY_SIZE = 256 * 1024;
+
+    private final File directory;
+    private final long maxSize;
+    private final Clock clock;
+
+    private final LinkedHashMap<String, DiskEntry> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, MemoryEntry> memoryEntries = new LinkedHashMap<String, MemoryEntry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MemoryEntry> eldest) {
+            return size() > MEMORY_ENTRIES;
+        }
+    };
+
+    private long size;
+    private boolean initialized;
+
+    public ResponseCache(File directory, long maxSize, Clock clock) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public synchronized String get(String url) {
+        long now = clock.currentTimeMillis();
+
+        MemoryEntry memoryEntry = memoryEntries.get(url);
+        if (memoryEntry != null) {
+            if (memoryEntry.expiresAt > now) {
+                diskEntries.get(url); // Keep the disk LRU order in step
+                return memoryEntry.body;
+            }
+            remove(url);
+            return null;
+        }
+
+        initialize();
+        DiskEntry diskEntry = diskEntries.get(url);
+        if (diskEntry == null) {
+            return null;
+        } else if (diskEntry.expiresAt <= now) {
+            remove(url);
+            return null;
+        }
+
+        String body = readBody(diskEntry.file, url);
+        if (body == null) {
+            remove(url);
+            return null;
+        }
+        //noinspection ResultOfMethodCallIgnored
+        diskEntry.file.setLastModified(now);
+        if (body.length() <= MAX_MEMORY_ENTRY_SIZE) {
+            memoryEntries.put(url, new MemoryEntry(body, diskEntry.expiresAt));
+        }
+        return body;
+    }
+
+    /**
+     * @param timeToLive How long the response stays valid in milliseconds. {@link CachePolicy#NO_CACHE} skips caching and {@link CachePolicy#NEVER_EXPIRES} keeps it until evicted.
+     */
+    public synchronized void put(String url, String body, long timeToLive) {
+        if (timeToLive <= CachePolicy.NO_CACHE) {
+            return;
+        }
+        initialize();
+        remove(url);
+
+        long now = clock.currentTimeMillis();
+        long expiresAt = timeToLive == CachePolicy.NEVER_EXPIRES || now > Long.MAX_VALUE - timeToLive ? Long.MAX_VALUE : now + timeToLive;
+        File file = new File(directory, fileName(url));
+        if (!writeEntry(file, url, expiresAt, body)) {
+            return;
+        }
+        DiskEntry diskEntry = new DiskEntry(file, file.length(), expiresAt);
+        diskEntries.put(url, diskEntry);
+        size += diskEntry.size;
+        if (body.length() <= MAX_MEMORY_ENTRY_SIZE) {
+            memoryEntries.put(url, new MemoryEntry(body, expiresAt));
+        }
+        trimToSize();
+    }
+
+    public synchronized void clear() {
+        initialize();
+        for (DiskEntry diskEntry : diskEntries.values()) {
+            //noinspection ResultOfMethodCallIgnored
+            diskEntry.file.delete();
+        }
+        diskEntries.clear();
+        memoryEntries.clear();
+        size = 0;
+    }
+
+    public synchronized long size() {
+        initialize();
+        return size;
+    }
+
+    private void remove(String url) {
+        memoryEntries.remove(url);
+        DiskEntry diskEntry = diskEntries.remove(url);
+        if (diskEntry != null) {
+            size -= diskEntry.size;
+            //noinspection ResultOfMethodCallIgnored
+            diskEntry.file.delete();
+        }
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, DiskEntry>> iterator = diskEntries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, DiskEntry> eldest = iterator.next();
+            iterator.remove();
+            memoryEntries.remove(eldest.getKey());
+            size -= eldest.getValue().size;
+            //noinspection ResultOfMethodCallIgnored
+            eldest.getValue().file.delete();
+        }
+    }
+
+    private void initialize() {
+        if (initialized) return;
+        initialized = true;
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            return;
+        }
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        // Restore the LRU order from the last access times
+        List<File> sortedFiles = new ArrayList<>(files.length);
+        Collections.addAll(sortedFiles, files);
+        Collections.sort(sortedFiles, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+
+        long now = clock.currentTimeMillis();
+        for (File file : sortedFiles) {
+            try (DataInputStream inputStream = new DataInputStream(new FileInputStream(file))) {
+                String url = inputStream.readUTF();
+                long expiresAt = inputStream.readLong();
+                if (expiresAt > now) {
+                    DiskEntry diskEntry = new DiskEntry(file, file.length(), expiresAt);
+                    diskEntries.put(url, diskEntry);
+                    size += diskEntry.size;
+                    continue;
+                }
+            } catch (IOException ignored) {
+            }
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+        trimToSize();
+    }
+
+    private static boolean writeEntry(File file, String url, long expiresAt, String body) {
+        try (DataOutputStream outputStream = new DataOutputStream(new FileOutputStream(file))) {
+            outputStream.writeUTF(url);
+            outputStream.writeLong(expiresAt);
+            outputStream.write(body.getBytes(UTF_8));
+            return true;
+        } catch (IOException e) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            return false;
+        }
+    }
+
+    private static String readBody(File file, String url) {
+        try (DataInputStream inputStream = new DataInputStream(new FileInputStream(file))) {
+            if (!url.equals(inputStream.readUTF())) {
+                return null;
+            }
+            inputStream.readLong();
+            ByteArrayOutputStream body = new ByteArrayOutputStream((int) Math.max(0, file.length()));
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            return new String(body.toByteArray(), UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String fileName(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(url.getBytes(UTF_8));
+            StringBuilder name = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(url.hashCode());
+        }
+    }
+
+    private static class DiskEntry {
+        private final File file;
+        private final long size;
+        private final long expiresAt;
+
+        private DiskEntry(File file, long size, long expiresAt) {
+            this.file = file;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class MemoryEntry {
+        private final String body;
+        private final long expiresAt;
+
+        private MemoryEntry(String body, long expiresAt) {
+            this.body = body;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
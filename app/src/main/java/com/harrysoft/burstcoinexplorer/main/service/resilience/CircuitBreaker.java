@@ -0,0 +1,181 @@
+package com.harrysoft.burstcoinexplorer.main.service.resilience;
+
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import io.reactivex.Single;
+
+/**
+ * Stops requests to a host that keeps failing. After enough failures in a row the circuit opens and requests fail
+ * straight away with {@link CircuitOpenException}, giving the host time to recover. Once that time has passed the
+ * circuit is half open: a single request is let through as a probe, and its outcome closes the circuit or opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    interface Listener {
+        void onStateChange(StateChange change);
+    }
+
+    private final String host;
+    private final int failureThreshold;
+    private final long openDuration;
+    private final Clock clock;
+    private final Listener listener;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt;
+    private boolean probeInFlight = false;
+
+    CircuitBreaker(String host, int failureThreshold, long openDuration, Clock clock, Listener listener) {
+        this.host = host;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.listener = listener;
+    }
+
+    /**
+     * Admits the request and reports its outcome, or fails with {@link CircuitOpenException} without subscribing to
+     * {@code source} if the circuit is open.
+     */
+    public <T> Single<T> wrap(Single<T> source) {
+        return Single.defer(() -> tryAcquire() ? record(source) : Single.error(new CircuitOpenException(host)));
+    }
+
+    /**
+     * Reports the outcome of a request already admitted by {@link #tryAcquire()}. Only errors worth retrying count as
+     * failures, any other answer shows that the host is up.
+     */
+    public <T> Single<T> record(Single<T> source) {
+        return source
+                .doOnSuccess(result -> onSuccess())
+                .doOnError(error -> {
+                    if (RetryPolicy.isRetryable(error)) {
+                        onFailure();
+                    } else {
+                        onSuccess();
+                    }
+                })
+                .doOnDispose(this::release);
+    }
+
+    /**
+     * @return Whether a request may be sent now. If it may, its outcome must be reported.
+     */
+    public boolean tryAcquire() {
+        StateChange change;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    return true;
+
+                case OPEN:
+                    if (clock.currentTimeMillis() - openedAt < openDuration) {
+                        return false;
+                    }
+                    change = setState(State.HALF_OPEN);
+                    probeInFlight = true;
+                    break;
+
+                default:
+                    if (probeInFlight) {
+                        return false;
+                    }
+                    probeInFlight = true;
+                    return true;
+            }
+        }
+        notifyListener(change);
+        return true;
+    }
+
+    public void onSuccess() {
+        StateChange change;
+        synchronized (this) {
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            change = setState(State.CLOSED);
+        }
+        notifyListener(change);
+    }
+
+    public void onFailure() {
+        StateChange change = null;
+        synchronized (this) {
+            probeInFlight = false;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && ++consecutiveFailures >= failureThreshold)) {
+                openedAt = clock.currentTimeMillis();
+                change = setState(State.OPEN);
+            }
+        }
+        notifyListener(change);
+    }
+
+    /**
+     * Gives up a half open probe that ended without an outcome, such as a cancelled request, so that another can be sent.
+     */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return The change, or null if the circuit was already in this state
+     */
+    private StateChange setState(State newState) {
+        if (state == newState) {
+            return null;
+        }
+        StateChange change = new StateChange(host, state, newState);
+        state = newState;
+        return change;
+    }
+
+    private void notifyListener(StateChange change) {
+        if (change != null && listener != null) {
+            listener.onStateChange(change);
+        }
+    }
+
+    public static class StateChange {
+        private final String host;
+        private final State previousState;
+        private final State state;
+
+        StateChange(String host, State previousState, State state) {
+            this.host = host;
+            this.previousState = previousState;
+            this.state = state;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public State getPreviousState() {
+            return previousState;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        /**
+         * @return Whether the host has answered again after its circuit was opened
+         */
+        public boolean isRecovery() {
+            return state == State.CLOSED;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.harrysoft.burstcoinexplorer.main.service.resilience;
+
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.harrysoft.burstcoinexplorer.util.UrlUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Observable;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+
+/**
+ * Keeps one {@link CircuitBreaker} per host, and publishes every breaker's state changes in one stream.
+ */
+public class CircuitBreakerRegistry {
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_DURATION = TimeUnit.SECONDS.toMillis(30);
+
+    private final int failureThreshold;
+    private final long openDuration;
+    private final Clock clock;
+    private final Map<String, CircuitBreaker> breakers = new HashMap<>();
+    private final Subject<CircuitBreaker.StateChange> stateChanges = PublishSubject.<CircuitBreaker.StateChange>create().toSerialized();
+
+    public CircuitBreakerRegistry(int failureThreshold, long openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * @param host A host name, or a URL to take the host from
+     */
+    public synchronized CircuitBreaker get(String host) {
+        String key = UrlUtils.hostOf(host);
+        CircuitBreaker breaker = breakers.get(key);
+        if (breaker == null) {
+            breaker = new CircuitBreaker(key, failureThreshold, openDuration, clock, stateChanges::onNext);
+            breakers.put(key, breaker);
+        }
+        return breaker;
+    }
+
+    /**
+     * @return State changes from now on, delivered on the thread that caused them
+     */
+    public Observable<CircuitBreaker.StateChange> stateChanges() {
+        return stateChanges;
+    }
+}
@@ -0,0 +1,12 @@
+package com.harrysoft.burstcoinexplorer.main.service.resilience;
+
+import java.io.IOException;
+
+/**
+ * A request was not sent because the host's {@link CircuitBreaker} is open.
+ */
+public class CircuitOpenException extends IOException {
+    public CircuitOpenException(String host) {
+        super("Circuit open for " + host);
+    }
+}
@@ -0,0 +1,96 @@
+package com.harrysoft.burstcoinexplorer.main.service.resilience;
+
+import com.harrysoft.burstcoinexplorer.main.service.transport.HttpStatusException;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import retrofit2.HttpException;
+
+/**
+ * Retries requests that failed for a reason that may go away, waiting exponentially longer each time. Half of each wait
+ * is random, so that clients which failed together do not all retry at the same moment.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_BASE_DELAY = 500;
+    public static final long DEFAULT_MAX_DELAY = TimeUnit.SECONDS.toMillis(8);
+
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final Random random;
+    private final Scheduler scheduler;
+
+    /**
+     * @param maxAttempts The most times a request is made, including the first
+     */
+    public RetryPolicy(int maxAttempts, long baseDelay, long maxDelay, Random random, Scheduler scheduler) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("At least one attempt is needed");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.random = random;
+        this.scheduler = scheduler;
+    }
+
+    public static RetryPolicy defaultPolicy() {
+        return withMaxAttempts(DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public static RetryPolicy withMaxAttempts(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY, new Random(), Schedulers.computation());
+    }
+
+    /**
+     * Timeouts, connection problems and server errors (5xx) are worth retrying. Requests the server refused (4xx), errors
+     * in the response and open circuits would fail the same way again. Errors from burstkit4j's calls come from Retrofit.
+     */
+    public static boolean isRetryable(Throwable error) {
+        if (error instanceof CircuitOpenException) {
+            return false;
+        }
+        if (error instanceof HttpStatusException) {
+            return ((HttpStatusException) error).isServerError();
+        }
+        if (error instanceof HttpException) {
+            return ((HttpException) error).code() >= 500;
+        }
+        return error instanceof IOException || error instanceof TimeoutException;
+    }
+
+    /**
+     * @param source Subscribed to again for each attempt, so it must not have cached its result
+     */
+    public <T> Single<T> apply(Single<T> source) {
+        return attempt(source, 1);
+    }
+
+    private <T> Single<T> attempt(Single<T> source, int attempt) {
+        return source.onErrorResumeNext(error -> {
+            if (attempt >= maxAttempts || !isRetryable(error)) {
+                return Single.error(error);
+            }
+            return Single.timer(getDelay(attempt), TimeUnit.MILLISECONDS, scheduler)
+                    .flatMap(ignored -> attempt(source, attempt + 1));
+        });
+    }
+
+    /**
+     * @param retry 1 for the first retry
+     * @return Between half of and the full exponential delay for this retry
+     */
+    long getDelay(int retry) {
+        long delay = Math.min(maxDelay, baseDelay << Math.min(retry - 1, 30));
+        long half = delay / 2;
+        return half + (long) (random.nextDouble() * (delay - half));
+    }
+}
@@ -0,0 +1,19 @@
+package com.harrysoft.burstcoinexplorer.main.service.scheduling;
+
+/**
+ * How urgently a request is needed, highest first.
+ */
+public enum RequestPriority {
+    /**
+     * The user is waiting on the result, such as the screen they just opened.
+     */
+    INTERACTIVE,
+    /**
+     * Shown on screen but not waited on, such as pages loaded ahead of scrolling or the chain tip poll.
+     */
+    PREFETCH,
+    /**
+     * Nobody is looking, such as the saved accounts sync. May be deferred, or stopped and started again later.
+     */
+    BACKGROUND,
+}
@@ -0,0 +1,214 @@
+package com.harrysoft.burstcoinexplorer.main.service.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.reactivex.observers.DisposableSingleObserver;
+
+/**
+ * Decides when requests are sent, so that background traffic cannot hold up what the user is waiting for. At most
+ * {@code maxInFlight} requests run at once, and each {@link RequestPriority} has its own limit within that. Waiting
+ * requests start in priority order, and background requests are deferred while an interactive request is waiting.
+ * If an interactive request finds every slot taken, the newest background request is stopped and queued again to make
+ * room for it.
+ *
+ * As a stopped request is later sent again from the start, only requests that are safe to repeat should be scheduled.
+ */
+public class RequestScheduler {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 6;
+    public static final int DEFAULT_INTERACTIVE_LIMIT = 6;
+    public static final int DEFAULT_PREFETCH_LIMIT = 4;
+    public static final int DEFAULT_BACKGROUND_LIMIT = 2;
+
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    private final int maxInFlight;
+    private final int[] limits;
+    private final List<ArrayDeque<Task<?>>> queues = new ArrayList<>(PRIORITIES.length);
+    private final List<ArrayDeque<Task<?>>> running = new ArrayList<>(PRIORITIES.length); // Oldest first
+
+    private int inFlight = 0;
+    private long preemptions = 0;
+
+    public RequestScheduler(int maxInFlight, int interactiveLimit, int prefetchLimit, int backgroundLimit) {
+        if (maxInFlight < 1 || interactiveLimit < 1 || prefetchLimit < 1 || backgroundLimit < 1) {
+            throw new IllegalArgumentException("Limits must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+        this.limits = new int[]{interactiveLimit, prefetchLimit, backgroundLimit};
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            queues.add(new ArrayDeque<>());
+            running.add(new ArrayDeque<>());
+        }
+    }
+
+    public static RequestScheduler defaultScheduler() {
+        return new RequestScheduler(DEFAULT_MAX_IN_FLIGHT, DEFAULT_INTERACTIVE_LIMIT, DEFAULT_PREFETCH_LIMIT, DEFAULT_BACKGROUND_LIMIT);
+    }
+
+    /**
+     * @param request Subscribed to once a slot is free, and again if it is preempted. Disposing the result gives up its
+     *                place in the queue, or cancels it if it is running.
+     */
+    public <T> Single<T> schedule(RequestPriority priority, Single<T> request) {
+        return Single.create(emitter -> {
+            Task<T> task = new Task<>(priority, request, emitter);
+            emitter.setCancellable(() -> cancel(task));
+            synchronized (this) {
+                if (task.done) return;
+                queues.get(priority.ordinal()).addLast(task);
+            }
+            dispatch();
+        });
+    }
+
+    public synchronized int getInFlight(RequestPriority priority) {
+        return running.get(priority.ordinal()).size();
+    }
+
+    public synchronized int getQueued(RequestPriority priority) {
+        return queues.get(priority.ordinal()).size();
+    }
+
+    /**
+     * @return How many times a background request has been stopped to make room for an interactive one
+     */
+    public synchronized long getPreemptions() {
+        return preemptions;
+    }
+
+    private void dispatch() {
+        List<Run<?>> started = new ArrayList<>();
+        List<Run<?>> preempted = new ArrayList<>();
+        synchronized (this) {
+            for (RequestPriority priority : PRIORITIES) {
+                ArrayDeque<Task<?>> queue = queues.get(priority.ordinal());
+                while (!queue.isEmpty() && canStart(priority)) {
+                    started.add(start(queue.poll()));
+                }
+            }
+
+            // Any interactive request still waiting below its own limit means every slot is taken
+            ArrayDeque<Task<?>> waiting = queues.get(RequestPriority.INTERACTIVE.ordinal());
+            ArrayDeque<Task<?>> background = running.get(RequestPriority.BACKGROUND.ordinal());
+            while (!waiting.isEmpty() && !background.isEmpty() && getInFlight(RequestPriority.INTERACTIVE) < limits[RequestPriority.INTERACTIVE.ordinal()]) {
+                Task<?> victim = background.pollLast();
+                preempted.add(victim.run);
+                victim.run = null;
+                inFlight--;
+                queues.get(RequestPriority.BACKGROUND.ordinal()).addFirst(victim);
+                preemptions++;
+                started.add(start(waiting.poll()));
+            }
+        }
+        // Outside the lock, as disposing or subscribing may call back into the scheduler
+        for (Run<?> run : preempted) {
+            run.dispose();
+        }
+        for (Run<?> run : started) {
+            run.subscribe();
+        }
+    }
+
+    private boolean canStart(RequestPriority priority) {
+        if (inFlight >= maxInFlight || getInFlight(priority) >= limits[priority.ordinal()]) {
+            return false;
+        }
+        return priority != RequestPriority.BACKGROUND || queues.get(RequestPriority.INTERACTIVE.ordinal()).isEmpty();
+    }
+
+    private <T> Run<T> start(Task<T> task) {
+        Run<T> run = new Run<>(task);
+        task.run = run;
+        running.get(task.priority.ordinal()).addLast(task);
+        inFlight++;
+        return run;
+    }
+
+    /**
+     * @return Whether {@code run} was still the task's current run, so its result is wanted
+     */
+    private synchronized boolean finish(Task<?> task, Run<?> run) {
+        if (task.run != run) {
+            return false; // Preempted or cancelled
+        }
+        task.run = null;
+        task.done = true;
+        running.get(task.priority.ordinal()).remove(task);
+        inFlight--;
+        return true;
+    }
+
+    private void cancel(Task<?> task) {
+        Run<?> run;
+        synchronized (this) {
+            if (task.done) return;
+            task.done = true;
+            run = task.run;
+            if (run != null) {
+                task.run = null;
+                running.get(task.priority.ordinal()).remove(task);
+                inFlight--;
+            } else {
+                queues.get(task.priority.ordinal()).remove(task);
+            }
+        }
+        if (run != null) {
+            run.dispose();
+            dispatch();
+        }
+    }
+
+    private static class Task<T> {
+        private final RequestPriority priority;
+        private final Single<T> request;
+        private final SingleEmitter<T> emitter;
+
+        // Guarded by the scheduler
+        private Run<T> run;
+        private boolean done = false;
+
+        Task(RequestPriority priority, Single<T> request, SingleEmitter<T> emitter) {
+            this.priority = priority;
+            this.request = request;
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * One attempt at sending a task's request. A task that is preempted gets a new run when it starts again.
+     */
+    private class Run<T> extends DisposableSingleObserver<T> {
+        private final Task<T> task;
+
+        Run(Task<T> task) {
+            this.task = task;
+        }
+
+        void subscribe() {
+            if (!isDisposed()) {
+                task.request.subscribe(this);
+            }
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            if (finish(task, this)) {
+                dispatch();
+                task.emitter.onSuccess(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (finish(task, this)) {
+                dispatch();
+                task.emitter.tryOnError(error);
+            }
+        }
+    }
+}
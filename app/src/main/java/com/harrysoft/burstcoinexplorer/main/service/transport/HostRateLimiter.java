@@ -0,0 +1,217 @@
+package com.harrysoft.burstcoinexplorer.main.service.transport;
+
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.harrysoft.burstcoinexplorer.util.UrlUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import io.reactivex.Completable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+
+/**
+ * Keeps requests to each host within the budget of its {@link RateLimitProfile}, using one token bucket per host.
+ * The first rule matching the host picks its profile. A request over budget is not failed, it waits until the host
+ * would take it. Waiting requests are served in the order they arrived, and one that is given up while waiting hands
+ * its place back.
+ */
+public class HostRateLimiter {
+
+    private final List<Rule> rules;
+    private final RateLimitProfile defaultProfile;
+    private final Clock clock;
+    private final Scheduler scheduler;
+    private final Map<String, Bucket> buckets = new HashMap<>();
+
+    /**
+     * @param scheduler Used to wait for the budget, and should be driven by the same time as {@code clock}
+     */
+    public HostRateLimiter(List<Rule> rules, RateLimitProfile defaultProfile, Clock clock, Scheduler scheduler) {
+        this.rules = rules;
+        this.defaultProfile = defaultProfile;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    public static List<Rule> defaultRules() {
+        List<Rule> rules = new ArrayList<>();
+        rules.add(rule("(?i)^wallet\\d*\\.", RateLimitProfile.PUBLIC_NODE));
+        rules.add(rule("(?i)coinmarketcap", RateLimitProfile.PRICE_API));
+        return rules;
+    }
+
+    public static Rule rule(String hostRegex, RateLimitProfile profile) {
+        return new Rule(Pattern.compile(hostRegex), profile);
+    }
+
+    /**
+     * @param host A host name, or a URL to take the host from
+     * @return {@code request}, subscribed to once the host has budget for it
+     */
+    public <T> Single<T> throttle(String host, Single<T> request) {
+        return Single.defer(() -> {
+            Bucket bucket = get(host);
+            long wait = bucket.reserve();
+            if (wait <= 0) {
+                return request;
+            }
+            return Completable.timer(wait, TimeUnit.MILLISECONDS, scheduler)
+                    .doOnDispose(bucket::refund)
+                    .andThen(request);
+        });
+    }
+
+    /**
+     * @return The budget of every host that has been sent a request
+     */
+    public synchronized List<Usage> getUsage() {
+        List<Usage> usage = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets.values()) {
+            usage.add(bucket.getUsage());
+        }
+        return usage;
+    }
+
+    private synchronized Bucket get(String host) {
+        String key = UrlUtils.hostOf(host);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket(key, profileFor(key));
+            buckets.put(key, bucket);
+        }
+        return bucket;
+    }
+
+    private RateLimitProfile profileFor(String host) {
+        for (Rule rule : rules) {
+            if (rule.pattern.matcher(host).find()) {
+                return rule.profile;
+            }
+        }
+        return defaultProfile;
+    }
+
+    public static class Rule {
+        private final Pattern pattern;
+        private final RateLimitProfile profile;
+
+        Rule(Pattern pattern, RateLimitProfile profile) {
+            this.pattern = pattern;
+            this.profile = profile;
+        }
+    }
+
+    private class Bucket {
+        private final String host;
+        private final RateLimitProfile profile;
+
+        // Below zero when requests are waiting, each of them having taken a token that is yet to be refilled
+        private double tokens;
+        private long refilledAt;
+        private long requests = 0;
+        private long throttled = 0;
+        private long totalWait = 0;
+
+        Bucket(String host, RateLimitProfile profile) {
+            this.host = host;
+            this.profile = profile;
+            this.tokens = profile.getBurst();
+            this.refilledAt = clock.currentTimeMillis();
+        }
+
+        /**
+         * Takes a token, even if it has not been refilled yet.
+         * @return How long to wait until the token is refilled, in milliseconds
+         */
+        synchronized long reserve() {
+            refill();
+            tokens--;
+            requests++;
+            if (tokens >= 0) {
+                return 0;
+            }
+            long wait = (long) Math.ceil(-tokens * 1000 / profile.getRequestsPerSecond());
+            throttled++;
+            totalWait += wait;
+            return wait;
+        }
+
+        synchronized void refund() {
+            refill();
+            tokens = Math.min(profile.getBurst(), tokens + 1);
+            requests--;
+        }
+
+        private void refill() {
+            long now = clock.currentTimeMillis();
+            tokens = Math.min(profile.getBurst(), tokens + (now - refilledAt) * profile.getRequestsPerSecond() / 1000);
+            refilledAt = now;
+        }
+
+        synchronized Usage getUsage() {
+            refill();
+            return new Usage(host, profile, tokens, requests, throttled, totalWait);
+        }
+    }
+
+    public static class Usage {
+        private final String host;
+        private final RateLimitProfile profile;
+        private final double availableTokens;
+        private final long requests;
+        private final long throttled;
+        private final long totalWait;
+
+        Usage(String host, RateLimitProfile profile, double availableTokens, long requests, long throttled, long totalWait) {
+            this.host = host;
+            this.profile = profile;
+            this.availableTokens = availableTokens;
+            this.requests = requests;
+            this.throttled = throttled;
+            this.totalWait = totalWait;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public RateLimitProfile getProfile() {
+            return profile;
+        }
+
+        /**
+         * @return How many requests could be sent straight away, or minus how many are waiting
+         */
+        public double getAvailableTokens() {
+            return availableTokens;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        /**
+         * @return How many requests had to wait for budget
+         */
+        public long getThrottled() {
+            return throttled;
+        }
+
+        /**
+         * @return The time requests have spent waiting for budget, in milliseconds
+         */
+        public long getTotalWait() {
+            return totalWait;
+        }
+
+        @Override
+        public String toString() {
+            return "Usage{host=" + host + ", profile=" + profile + ", availableTokens=" + availableTokens + ", requests=" + requests + ", throttled=" + throttled + ", totalWait=" + totalWait + "}";
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.harrysoft.burstcoinexplorer.main.service.transport;
+
+import java.io.IOException;
+
+/**
+ * The server answered, but not with a successful status.
+ */
+public class HttpStatusException extends IOException {
+
+    private final int statusCode;
+
+    public HttpStatusException(int statusCode) {
+        super("Server responded with HTTP " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return Whether the server failed to handle the request (5xx), rather than refusing it (4xx)
+     */
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+}
@@ -0,0 +1,13 @@
+package com.harrysoft.burstcoinexplorer.main.service.transport;
+
+import io.reactivex.Single;
+
+/**
+ * Performs the HTTP requests behind the network service, so that the HTTP stack can be chosen when the app is wired up.
+ */
+public interface HttpTransport {
+    /**
+     * @return The body of a successful response. Disposing cancels the request.
+     */
+    Single<String> get(String url);
+}
@@ -0,0 +1,130 @@
+package com.harrysoft.burstcoinexplorer.main.service.transport;
+
+import android.support.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.reactivex.Single;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Sends requests through OkHttp. Connections are kept alive in a pool and reused, HTTP/2 is negotiated with servers
+ * that support it so that requests to the same host share one connection, and responses are requested gzip or
+ * deflate compressed.
+ */
+public class OkHttpTransport implements HttpTransport {
+
+    public static final int DEFAULT_DISPATCHER_THREADS = 4;
+
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final long TIMEOUT_SECONDS = 15;
+
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final OkHttpClient client;
+
+    public OkHttpTransport(OkHttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @param dispatcherThreads The most requests in flight at once, across all hosts
+     */
+    public static OkHttpTransport create(int dispatcherThreads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        Dispatcher dispatcher = new Dispatcher(executor);
+        dispatcher.setMaxRequests(dispatcherThreads);
+        dispatcher.setMaxRequestsPerHost(dispatcherThreads);
+        return new OkHttpTransport(new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .readTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build());
+    }
+
+    @Override
+    public Single<String> get(String url) {
+        return Single.create(emitter -> {
+            // Asking for an encoding ourselves turns off OkHttp's own gzip handling, which does not cover deflate
+            Request request = new Request.Builder()
+                    .url(url)
+                    .header("Accept-Encoding", ACCEPT_ENCODING)
+                    .build();
+            Call call = client.newCall(request);
+            emitter.setCancellable(call::cancel);
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                    emitter.tryOnError(e);
+                }
+
+                @Override
+                public void onResponse(@NonNull Call call, @NonNull Response response) {
+                    try {
+                        emitter.onSuccess(readBody(response));
+                    } catch (IOException e) {
+                        emitter.tryOnError(e);
+                    } finally {
+                        response.close();
+                    }
+                }
+            });
+        });
+    }
+
+    private static String readBody(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            throw new HttpStatusException(response.code());
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            throw new IOException("Server response had no body");
+        }
+        MediaType contentType = body.contentType();
+        Charset charset = contentType != null ? contentType.charset(UTF_8) : UTF_8;
+        try (InputStream inputStream = decode(body.byteStream(), response.header("Content-Encoding"))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), charset);
+        }
+    }
+
+    static InputStream decode(InputStream inputStream, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.equalsIgnoreCase("identity")) {
+            return inputStream;
+        } else if (contentEncoding.equalsIgnoreCase("gzip")) {
+            return new GZIPInputStream(inputStream);
+        } else if (contentEncoding.equalsIgnoreCase("deflate")) {
+            return new InflaterInputStream(inputStream);
+        } else {
+            throw new IOException("Unsupported content encoding: " + contentEncoding);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.harrysoft.burstcoinexplorer.main.service.transport;
+
+/**
+ * How many requests a host will take before it starts throttling: short bursts of up to {@code burst} requests, and
+ * {@code requestsPerSecond} on average after that.
+ */
+public class RateLimitProfile {
+
+    /** Public nodes throttle or ban clients that send more than a few requests a second */
+    public static final RateLimitProfile PUBLIC_NODE = new RateLimitProfile("public node", 10, 5);
+    /** Price APIs have low limits, but the price is cached so few requests are needed */
+    public static final RateLimitProfile PRICE_API = new RateLimitProfile("price API", 3, 0.5);
+    public static final RateLimitProfile UNKNOWN_HOST = new RateLimitProfile("unknown host", 20, 10);
+
+    private final String name;
+    private final int burst;
+    private final double requestsPerSecond;
+
+    public RateLimitProfile(String name, int burst, double requestsPerSecond) {
+        if (burst < 1 || requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Burst and rate must be positive");
+        }
+        this.name = name;
+        this.burst = burst;
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + burst + " burst, " + requestsPerSecond + "/s)";
+    }
+}
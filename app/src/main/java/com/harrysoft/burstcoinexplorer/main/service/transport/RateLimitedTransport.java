@@ -0,0 +1,22 @@
+package com.harrysoft.burstcoinexplorer.main.service.transport;
+
+import io.reactivex.Single;
+
+/**
+ * Holds requests back until their host has budget for them, then sends them through another transport.
+ */
+public class RateLimitedTransport implements HttpTransport {
+
+    private final HttpTransport transport;
+    private final HostRateLimiter rateLimiter;
+
+    public RateLimitedTransport(HttpTransport transport, HostRateLimiter rateLimiter) {
+        this.transport = transport;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Single<String> get(String url) {
+        return rateLimiter.throttle(url, transport.get(url));
+    }
+}
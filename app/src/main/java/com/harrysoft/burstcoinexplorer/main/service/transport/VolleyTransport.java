@@ -0,0 +1,51 @@
+package com.harrysoft.burstcoinexplorer.main.service.transport;
+
+import android.content.Context;
+
+import com.android.volley.NetworkError;
+import com.android.volley.RequestQueue;
+import com.android.volley.TimeoutError;
+import com.android.volley.VolleyError;
+import com.android.volley.toolbox.StringRequest;
+import com.android.volley.toolbox.Volley;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import io.reactivex.Single;
+
+/**
+ * Sends requests through a Volley queue with its default HTTP stack and thread pool.
+ */
+public class VolleyTransport implements HttpTransport {
+
+    private final RequestQueue requestQueue;
+
+    public VolleyTransport(Context context) {
+        this.requestQueue = Volley.newRequestQueue(context);
+    }
+
+    @Override
+    public Single<String> get(String url) {
+        return Single.create(emitter -> {
+            StringRequest request = new StringRequest(url, emitter::onSuccess, error -> emitter.tryOnError(toException(error)));
+            requestQueue.add(request);
+            emitter.setCancellable(request::cancel);
+        });
+    }
+
+    /**
+     * Turns Volley's errors into the exceptions the other transports use, so that they can be classified the same way.
+     */
+    private static Exception toException(VolleyError error) {
+        if (error.networkResponse != null && error.networkResponse.statusCode >= 300) {
+            return new HttpStatusException(error.networkResponse.statusCode);
+        } else if (error instanceof TimeoutError) {
+            return new SocketTimeoutException("Request timed out");
+        } else if (error instanceof NetworkError) {
+            return new IOException(error);
+        } else {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.harrysoft.burstcoinexplorer.main.ui;
+
+import android.support.v7.util.DiffUtil;
+import android.support.v7.widget.RecyclerView;
+
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.android.schedulers.AndroidSchedulers;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.schedulers.Schedulers;
+
+/**
+ * Holds the data shown by a {@link RecyclerView.Adapter} and works out the changes between each new version of it on a
+ * worker thread. A diff is only dispatched if nothing newer was submitted while it was being calculated, so the
+ * adapter keeps showing the old data until then and never sees versions out of order.
+ *
+ * Must only be used from the main thread, and submitted data must not be modified afterwards.
+ */
+public class BackgroundDiffer<T> {
+
+    public interface DiffCallbackFactory<T> {
+        DiffUtil.Callback create(T oldData, T newData);
+    }
+
+    private final RecyclerView.Adapter<?> adapter;
+    private final DiffCallbackFactory<T> callbackFactory;
+    private final Scheduler diffScheduler;
+    private final Scheduler mainScheduler;
+
+    private T data;
+    private int generation = 0;
+    private Disposable pendingDiff = Disposables.disposed();
+
+    public BackgroundDiffer(RecyclerView.Adapter<?> adapter, T initialData, DiffCallbackFactory<T> callbackFactory) {
+        this(adapter, initialData, callbackFactory, Schedulers.computation(), AndroidSchedulers.mainThread());
+    }
+
+    public BackgroundDiffer(RecyclerView.Adapter<?> adapter, T initialData, DiffCallbackFactory<T> callbackFactory, Scheduler diffScheduler, Scheduler mainScheduler) {
+        this.adapter = adapter;
+        this.data = initialData;
+        this.callbackFactory = callbackFactory;
+        this.diffScheduler = diffScheduler;
+        this.mainScheduler = mainScheduler;
+    }
+
+    /**
+     * @return The data the adapter is currently showing
+     */
+    public T getData() {
+        return data;
+    }
+
+    public void submit(T newData) {
+        int submission = ++generation;
+        pendingDiff.dispose();
+
+        T oldData = data;
+        if (oldData == newData) {
+            // Modified in place, so there is nothing to compare against
+            adapter.notifyDataSetChanged();
+            return;
+        }
+
+        pendingDiff = Single.fromCallable(() -> DiffUtil.calculateDiff(callbackFactory.create(oldData, newData)))
+                .subscribeOn(diffScheduler)
+                .observeOn(mainScheduler)
+                .subscribe(result -> {
+                    if (submission == generation) {
+                        data = newData;
+                        result.dispatchUpdatesTo(adapter);
+                    }
+                }, t -> {
+                    if (submission == generation) {
+                        data = newData;
+                        adapter.notifyDataSetChanged();
+                    }
+                });
+    }
+}
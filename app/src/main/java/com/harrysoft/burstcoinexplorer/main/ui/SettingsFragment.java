@@ -14,6 +14,10 @@ import android.widget.Toast;
 
 import com.harry1453.burst.explorer.repository.ConfigRepository;
 import com.harrysoft.burstcoinexplorer.R;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsSyncScheduler;
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeMetrics;
+import com.harrysoft.burstcoinexplorer.burst.node.NodePool;
 import com.harrysoft.burstcoinexplorer.util.CurrencyUtils;
 import com.harrysoft.burstcoinexplorer.util.VersionUtils;
 
@@ -25,6 +29,12 @@ public class SettingsFragment extends PreferenceFragmentCompat {
 
     @Inject
     ConfigRepository configRepository;
+    @Inject
+    NodePool nodePool;
+    @Inject
+    BurstNodeClient burstNodeClient;
+    @Inject
+    NodeMetrics nodeMetrics;
 
     @Override
     public void onAttach(Context context) {
@@ -62,16 +72,37 @@ public class SettingsFragment extends PreferenceFragmentCompat {
         nodeAddressPreference.setOnPreferenceChangeListener((preference, newValue) -> {
             if (newValue instanceof String) {
                 configRepository.setNodeAddress((String) newValue);
+                nodePool.setConfiguredNode((String) newValue);
                 nodeAddressPreference.setText((String) newValue);
                 nodeAddressPreference.setSummary((String) newValue);
             }
             return false;
         });
 
+        final ListPreference syncIntervalPreference = (ListPreference) findPreference(getString(R.string.sync_interval_key));
+        setSyncIntervalSummary(syncIntervalPreference, syncIntervalPreference.getValue());
+        syncIntervalPreference.setOnPreferenceChangeListener((preference, newValue) -> {
+            if (newValue instanceof String) {
+                SavedAccountsSyncScheduler.schedule(getContext(), Long.parseLong((String) newValue));
+                setSyncIntervalSummary(syncIntervalPreference, (String) newValue);
+            }
+            return true;
+        });
+
+        final Preference hedgeRequestsPreference = findPreference(getString(R.string.hedge_requests_key));
+        hedgeRequestsPreference.setSummary(getString(R.string.hedge_requests_summary, nodeMetrics.getHedgeWins(), nodeMetrics.getHedges()));
+        hedgeRequestsPreference.setOnPreferenceChangeListener((preference, newValue) -> {
+            if (newValue instanceof Boolean) {
+                burstNodeClient.setHedgingEnabled((Boolean) newValue);
+            }
+            return true;
+        });
+
         final Preference resetNodeAddressPreference = findPreference(getString(R.string.reset_node_address));
         resetNodeAddressPreference.setOnPreferenceClickListener(preference -> {
             String defaultNodeAddress = getString(R.string.node_address_default);
             configRepository.setNodeAddress(defaultNodeAddress);
+            nodePool.setConfiguredNode(defaultNodeAddress);
             nodeAddressPreference.setText(defaultNodeAddress);
             nodeAddressPreference.setSummary(defaultNodeAddress);
             return false;
@@ -151,4 +182,13 @@ public class SettingsFragment extends PreferenceFragmentCompat {
         final Preference appVersion = findPreference(getString(R.string.app_version));
         appVersion.setSummary(versionString);
     }
+
+    private void setSyncIntervalSummary(ListPreference syncIntervalPreference, String value) {
+        int index = syncIntervalPreference.findIndexOfValue(value);
+        if (index <= 0) {
+            syncIntervalPreference.setSummary(R.string.sync_interval_off);
+        } else {
+            syncIntervalPreference.setSummary(getString(R.string.sync_interval_summary, syncIntervalPreference.getEntries()[index]));
+        }
+    }
 }
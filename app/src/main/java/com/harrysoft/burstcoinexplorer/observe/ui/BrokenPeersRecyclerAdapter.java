@@ -14,6 +14,7 @@ import android.widget.TextView;
 
 import com.harry1453.burst.explorer.entity.NetworkStatus;
 import com.harrysoft.burstcoinexplorer.R;
+import com.harrysoft.burstcoinexplorer.main.ui.BackgroundDiffer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,48 +24,45 @@ public class BrokenPeersRecyclerAdapter extends RecyclerView.Adapter<BrokenPeers
 
     private final Context context;
 
-    private List<NetworkStatus.BrokenPeer> brokenPeers = new ArrayList<>();
+    private final BackgroundDiffer<List<NetworkStatus.BrokenPeer>> differ = new BackgroundDiffer<>(this, new ArrayList<>(), BrokenPeersRecyclerAdapter::diffCallback);
 
     BrokenPeersRecyclerAdapter(Context context) {
         this.context = context;
     }
     
     public void updateData(List<NetworkStatus.BrokenPeer> newBrokenPeers) {
-        if (brokenPeers == null) {
-            brokenPeers = newBrokenPeers;
-            notifyDataSetChanged();
-        } else {
-            DiffUtil.DiffResult result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
-                @Override
-                public int getOldListSize() {
-                    return brokenPeers.size();
-                }
+        differ.submit(newBrokenPeers);
+    }
 
-                @Override
-                public int getNewListSize() {
-                    return newBrokenPeers.size();
-                }
+    private static DiffUtil.Callback diffCallback(List<NetworkStatus.BrokenPeer> oldBrokenPeers, List<NetworkStatus.BrokenPeer> newBrokenPeers) {
+        return new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldBrokenPeers.size();
+            }
 
-                @Override
-                public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
-                    return Objects.equals(brokenPeers.get(oldItemPosition).address, newBrokenPeers.get(newItemPosition).address);
-                }
+            @Override
+            public int getNewListSize() {
+                return newBrokenPeers.size();
+            }
 
-                @Override
-                public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
-                    NetworkStatus.BrokenPeer newBrokenPeer = newBrokenPeers.get(newItemPosition);
-                    NetworkStatus.BrokenPeer oldBrokenPeer = brokenPeers.get(oldItemPosition);
-                    return Objects.equals(newBrokenPeer.address, oldBrokenPeer.address)
-                            && Objects.equals(newBrokenPeer.countryCode, oldBrokenPeer.countryCode)
-                            && Objects.equals(newBrokenPeer.height, oldBrokenPeer.height)
-                            && Objects.equals(newBrokenPeer.platform, oldBrokenPeer.platform)
-                            && Objects.equals(newBrokenPeer.status, oldBrokenPeer.status)
-                            && Objects.equals(newBrokenPeer.version, oldBrokenPeer.version);
-                }
-            });
-            brokenPeers = newBrokenPeers;
-            result.dispatchUpdatesTo(this);
-        }
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return Objects.equals(oldBrokenPeers.get(oldItemPosition).address, newBrokenPeers.get(newItemPosition).address);
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                NetworkStatus.BrokenPeer newBrokenPeer = newBrokenPeers.get(newItemPosition);
+                NetworkStatus.BrokenPeer oldBrokenPeer = oldBrokenPeers.get(oldItemPosition);
+                return Objects.equals(newBrokenPeer.address, oldBrokenPeer.address)
+                        && Objects.equals(newBrokenPeer.countryCode, oldBrokenPeer.countryCode)
+                        && Objects.equals(newBrokenPeer.height, oldBrokenPeer.height)
+                        && Objects.equals(newBrokenPeer.platform, oldBrokenPeer.platform)
+                        && Objects.equals(newBrokenPeer.status, oldBrokenPeer.status)
+                        && Objects.equals(newBrokenPeer.version, oldBrokenPeer.version);
+            }
+        };
     }
 
     @NonNull
@@ -75,12 +73,12 @@ public class BrokenPeersRecyclerAdapter extends RecyclerView.Adapter<BrokenPeers
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        holder.setupView(brokenPeers.get(position));
+        holder.setupView(differ.getData().get(position));
     }
 
     @Override
     public int getItemCount() {
-        return brokenPeers.size();
+        return differ.getData().size();
     }
 
     class ViewHolder extends RecyclerView.ViewHolder {
@@ -7,9 +7,12 @@ import android.support.annotation.Nullable;
 
 import com.harry1453.burst.explorer.entity.NetworkStatus;
 import com.harry1453.burst.explorer.service.BurstNetworkService;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreaker;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
 
 import io.reactivex.android.schedulers.AndroidSchedulers;
 import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
 import io.reactivex.schedulers.Schedulers;
 
 public class ObserveViewModel extends ViewModel {
@@ -21,25 +24,48 @@ public class ObserveViewModel extends ViewModel {
     private final MutableLiveData<NetworkStatus> networkStatus = new MutableLiveData<>();
     private final MutableLiveData<Boolean> refreshing = new MutableLiveData<>();
 
-    ObserveViewModel(BurstNetworkService burstNetworkService) {
+    @Nullable
+    private Disposable networkStatusRequest;
+    private boolean failed = false;
+
+    ObserveViewModel(BurstNetworkService burstNetworkService, CircuitBreakerRegistry circuitBreakers) {
         this.burstNetworkService = burstNetworkService;
 
+        // After a failure, try again as soon as a host is known to be answering again
+        compositeDisposable.add(circuitBreakers.stateChanges()
+                .filter(CircuitBreaker.StateChange::isRecovery)
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(change -> {
+                    if (failed) fetchNetworkStatus();
+                }));
+
         fetchNetworkStatus();
     }
 
     public void fetchNetworkStatus() {
+        if (networkStatusRequest != null && !networkStatusRequest.isDisposed()) {
+            return; // Every sub fragment asks to refresh, but they can share the request that is already running
+        }
         refreshing.postValue(true);
-        compositeDisposable.add(burstNetworkService.getNetworkStatus()
+        networkStatusRequest = burstNetworkService.getNetworkStatus()
                 .subscribeOn(Schedulers.io())
                 .observeOn(AndroidSchedulers.mainThread())
-                .subscribe(this::onNetworkStatus, throwable -> onNetworkStatus(null)));
+                .subscribe(this::onNetworkStatus, throwable -> onNetworkStatusError());
+        compositeDisposable.add(networkStatusRequest);
     }
 
-    private void onNetworkStatus(@Nullable NetworkStatus networkStatus) {
+    private void onNetworkStatus(NetworkStatus networkStatus) {
+        failed = false;
         this.networkStatus.postValue(networkStatus);
         refreshing.postValue(false);
     }
 
+    private void onNetworkStatusError() {
+        failed = true;
+        networkStatus.postValue(null);
+        refreshing.postValue(false);
+    }
+
     @Override
     protected void onCleared() {
         compositeDisposable.dispose();
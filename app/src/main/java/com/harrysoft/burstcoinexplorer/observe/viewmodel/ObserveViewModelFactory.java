@@ -5,22 +5,25 @@ import android.arch.lifecycle.ViewModelProvider;
 import android.support.annotation.NonNull;
 
 import com.harry1453.burst.explorer.service.BurstNetworkService;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
 
 import javax.inject.Inject;
 
 public class ObserveViewModelFactory implements ViewModelProvider.Factory {
 
     private final BurstNetworkService burstNetworkService;
+    private final CircuitBreakerRegistry circuitBreakers;
 
     @Inject
-    public ObserveViewModelFactory(BurstNetworkService burstNetworkService) {
+    public ObserveViewModelFactory(BurstNetworkService burstNetworkService, CircuitBreakerRegistry circuitBreakers) {
         this.burstNetworkService = burstNetworkService;
+        this.circuitBreakers = circuitBreakers;
     }
 
     @SuppressWarnings("unchecked")
     @NonNull
     @Override
     public <T extends ViewModel> T create(@NonNull Class<T> modelClass) {
-        return (T) new ObserveViewModel(burstNetworkService);
+        return (T) new ObserveViewModel(burstNetworkService, circuitBreakers);
     }
 }
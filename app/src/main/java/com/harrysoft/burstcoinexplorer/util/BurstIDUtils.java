@@ -0,0 +1,59 @@
+package com.harrysoft.burstcoinexplorer.util;
+
+import burst.kit.entity.BurstID;
+
+/**
+ * Burst IDs are unsigned 64-bit numbers. These helpers store them in a primitive long, reinterpreting the top bit as the
+ * sign, so that they can be used as keys without allocating a {@link BurstID} or BigInteger.
+ */
+public final class BurstIDUtils {
+
+    // 2^64 - 1 = 18446744073709551615
+    private static final long MAX_UNSIGNED_DIV_10 = 1844674407370955161L;
+    private static final int MAX_UNSIGNED_MOD_10 = 5;
+
+    private BurstIDUtils() {
+    }
+
+    /**
+     * Parses {@link BurstID#getID()}, so convert once where an ID enters the app and pass the long around from there.
+     */
+    public static long toLong(BurstID id) {
+        return toLong(id.getID());
+    }
+
+    /**
+     * @param unsignedId The ID in unsigned decimal, as returned by {@link BurstID#getID()}
+     * @throws NumberFormatException If the ID is not a valid unsigned 64-bit number
+     */
+    public static long toLong(String unsignedId) {
+        int length = unsignedId.length();
+        if (length == 0 || length > 20) {
+            throw new NumberFormatException("Invalid ID: " + unsignedId);
+        }
+        for (int i = 0; i < length; i++) {
+            if (unsignedId.charAt(i) < '0' || unsignedId.charAt(i) > '9') {
+                throw new NumberFormatException("Invalid ID: " + unsignedId);
+            }
+        }
+        if (length < 19) {
+            return Long.parseLong(unsignedId); // Cannot overflow a signed long
+        }
+        // Parse all but the last digit, which always fits, then shift the last digit in
+        long first = Long.parseLong(unsignedId.substring(0, length - 1));
+        int last = unsignedId.charAt(length - 1) - '0';
+        if (first > MAX_UNSIGNED_DIV_10 || (first == MAX_UNSIGNED_DIV_10 && last > MAX_UNSIGNED_MOD_10)) {
+            throw new NumberFormatException("Invalid ID: " + unsignedId);
+        }
+        return first * 10 + last;
+    }
+
+    public static String toUnsignedString(long id) {
+        if (id >= 0) {
+            return Long.toString(id);
+        }
+        long quotient = (id >>> 1) / 5;
+        long remainder = id - quotient * 10;
+        return Long.toString(quotient) + remainder;
+    }
+}
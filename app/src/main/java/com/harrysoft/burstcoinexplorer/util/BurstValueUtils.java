@@ -0,0 +1,37 @@
+package com.harrysoft.burstcoinexplorer.util;
+
+import java.math.BigDecimal;
+
+import burst.kit.entity.BurstValue;
+
+/**
+ * Converts between {@link BurstValue} and a primitive count of NQT, the smallest unit of Burst (10^-8 BURST).
+ */
+public final class BurstValueUtils {
+
+    private static final int NQT_DECIMALS = 8;
+
+    private BurstValueUtils() {
+    }
+
+    public static long toNQT(BurstValue value) {
+        return toNQT(value.toUnformattedString());
+    }
+
+    /**
+     * @param burst An amount of BURST in plain decimal
+     * @throws NumberFormatException If the amount is not a decimal number
+     * @throws ArithmeticException If the amount is not a whole number of NQT or does not fit in a long
+     */
+    public static long toNQT(String burst) {
+        return new BigDecimal(burst).movePointRight(NQT_DECIMALS).longValueExact();
+    }
+
+    public static BurstValue fromNQT(long nqt) {
+        return BurstValue.fromBurst(toBurstString(nqt));
+    }
+
+    public static String toBurstString(long nqt) {
+        return BigDecimal.valueOf(nqt, NQT_DECIMALS).stripTrailingZeros().toPlainString();
+    }
+}
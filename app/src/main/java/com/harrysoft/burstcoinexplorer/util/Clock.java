@@ -0,0 +1,7 @@
+package com.harrysoft.burstcoinexplorer.util;
+
+public interface Clock {
+    Clock SYSTEM = System::currentTimeMillis;
+
+    long currentTimeMillis();
+}
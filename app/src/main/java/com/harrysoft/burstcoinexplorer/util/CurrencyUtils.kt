@@ -5,8 +5,6 @@ import android.support.v7.preference.ListPreference
 import com.harry1453.burst.explorer.repository.ConfigRepository
 import com.harrysoft.burstcoinexplorer.R
 import java.math.BigDecimal
-import java.text.DecimalFormat
-import java.text.NumberFormat
 import java.util.*
 
 object CurrencyUtils {
@@ -51,22 +49,6 @@ object CurrencyUtils {
 
     @JvmStatic
     fun formatCurrencyAmount(currencyCode: String, price: BigDecimal, showDecimals: Boolean): String {
-        var currency : Currency? = null
-        try {
-            currency = Currency.getInstance(currencyCode)
-        } catch (ignored: IllegalArgumentException) {}
-
-        return if (currency != null) {
-            val formatter = NumberFormat.getCurrencyInstance(Locale.getDefault())
-            formatter.currency = currency
-            if (showDecimals) {
-                formatter.minimumFractionDigits = 5
-            } else {
-                formatter.maximumFractionDigits = 0
-            }
-            formatter.format(price)
-        } else {
-            DecimalFormat("0.00000000").format(price)
-        }
+        return DisplayFormats.formatCurrencyAmount(currencyCode, price, showDecimals)
     }
 }
\ No newline at end of file
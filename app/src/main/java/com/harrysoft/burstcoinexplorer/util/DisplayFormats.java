@@ -0,0 +1,182 @@
+package com.harrysoft.burstcoinexplorer.util;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Shared formatting for the values shown in lists, built for bind paths: formatters are created once per thread and
+ * locale rather than per call, each thread reuses one {@link StringBuilder}, and BURST amounts are formatted straight
+ * from a primitive count of NQT.
+ */
+public final class DisplayFormats {
+
+    private static final long NQT_PER_BURST = 100_000_000L;
+    private static final long NQT_PER_MILLIBURST = 100_000L;
+    private static final String BURST_SUFFIX = " BURST";
+
+    private static final int KB = 1 << 10;
+    private static final int MB = 1 << 20;
+    private static final int GB = 1 << 30;
+
+    // Joda formatters are immutable, so one can be shared by every thread
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormat.forPattern("dd/MM/yyyy HH:mm:ss").withZone(DateTimeZone.UTC);
+
+    private static final ThreadLocal<Formatters> FORMATTERS = new ThreadLocal<Formatters>() {
+        @Override
+        protected Formatters initialValue() {
+            return new Formatters();
+        }
+    };
+
+    private DisplayFormats() {
+    }
+
+    /**
+     * @return The amount rounded to 3 decimal places, without trailing zeros, eg. "10.001 BURST"
+     */
+    public static String formatBurst(long nqt) {
+        StringBuilder builder = builder();
+        appendBurst(builder, nqt);
+        return builder.append(BURST_SUFFIX).toString();
+    }
+
+    /**
+     * Appends the amount as {@link #formatBurst(long)} does, without the unit.
+     */
+    public static void appendBurst(StringBuilder builder, long nqt) {
+        boolean negative = nqt < 0;
+        // Long.MIN_VALUE cannot be negated, but is far beyond the total supply so is never a real amount
+        long magnitude = negative ? -Math.max(nqt, -Long.MAX_VALUE) : nqt;
+        long whole = magnitude / NQT_PER_BURST;
+        long milli = (magnitude % NQT_PER_BURST + NQT_PER_MILLIBURST / 2) / NQT_PER_MILLIBURST;
+        if (milli == 1000) {
+            whole++;
+            milli = 0;
+        }
+        if (negative && (whole != 0 || milli != 0)) {
+            builder.append('-');
+        }
+        builder.append(whole);
+        if (milli != 0) {
+            builder.append('.');
+            if (milli < 100) builder.append('0');
+            if (milli < 10) builder.append('0');
+            while (milli % 10 == 0) {
+                milli /= 10;
+            }
+            // Trailing zeros were removed, so the leading zeros above are still correct
+            builder.append(milli);
+        }
+    }
+
+    /**
+     * @param epochMillis Milliseconds since the Unix epoch
+     * @return The time in UTC, eg. "31/12/2018 23:59:59"
+     */
+    public static String formatTimestamp(long epochMillis) {
+        StringBuilder builder = builder();
+        TIMESTAMP_FORMATTER.printTo(builder, epochMillis);
+        return builder.toString();
+    }
+
+    public static String formatCurrencyAmount(String currencyCode, BigDecimal amount, boolean showDecimals) {
+        return FORMATTERS.get().currencyFormat(currencyCode, showDecimals).format(amount);
+    }
+
+    /**
+     * @param percentageUsage The fraction of the maximum block size used, between 0 and 1
+     * @return eg. "1.205 KB (50%)"
+     */
+    public static String formatBlockSize(int size, double percentageUsage) {
+        Formatters formatters = FORMATTERS.get();
+        StringBuilder builder = builder();
+        if (size >= GB) {
+            builder.append(formatters.sizeFormat().format((double) size / GB)).append(" GB");
+        } else if (size >= MB) {
+            builder.append(formatters.sizeFormat().format((double) size / MB)).append(" MB");
+        } else if (size >= KB) {
+            builder.append(formatters.sizeFormat().format((double) size / KB)).append(" KB");
+        } else {
+            builder.append(size).append(" Bytes");
+        }
+        return builder.append(" (").append(formatters.percentageFormat().format(percentageUsage * 100)).append("%)").toString();
+    }
+
+    private static StringBuilder builder() {
+        StringBuilder builder = FORMATTERS.get().builder;
+        builder.setLength(0);
+        return builder;
+    }
+
+    /**
+     * The formatters for one thread, as {@link NumberFormat} is not thread safe. They are created again if the default
+     * locale changes.
+     */
+    private static class Formatters {
+        private final StringBuilder builder = new StringBuilder(64);
+        private final Map<String, NumberFormat> currencyFormats = new HashMap<>();
+        private Locale locale;
+        private DecimalFormat sizeFormat;
+        private DecimalFormat percentageFormat;
+        private DecimalFormat unknownCurrencyFormat;
+
+        NumberFormat currencyFormat(String currencyCode, boolean showDecimals) {
+            checkLocale();
+            String key = showDecimals ? currencyCode : currencyCode + '0';
+            NumberFormat format = currencyFormats.get(key);
+            if (format == null) {
+                format = createCurrencyFormat(currencyCode, showDecimals);
+                currencyFormats.put(key, format);
+            }
+            return format;
+        }
+
+        DecimalFormat sizeFormat() {
+            checkLocale();
+            return sizeFormat;
+        }
+
+        DecimalFormat percentageFormat() {
+            checkLocale();
+            return percentageFormat;
+        }
+
+        private NumberFormat createCurrencyFormat(String currencyCode, boolean showDecimals) {
+            Currency currency;
+            try {
+                currency = Currency.getInstance(currencyCode);
+            } catch (IllegalArgumentException e) {
+                return unknownCurrencyFormat;
+            }
+            NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+            format.setCurrency(currency);
+            if (showDecimals) {
+                format.setMinimumFractionDigits(5);
+            } else {
+                format.setMaximumFractionDigits(0);
+            }
+            return format;
+        }
+
+        private void checkLocale() {
+            Locale current = Locale.getDefault();
+            if (current.equals(locale)) {
+                return;
+            }
+            locale = current;
+            currencyFormats.clear();
+            sizeFormat = new DecimalFormat("0.000");
+            percentageFormat = new DecimalFormat("###.###");
+            unknownCurrencyFormat = new DecimalFormat("0.00000000");
+        }
+    }
+}
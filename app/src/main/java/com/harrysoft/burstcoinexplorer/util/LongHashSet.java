@@ -0,0 +1,149 @@
+package com.harrysoft.burstcoinexplorer.util;
+
+/**
+ * Set of primitive longs using open addressing, so that checking an ID against a large set neither boxes the ID nor
+ * follows a chain of entries. Zero marks an empty slot, so it is tracked on its own. Not thread safe.
+ */
+public class LongHashSet {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private int mask;
+    private int size = 0; // Excluding zero
+    private boolean containsZero = false;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long existing = keys[slot];
+            if (existing == 0) return false;
+            if (existing == key) return true;
+        }
+    }
+
+    /**
+     * @return Whether the key was added, false if it was already present
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > keys.length * 3 / 4) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * @return Whether the key was present
+     */
+    public boolean remove(long key) {
+        if (key == 0) {
+            boolean removed = containsZero;
+            containsZero = false;
+            return removed;
+        }
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) return false;
+            slot = (slot + 1) & mask;
+        }
+        // Shift later keys of the same run back, so that lookups never stop early at the gap
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                gap = next;
+            }
+        }
+        keys[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 0;
+        }
+        size = 0;
+        containsZero = false;
+    }
+
+    /**
+     * @return Every key, in no particular order
+     */
+    public long[] toArray() {
+        long[] array = new long[size()];
+        int i = 0;
+        if (containsZero) {
+            array[i++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                array[i++] = key;
+            }
+        }
+        return array;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        // Burst IDs are already well mixed, but heights and small test IDs are not
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
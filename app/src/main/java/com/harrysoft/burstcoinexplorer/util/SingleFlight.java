@@ -0,0 +1,53 @@
+package com.harrysoft.burstcoinexplorer.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import io.reactivex.Single;
+
+/**
+ * Shares one in-flight request, and its result, between every subscriber asking for the same key at the same time.
+ */
+public class SingleFlight<K> {
+
+    private final Map<K, Single<?>> inFlight = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> Single<T> execute(K key, Callable<Single<T>> source) {
+        return Single.defer(() -> {
+            synchronized (inFlight) {
+                Single<T> shared = (Single<T>) inFlight.get(key);
+                if (shared == null) {
+                    shared = share(key, source.call());
+                    inFlight.put(key, shared);
+                }
+                return shared;
+            }
+        });
+    }
+
+    public int inFlightCount() {
+        synchronized (inFlight) {
+            return inFlight.size();
+        }
+    }
+
+    private <T> Single<T> share(K key, Single<T> source) {
+        Object[] shared = new Object[1];
+        Single<T> single = source
+                .doFinally(() -> {
+                    synchronized (inFlight) {
+                        if (inFlight.get(key) == shared[0]) {
+                            inFlight.remove(key);
+                        }
+                    }
+                })
+                .toObservable()
+                .publish()
+                .refCount()
+                .singleOrError();
+        shared[0] = single;
+        return single;
+    }
+}
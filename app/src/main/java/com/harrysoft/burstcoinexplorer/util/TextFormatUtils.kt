@@ -3,7 +3,6 @@ package com.harrysoft.burstcoinexplorer.util
 import android.content.Context
 import android.text.TextUtils
 import burst.kit.entity.BurstAddress
-import burst.kit.entity.response.TransactionResponse
 import com.harrysoft.burstcoinexplorer.R
 import com.harrysoft.burstcoinexplorer.explore.entity.TransactionDisplayType
 
@@ -24,12 +23,16 @@ object TextFormatUtils {
         return if (TextUtils.isEmpty(address)) context.getString(R.string.not_set) else address
     }
 
+    /**
+     * @param amountNQT The amount, already converted so that binding a row does not have to
+     */
     @JvmStatic
-    fun transactionSummary(context: Context, transaction: TransactionResponse, displayType: TransactionDisplayType) : String {
-        val mDisplayType = if (transaction.recipient == null) TransactionDisplayType.FROM else displayType
+    fun transactionSummary(context: Context, amountNQT: Long, sender: BurstAddress, recipient: BurstAddress?, displayType: TransactionDisplayType) : String {
+        val mDisplayType = if (recipient == null) TransactionDisplayType.FROM else displayType
+        val amount = DisplayFormats.formatBurst(amountNQT)
         return when (mDisplayType) {
-            TransactionDisplayType.FROM -> context.getString(R.string.transaction_view_info_from, transaction.amountNQT.toString(), transaction.sender.fullAddress)
-            TransactionDisplayType.TO -> if (TextUtils.isEmpty(transaction.recipient!!.fullAddress)) transaction.amountNQT.toString() else context.getString(R.string.transaction_view_info_to, transaction.amountNQT.toString(), transaction.recipient!!.fullAddress)
+            TransactionDisplayType.FROM -> context.getString(R.string.transaction_view_info_from, amount, sender.fullAddress)
+            TransactionDisplayType.TO -> if (TextUtils.isEmpty(recipient!!.fullAddress)) amount else context.getString(R.string.transaction_view_info_to, amount, recipient.fullAddress)
         }
     }
 
@@ -1,5 +1,6 @@
 package com.harrysoft.burstcoinexplorer.util
 
+import android.support.annotation.StringRes
 import android.util.ArrayMap
 import com.harrysoft.burstcoinexplorer.R
 
@@ -55,83 +56,140 @@ object TransactionTypeUtils {
     private const val SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_CANCEL: Byte = 4
     private const val SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_PAYMENT: Byte = 5
 
+    /**
+     * Returned by [category] for a type that is not known.
+     */
+    const val CATEGORY_UNKNOWN = -1
+    const val CATEGORY_PAYMENT = 0
+    const val CATEGORY_MESSAGING = 1
+    const val CATEGORY_COLORED_COINS = 2
+    const val CATEGORY_DIGITAL_GOODS = 3
+    const val CATEGORY_ACCOUNT_CONTROL = 4
+    const val CATEGORY_BURST_MINING = 5
+    const val CATEGORY_ADVANCED_PAYMENT = 6
+    const val CATEGORY_AUTOMATED_TRANSACTIONS = 7
+    /**
+     * The categories are numbered from 0, so they can index an array of this size, eg. to count transactions by type.
+     */
+    const val CATEGORY_COUNT = 8
+
+    // Indexed by type. Types are small and mostly contiguous, so arrays are smaller than maps and need no boxing.
+    private val categories = IntArray(TYPE_AUTOMATED_TRANSACTIONS + 1) { CATEGORY_UNKNOWN }
+    private val typeNames = IntArray(TYPE_AUTOMATED_TRANSACTIONS + 1)
+    private val subtypeNames = arrayOfNulls<IntArray>(TYPE_AUTOMATED_TRANSACTIONS + 1)
+
+    init {
+        addType(TYPE_PAYMENT, CATEGORY_PAYMENT, R.string.transaction_type_payment,
+                SUBTYPE_PAYMENT_ORDINARY_PAYMENT to R.string.transaction_type_payment_ordinary,
+                SUBTYPE_PAYMENT_ORDINARY_PAYMENT_MULTI_OUT to R.string.transaction_type_payment_ordinary_multi_out,
+                SUBTYPE_PAYMENT_ORDINARY_PAYMENT_MULTI_SAME_OUT to R.string.transaction_type_payment_ordinary_multi_same_out)
+
+        addType(TYPE_MESSAGING, CATEGORY_MESSAGING, R.string.transaction_type_messaging,
+                SUBTYPE_MESSAGING_ARBITRARY_MESSAGE to R.string.transaction_type_messaging_arbitrary_message,
+                SUBTYPE_MESSAGING_ALIAS_ASSIGNMENT to R.string.transaction_type_messaging_alias_assignment,
+                SUBTYPE_MESSAGING_ACCOUNT_INFO to R.string.transaction_type_messaging_account_info,
+                SUBTYPE_MESSAGING_ALIAS_SELL to R.string.transaction_type_messaging_alias_sell,
+                SUBTYPE_MESSAGING_ALIAS_BUY to R.string.transaction_type_messaging_alias_buy)
+
+        addType(TYPE_COLORED_COINS, CATEGORY_COLORED_COINS, R.string.transaction_type_colored_coins,
+                SUBTYPE_COLORED_COINS_ASSET_ISSUANCE to R.string.transaction_type_colored_coins_asset_issuance,
+                SUBTYPE_COLORED_COINS_ASSET_TRANSFER to R.string.transaction_type_colored_coins_asset_transfer,
+                SUBTYPE_COLORED_COINS_ASK_ORDER_PLACEMENT to R.string.transaction_type_colored_coins_ask_order_placement,
+                SUBTYPE_COLORED_COINS_BID_ORDER_PLACEMENT to R.string.transaction_type_colored_coins_bid_order_placement,
+                SUBTYPE_COLORED_COINS_ASK_ORDER_CANCELLATION to R.string.transaction_type_colored_coins_ask_order_cancellation,
+                SUBTYPE_COLORED_COINS_BID_ORDER_CANCELLATION to R.string.transaction_type_colored_coins_bid_order_cancellation)
+
+        addType(TYPE_DIGITAL_GOODS, CATEGORY_DIGITAL_GOODS, R.string.transaction_type_digital_goods,
+                SUBTYPE_DIGITAL_GOODS_LISTING to R.string.transaction_type_digital_goods_listing,
+                SUBTYPE_DIGITAL_GOODS_DELISTING to R.string.transaction_type_digital_goods_delisting,
+                SUBTYPE_DIGITAL_GOODS_PRICE_CHANGE to R.string.transaction_type_digital_goods_price_change,
+                SUBTYPE_DIGITAL_GOODS_QUANTITY_CHANGE to R.string.transaction_type_digital_goods_quantity_change,
+                SUBTYPE_DIGITAL_GOODS_PURCHASE to R.string.transaction_type_digital_goods_purchase,
+                SUBTYPE_DIGITAL_GOODS_DELIVERY to R.string.transaction_type_digital_goods_delivery,
+                SUBTYPE_DIGITAL_GOODS_FEEDBACK to R.string.transaction_type_digital_goods_feedback,
+                SUBTYPE_DIGITAL_GOODS_REFUND to R.string.transaction_type_digital_goods_refund)
+
+        addType(TYPE_ACCOUNT_CONTROL, CATEGORY_ACCOUNT_CONTROL, R.string.transaction_type_account_control,
+                SUBTYPE_ACCOUNT_CONTROL_EFFECTIVE_BALANCE_LEASING to R.string.transaction_type_account_control_effective_balance_leasing)
+
+        addType(TYPE_BURST_MINING, CATEGORY_BURST_MINING, R.string.transaction_type_mining,
+                SUBTYPE_BURST_MINING_REWARD_RECIPIENT_ASSIGNMENT to R.string.transaction_type_mining_reward_recipient_assignment)
+
+        addType(TYPE_ADVANCED_PAYMENT, CATEGORY_ADVANCED_PAYMENT, R.string.transaction_type_advanced_payment,
+                SUBTYPE_ADVANCED_PAYMENT_ESCROW_CREATION to R.string.transaction_type_advanced_payment_escrow_creation,
+                SUBTYPE_ADVANCED_PAYMENT_ESCROW_SIGN to R.string.transaction_type_advanced_payment_escrow_sign,
+                SUBTYPE_ADVANCED_PAYMENT_ESCROW_RESULT to R.string.transaction_type_advanced_payment_escrow_result,
+                SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_SUBSCRIBE to R.string.transaction_type_advanced_payment_subscription_subscribe,
+                SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_CANCEL to R.string.transaction_type_advanced_payment_subscription_cancel,
+                SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_PAYMENT to R.string.transaction_type_advanced_payment_subscription_payment)
+
+        addType(TYPE_AUTOMATED_TRANSACTIONS, CATEGORY_AUTOMATED_TRANSACTIONS, R.string.transaction_type_automated_transactions,
+                SUBTYPE_AT_CREATION to R.string.transaction_type_automated_transactions_create,
+                SUBTYPE_AT_NXT_PAYMENT to R.string.transaction_type_automated_transactions_payment)
+    }
+
+    private fun addType(type: Byte, category: Int, @StringRes name: Int, vararg subtypes: Pair<Byte, Int>) {
+        categories[type.toInt()] = category
+        typeNames[type.toInt()] = name
+        val names = IntArray(subtypes.map { it.first.toInt() }.max()!! + 1)
+        for ((subtype, subtypeName) in subtypes) {
+            names[subtype.toInt()] = subtypeName
+        }
+        subtypeNames[type.toInt()] = names
+    }
+
+    /**
+     * @return One of the CATEGORY constants, or [CATEGORY_UNKNOWN]
+     */
+    @JvmStatic
+    fun category(type: Int): Int {
+        return if (type in 0 until categories.size) categories[type] else CATEGORY_UNKNOWN
+    }
+
+    @JvmStatic
+    fun isKnown(type: Int, subtype: Int): Boolean {
+        return getSubtypeName(type, subtype) != 0
+    }
+
+    /**
+     * @return The name of the type, or 0 if it is not known
+     */
+    @StringRes
+    @JvmStatic
+    fun getTypeName(type: Int): Int {
+        return if (type in 0 until typeNames.size) typeNames[type] else 0
+    }
+
+    /**
+     * @return The name of the subtype, or 0 if it is not known
+     */
+    @StringRes
+    @JvmStatic
+    fun getSubtypeName(type: Int, subtype: Int): Int {
+        val names = (if (type in 0 until subtypeNames.size) subtypeNames[type] else null) ?: return 0
+        return if (subtype in 0 until names.size) names[subtype] else 0
+    }
+
     @JvmStatic
-    val transactionTypes: Map<Byte, Int>
-        get() {
-            val transactionTypes = ArrayMap<Byte, Int>()
-            transactionTypes[TYPE_PAYMENT] = R.string.transaction_type_payment
-            transactionTypes[TYPE_MESSAGING] = R.string.transaction_type_messaging
-            transactionTypes[TYPE_COLORED_COINS] = R.string.transaction_type_colored_coins
-            transactionTypes[TYPE_DIGITAL_GOODS] = R.string.transaction_type_digital_goods
-            transactionTypes[TYPE_ACCOUNT_CONTROL] = R.string.transaction_type_account_control
-            transactionTypes[TYPE_BURST_MINING] = R.string.transaction_type_mining
-            transactionTypes[TYPE_ADVANCED_PAYMENT] = R.string.transaction_type_mining
-            transactionTypes[TYPE_AUTOMATED_TRANSACTIONS] = R.string.transaction_type_automated_transactions
-            return transactionTypes
+    val transactionTypes: Map<Byte, Int> by lazy {
+        val transactionTypes = ArrayMap<Byte, Int>()
+        for (type in typeNames.indices) {
+            if (typeNames[type] != 0) transactionTypes[type.toByte()] = typeNames[type]
         }
+        transactionTypes
+    }
 
     @JvmStatic
-    val transactionSubTypes: Map<Byte, Map<Byte, Int>>
-        get() {
-            val transactionTypes = ArrayMap<Byte, Map<Byte, Int>>()
-            val paymentSubTypes = ArrayMap<Byte, Int>()
-            val messagingSubTypes = ArrayMap<Byte, Int>()
-            val coloredCoinSubTypes = ArrayMap<Byte, Int>()
-            val digitalGoodsSubTypes = ArrayMap<Byte, Int>()
-            val accountControlSubTypes = ArrayMap<Byte, Int>()
-            val burstMiningSubTypes = ArrayMap<Byte, Int>()
-            val advancedPaymentSubTypes = ArrayMap<Byte, Int>()
-            val automatedTransactionSubTypes = ArrayMap<Byte, Int>()
-
-            paymentSubTypes[SUBTYPE_PAYMENT_ORDINARY_PAYMENT] = R.string.transaction_type_payment_ordinary
-            paymentSubTypes[SUBTYPE_PAYMENT_ORDINARY_PAYMENT_MULTI_OUT] = R.string.transaction_type_payment_ordinary_multi_out
-            paymentSubTypes[SUBTYPE_PAYMENT_ORDINARY_PAYMENT_MULTI_SAME_OUT] = R.string.transaction_type_payment_ordinary_multi_same_out
-
-            messagingSubTypes[SUBTYPE_MESSAGING_ARBITRARY_MESSAGE] = R.string.transaction_type_messaging_arbitrary_message
-            messagingSubTypes[SUBTYPE_MESSAGING_ALIAS_ASSIGNMENT] = R.string.transaction_type_messaging_alias_assignment
-            messagingSubTypes[SUBTYPE_MESSAGING_ACCOUNT_INFO] = R.string.transaction_type_messaging_account_info
-            messagingSubTypes[SUBTYPE_MESSAGING_ALIAS_SELL] = R.string.transaction_type_messaging_alias_sell
-            messagingSubTypes[SUBTYPE_MESSAGING_ALIAS_BUY] = R.string.transaction_type_messaging_alias_buy
-
-            coloredCoinSubTypes[SUBTYPE_COLORED_COINS_ASSET_ISSUANCE] = R.string.transaction_type_colored_coins_asset_issuance
-            coloredCoinSubTypes[SUBTYPE_COLORED_COINS_ASSET_TRANSFER] = R.string.transaction_type_colored_coins_asset_transfer
-            coloredCoinSubTypes[SUBTYPE_COLORED_COINS_ASK_ORDER_PLACEMENT] = R.string.transaction_type_colored_coins_ask_order_placement
-            coloredCoinSubTypes[SUBTYPE_COLORED_COINS_BID_ORDER_PLACEMENT] = R.string.transaction_type_colored_coins_bid_order_placement
-            coloredCoinSubTypes[SUBTYPE_COLORED_COINS_ASK_ORDER_CANCELLATION] = R.string.transaction_type_colored_coins_ask_order_cancellation
-            coloredCoinSubTypes[SUBTYPE_COLORED_COINS_BID_ORDER_CANCELLATION] = R.string.transaction_type_colored_coins_bid_order_cancellation
-
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_LISTING] = R.string.transaction_type_digital_goods_listing
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_DELISTING] = R.string.transaction_type_digital_goods_delisting
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_PRICE_CHANGE] = R.string.transaction_type_digital_goods_price_change
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_QUANTITY_CHANGE] = R.string.transaction_type_digital_goods_quantity_change
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_PURCHASE] = R.string.transaction_type_digital_goods_purchase
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_DELIVERY] = R.string.transaction_type_digital_goods_delivery
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_FEEDBACK] = R.string.transaction_type_digital_goods_feedback
-            digitalGoodsSubTypes[SUBTYPE_DIGITAL_GOODS_REFUND] = R.string.transaction_type_digital_goods_refund
-
-            accountControlSubTypes[SUBTYPE_ACCOUNT_CONTROL_EFFECTIVE_BALANCE_LEASING] = R.string.transaction_type_account_control_effective_balance_leasing
-
-            burstMiningSubTypes[SUBTYPE_BURST_MINING_REWARD_RECIPIENT_ASSIGNMENT] = R.string.transaction_type_mining_reward_recipient_assignment
-
-            advancedPaymentSubTypes[SUBTYPE_ADVANCED_PAYMENT_ESCROW_CREATION] = R.string.transaction_type_advanced_payment_escrow_creation
-            advancedPaymentSubTypes[SUBTYPE_ADVANCED_PAYMENT_ESCROW_SIGN] = R.string.transaction_type_advanced_payment_escrow_sign
-            advancedPaymentSubTypes[SUBTYPE_ADVANCED_PAYMENT_ESCROW_RESULT] = R.string.transaction_type_advanced_payment_escrow_result
-            advancedPaymentSubTypes[SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_SUBSCRIBE] = R.string.transaction_type_advanced_payment_subscription_subscribe
-            advancedPaymentSubTypes[SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_CANCEL] = R.string.transaction_type_advanced_payment_subscription_cancel
-            advancedPaymentSubTypes[SUBTYPE_ADVANCED_PAYMENT_SUBSCRIPTION_PAYMENT] = R.string.transaction_type_advanced_payment_subscription_payment
-
-            automatedTransactionSubTypes[SUBTYPE_AT_CREATION] = R.string.transaction_type_automated_transactions_create
-            automatedTransactionSubTypes[SUBTYPE_AT_NXT_PAYMENT] = R.string.transaction_type_automated_transactions_payment
-
-            transactionTypes[TYPE_PAYMENT] = paymentSubTypes
-            transactionTypes[TYPE_MESSAGING] = messagingSubTypes
-            transactionTypes[TYPE_COLORED_COINS] = coloredCoinSubTypes
-            transactionTypes[TYPE_DIGITAL_GOODS] = digitalGoodsSubTypes
-            transactionTypes[TYPE_ACCOUNT_CONTROL] = accountControlSubTypes
-            transactionTypes[TYPE_BURST_MINING] = burstMiningSubTypes
-            transactionTypes[TYPE_ADVANCED_PAYMENT] = advancedPaymentSubTypes
-            transactionTypes[TYPE_AUTOMATED_TRANSACTIONS] = automatedTransactionSubTypes
-
-            return transactionTypes
+    val transactionSubTypes: Map<Byte, Map<Byte, Int>> by lazy {
+        val transactionTypes = ArrayMap<Byte, Map<Byte, Int>>()
+        for (type in subtypeNames.indices) {
+            val names = subtypeNames[type] ?: continue
+            val subTypes = ArrayMap<Byte, Int>()
+            for (subtype in names.indices) {
+                if (names[subtype] != 0) subTypes[subtype.toByte()] = names[subtype]
+            }
+            transactionTypes[type.toByte()] = subTypes
         }
+        transactionTypes
+    }
 }
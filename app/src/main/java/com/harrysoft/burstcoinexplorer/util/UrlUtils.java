@@ -0,0 +1,24 @@
+package com.harrysoft.burstcoinexplorer.util;
+
+import java.net.URI;
+
+/**
+ * Works with the URLs of nodes and other services the app talks to.
+ */
+public final class UrlUtils {
+
+    private UrlUtils() {
+    }
+
+    /**
+     * @param url A URL, or a bare host name which is returned as it is
+     */
+    public static String hostOf(String url) {
+        try {
+            String host = new URI(url).getHost();
+            return host != null ? host : url;
+        } catch (Exception e) {
+            return url;
+        }
+    }
+}
@@ -1,8 +1,32 @@
 package com.harrysoft.burstcoinexplorer.runner;
 
+import com.harrysoft.burstcoinexplorer.test.AccountHistorySyncTest;
+import com.harrysoft.burstcoinexplorer.test.AccountWatcherTest;
 import com.harrysoft.burstcoinexplorer.test.BurstAddressTest;
+import com.harrysoft.burstcoinexplorer.test.BurstNodeClientTest;
+import com.harrysoft.burstcoinexplorer.test.BurstServiceExtensionsTest;
 import com.harrysoft.burstcoinexplorer.test.BurstValueTest;
+import com.harrysoft.burstcoinexplorer.test.BurstValueUtilsTest;
+import com.harrysoft.burstcoinexplorer.test.CircuitBreakerTest;
+import com.harrysoft.burstcoinexplorer.test.DisplayFormatsTest;
+import com.harrysoft.burstcoinexplorer.test.EntityCacheTest;
 import com.harrysoft.burstcoinexplorer.test.FileSizeUtilsTest;
+import com.harrysoft.burstcoinexplorer.test.HostRateLimiterTest;
+import com.harrysoft.burstcoinexplorer.test.LongHashSetTest;
+import com.harrysoft.burstcoinexplorer.test.NodePoolTest;
+import com.harrysoft.burstcoinexplorer.test.OkHttpTransportTest;
+import com.harrysoft.burstcoinexplorer.test.PagedListTest;
+import com.harrysoft.burstcoinexplorer.test.PipelinedLoaderTest;
+import com.harrysoft.burstcoinexplorer.test.PositionalStoreTest;
+import com.harrysoft.burstcoinexplorer.test.RecentBlocksSyncTest;
+import com.harrysoft.burstcoinexplorer.test.RequestHedgerTest;
+import com.harrysoft.burstcoinexplorer.test.RequestSchedulerTest;
+import com.harrysoft.burstcoinexplorer.test.ResponseCacheTest;
+import com.harrysoft.burstcoinexplorer.test.RetryPolicyTest;
+import com.harrysoft.burstcoinexplorer.test.SavedAccountsRefresherTest;
+import com.harrysoft.burstcoinexplorer.test.SavedAccountsSyncEngineTest;
+import com.harrysoft.burstcoinexplorer.test.SingleFlightTest;
+import com.harrysoft.burstcoinexplorer.test.TipPollScheduleTest;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -10,9 +34,33 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 
 @Suite.SuiteClasses({
+        AccountHistorySyncTest.class,
+        AccountWatcherTest.class,
         BurstAddressTest.class,
+        BurstNodeClientTest.class,
+        BurstServiceExtensionsTest.class,
         BurstValueTest.class,
+        BurstValueUtilsTest.class,
+        CircuitBreakerTest.class,
+        DisplayFormatsTest.class,
+        EntityCacheTest.class,
         FileSizeUtilsTest.class,
+        HostRateLimiterTest.class,
+        LongHashSetTest.class,
+        NodePoolTest.class,
+        OkHttpTransportTest.class,
+        PagedListTest.class,
+        PipelinedLoaderTest.class,
+        PositionalStoreTest.class,
+        RecentBlocksSyncTest.class,
+        RequestHedgerTest.class,
+        RequestSchedulerTest.class,
+        ResponseCacheTest.class,
+        RetryPolicyTest.class,
+        SavedAccountsRefresherTest.class,
+        SavedAccountsSyncEngineTest.class,
+        SingleFlightTest.class,
+        TipPollScheduleTest.class,
 })
 
 public class AllUnitTests {
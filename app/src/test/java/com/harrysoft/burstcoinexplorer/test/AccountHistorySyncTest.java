@@ -0,0 +1,215 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.explore.db.AccountSyncRecord;
+import com.harrysoft.burstcoinexplorer.explore.sync.AccountHistorySync;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class AccountHistorySyncTest {
+
+    private static final long ACCOUNT = 1;
+
+    private static class FakeNode implements AccountHistorySync.RemoteHistory {
+        private final List<Long> transactions = new ArrayList<>(); // Newest first
+        private final List<Integer> requestSizes = new ArrayList<>();
+
+        void confirm(long first, long last) {
+            for (long id = first; id <= last; id++) {
+                transactions.add(0, id);
+            }
+        }
+
+        @Override
+        public List<Long> fetchTransactionIDs(long accountId, int firstIndex, int lastIndex) {
+            requestSizes.add(lastIndex - firstIndex + 1);
+            return new ArrayList<>(transactions.subList(Math.min(firstIndex, transactions.size()), Math.min(lastIndex + 1, transactions.size())));
+        }
+    }
+
+    private static class FakeStore implements AccountHistorySync.LocalHistory {
+        private final Map<Long, AccountSyncRecord> records = new HashMap<>();
+        private final List<Long> transactions = new ArrayList<>(); // Newest first
+
+        @Override
+        public AccountSyncRecord getRecord(long accountId) {
+            return records.get(accountId);
+        }
+
+        @Override
+        public List<Long> getTransactionIDs(long accountId, int offset, int count) {
+            return new ArrayList<>(transactions.subList(Math.min(offset, transactions.size()), Math.min(offset + count, transactions.size())));
+        }
+
+        @Override
+        public void update(AccountSyncRecord record, List<Long> removed, List<Long> newer, List<Long> older) {
+            transactions.removeAll(removed);
+            List<Long> added = new ArrayList<>(newer);
+            added.removeAll(transactions);
+            transactions.addAll(0, added);
+            for (Long id : older) {
+                if (!transactions.contains(id)) {
+                    transactions.add(id);
+                }
+            }
+            record.setTransactionCount(transactions.size());
+            records.put(record.getAccountId(), record);
+        }
+
+        @Override
+        public void replace(AccountSyncRecord record, List<Long> transactionIDs) {
+            transactions.clear();
+            transactions.addAll(transactionIDs);
+            record.setTransactionCount(transactions.size());
+            records.put(record.getAccountId(), record);
+        }
+    }
+
+    private long now = 1000000;
+
+    @Test
+    public void testAccountHistorySyncFetchesOnlyNewTransactions() throws Exception {
+        FakeNode node = new FakeNode();
+        node.confirm(1, 100);
+        FakeStore store = new FakeStore();
+        AccountHistorySync sync = new AccountHistorySync(node, store, () -> now, 30000);
+
+        List<Long> ids = sync.loadTransactionIDs(ACCOUNT, 0, 25);
+        assertEquals(25, ids.size());
+        assertEquals(100L, (long) ids.get(0));
+        assertEquals(100L, store.getRecord(ACCOUNT).getLastTransactionId());
+
+        // Within the sync interval nothing is asked of the node
+        int requests = node.requestSizes.size();
+        sync.loadTransactionIDs(ACCOUNT, 0, 25);
+        assertEquals(requests, node.requestSizes.size());
+
+        // Revisiting a busy account costs one small request
+        node.confirm(101, 105);
+        now += 60000;
+        ids = sync.loadTransactionIDs(ACCOUNT, 0, 25);
+        assertEquals(requests + 1, node.requestSizes.size());
+        assertTrue(node.requestSizes.get(requests) <= 20);
+        assertEquals(105L, (long) ids.get(0));
+        assertEquals(81L, (long) ids.get(24));
+        assertEquals(30, store.getRecord(ACCOUNT).getTransactionCount());
+        assertEquals(105L, store.getRecord(ACCOUNT).getLastTransactionId());
+        assertEquals(now, store.getRecord(ACCOUNT).getLastSyncedAt());
+    }
+
+    @Test
+    public void testAccountHistorySyncPagesOlderTransactions() throws Exception {
+        FakeNode node = new FakeNode();
+        node.confirm(1, 40);
+        FakeStore store = new FakeStore();
+        AccountHistorySync sync = new AccountHistorySync(node, store, () -> now, 30000);
+
+        sync.loadTransactionIDs(ACCOUNT, 0, 25);
+        assertFalse(store.getRecord(ACCOUNT).isComplete());
+        List<Long> ids = sync.loadTransactionIDs(ACCOUNT, 25, 25);
+        assertEquals(15, ids.size());
+        assertEquals(1L, (long) ids.get(14));
+        assertTrue(store.getRecord(ACCOUNT).isComplete());
+
+        // Complete, so the end is served locally
+        int requests = node.requestSizes.size();
+        assertTrue(sync.loadTransactionIDs(ACCOUNT, 40, 25).isEmpty());
+        assertEquals(requests, node.requestSizes.size());
+    }
+
+    @Test
+    public void testAccountHistorySyncDropsOrphanedTransactions() throws Exception {
+        FakeNode node = new FakeNode();
+        node.confirm(1, 30);
+        FakeStore store = new FakeStore();
+        AccountHistorySync sync = new AccountHistorySync(node, store, () -> now, 30000);
+        sync.loadTransactionIDs(ACCOUNT, 0, 25);
+
+        // 30 was orphaned and went back to unconfirmed, then confirms again above 31
+        node.transactions.remove(Long.valueOf(30));
+        node.confirm(31, 31);
+        node.transactions.add(0, 30L);
+        now += 60000;
+        List<Long> ids = sync.loadTransactionIDs(ACCOUNT, 0, 25);
+        assertEquals(30L, (long) ids.get(0));
+        assertEquals(31L, (long) ids.get(1));
+        assertEquals(29L, (long) ids.get(2));
+        assertEquals(26, store.getRecord(ACCOUNT).getTransactionCount());
+
+        // Orphaned for good
+        node.transactions.remove(0);
+        now += 60000;
+        ids = sync.loadTransactionIDs(ACCOUNT, 0, 25);
+        assertEquals(31L, (long) ids.get(0));
+        assertEquals(29L, (long) ids.get(1));
+        assertEquals(31L, store.getRecord(ACCOUNT).getLastTransactionId());
+    }
+
+    @Test
+    public void testAccountHistorySyncStartsAgainWhenTooFarBehind() throws Exception {
+        FakeNode node = new FakeNode();
+        node.confirm(1, 30);
+        FakeStore store = new FakeStore();
+        AccountHistorySync sync = new AccountHistorySync(node, store, () -> now, 30000);
+        sync.loadTransactionIDs(ACCOUNT, 0, 25);
+
+        node.confirm(31, 1000);
+        now += 60000;
+        List<Long> ids = sync.loadTransactionIDs(ACCOUNT, 0, 25);
+        assertEquals(1000L, (long) ids.get(0));
+        assertFalse(store.getRecord(ACCOUNT).isComplete());
+        assertTrue(store.getRecord(ACCOUNT).getTransactionCount() < 970);
+
+        // The rest is paged in from where the local copy ends
+        int held = store.getRecord(ACCOUNT).getTransactionCount();
+        ids = sync.loadTransactionIDs(ACCOUNT, held, 25);
+        assertEquals(1000L - held, (long) ids.get(0));
+    }
+
+    @Test(timeout = 10000)
+    public void testAccountHistorySyncDoesNotWaitForAnotherAccount() throws Exception {
+        FakeNode node = new FakeNode();
+        node.confirm(1, 100);
+        CountDownLatch slowNodeStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowNode = new CountDownLatch(1);
+        long slowAccount = 2;
+        AccountHistorySync sync = new AccountHistorySync((accountId, firstIndex, lastIndex) -> {
+            if (accountId == slowAccount) {
+                slowNodeStarted.countDown();
+                releaseSlowNode.await();
+                return new ArrayList<>();
+            }
+            return node.fetchTransactionIDs(accountId, firstIndex, lastIndex);
+        }, new FakeStore(), () -> now, 30000);
+
+        Thread slowLoad = new Thread(() -> {
+            try {
+                sync.loadTransactionIDs(slowAccount, 0, 25);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        slowLoad.start();
+        slowNodeStarted.await();
+
+        // Both a page that needs the node and a page that is already held load while the other account is stuck
+        assertEquals(100L, (long) sync.loadTransactionIDs(ACCOUNT, 0, 25).get(0));
+        assertEquals(75L, (long) sync.loadTransactionIDs(ACCOUNT, 25, 25).get(0));
+        assertEquals(100L, (long) sync.loadTransactionIDs(ACCOUNT, 0, 25).get(0));
+
+        releaseSlowNode.countDown();
+        slowLoad.join();
+    }
+}
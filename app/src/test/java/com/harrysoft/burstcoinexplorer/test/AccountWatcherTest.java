@@ -0,0 +1,134 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.accounts.sync.AccountWatcher;
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class AccountWatcherTest {
+
+    private static class FakeNode implements AccountWatcher.BlockContents {
+        private final Map<Long, long[]> blocks = new HashMap<>();
+        private final Map<Long, Long> rewardRecipients = new HashMap<>();
+        private int requests = 0;
+
+        StoredBlock block(long blockId, long generatorId, long[]... transactionParticipants) {
+            List<Long> participants = new ArrayList<>();
+            for (long[] transaction : transactionParticipants) {
+                for (long participant : transaction) {
+                    participants.add(participant);
+                }
+            }
+            long[] blockParticipants = new long[participants.size()];
+            for (int i = 0; i < blockParticipants.length; i++) {
+                blockParticipants[i] = participants.get(i);
+            }
+            blocks.put(blockId, blockParticipants);
+            StoredBlock block = new StoredBlock();
+            block.setBlockId(blockId);
+            block.setGeneratorId(generatorId);
+            block.setNumberOfTransactions(transactionParticipants.length);
+            return block;
+        }
+
+        @Override
+        public Single<long[]> fetchParticipants(long blockId) {
+            requests++;
+            return Single.just(blocks.get(blockId));
+        }
+
+        @Override
+        public Single<Long> fetchRewardRecipient(long accountId) {
+            requests++;
+            Long rewardRecipient = rewardRecipients.get(accountId);
+            return Single.just(rewardRecipient == null ? accountId : rewardRecipient);
+        }
+    }
+
+    private static class RecordingHandler implements AccountWatcher.ChangeHandler {
+        private final List<long[]> changed = new ArrayList<>();
+        private int allStale = 0;
+
+        @Override
+        public Completable onAccountsChanged(long[] accountIds) {
+            long[] sorted = accountIds.clone();
+            Arrays.sort(sorted);
+            changed.add(sorted);
+            return Completable.complete();
+        }
+
+        @Override
+        public Completable onAllAccountsStale() {
+            allStale++;
+            return Completable.complete();
+        }
+    }
+
+    @Test
+    public void testAccountWatcherRefreshesOnlyAccountsInBlock() {
+        FakeNode node = new FakeNode();
+        RecordingHandler handler = new RecordingHandler();
+        AccountWatcher watcher = new AccountWatcher(node, handler, 10);
+        List<Long> watched = new ArrayList<>();
+        for (long i = 1; i <= 500; i++) {
+            watched.add(i * 7);
+        }
+        watcher.setWatched(watched);
+        node.rewardRecipients.put(99L, 14L); // Mines for a watched pool
+
+        StoredBlock first = node.block(1, 99, new long[]{7, 3}, new long[]{5, 6}, new long[]{8});
+        StoredBlock second = node.block(2, 21);
+        watcher.scan(Arrays.asList(second, first), false).blockingAwait();
+
+        assertEquals(1, handler.changed.size());
+        assertArrayEquals(new long[]{7, 14, 21}, handler.changed.get(0));
+        // One reward recipient and one block with its transactions for the first block, however many transactions it has
+        assertEquals(2, node.requests);
+    }
+
+    @Test
+    public void testAccountWatcherSkipsUnwatchedBlocks() {
+        FakeNode node = new FakeNode();
+        RecordingHandler handler = new RecordingHandler();
+        AccountWatcher watcher = new AccountWatcher(node, handler, 10);
+
+        StoredBlock block = node.block(1, 99, new long[]{7, 3});
+        watcher.scan(Collections.singletonList(block), false).blockingAwait();
+        assertEquals(0, node.requests);
+
+        watcher.setWatched(Collections.singletonList(4L));
+        watcher.scan(Collections.singletonList(block), false).blockingAwait();
+        assertTrue(handler.changed.isEmpty());
+    }
+
+    @Test
+    public void testAccountWatcherRefreshesEverythingWhenTooFarBehind() {
+        FakeNode node = new FakeNode();
+        RecordingHandler handler = new RecordingHandler();
+        AccountWatcher watcher = new AccountWatcher(node, handler, 2);
+        watcher.setWatched(Collections.singletonList(7L));
+
+        List<StoredBlock> blocks = Arrays.asList(node.block(3, 1), node.block(2, 1), node.block(1, 1));
+        watcher.scan(blocks, false).blockingAwait();
+        watcher.scan(blocks.subList(0, 1), true).blockingAwait();
+        assertEquals(2, handler.allStale);
+        assertEquals(0, node.requests);
+    }
+}
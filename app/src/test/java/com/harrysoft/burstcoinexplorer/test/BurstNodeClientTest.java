@@ -0,0 +1,106 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+import com.harrysoft.burstcoinexplorer.burst.node.HttpNodeApi;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeMetrics;
+import com.harrysoft.burstcoinexplorer.burst.node.NodePool;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreaker;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestScheduler;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HostRateLimiter;
+import com.harrysoft.burstcoinexplorer.main.service.transport.RateLimitProfile;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+import burst.kit.service.BurstNodeService;
+import burst.kit.util.SchedulerAssigner;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class BurstNodeClientTest {
+
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (HttpServer server : servers) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testBurstNodeClientFailsOverFromServerError() throws IOException {
+        AtomicInteger unavailableHits = new AtomicInteger();
+        AtomicInteger healthyHits = new AtomicInteger();
+        // Different host names, so that the two nodes get separate circuit breakers
+        String unavailable = "http://localhost:" + startNode(503, "{}", unavailableHits);
+        String healthy = "http://127.0.0.1:" + startNode(200, "{\"rewardRecipient\":\"1234567890\",\"requestProcessingTime\":0}", healthyHits);
+
+        NodePool nodePool = new NodePool(unavailable, Arrays.asList(unavailable, healthy), Clock.SYSTEM);
+        nodePool.claimProbe(0); // Keeps the background probe from racing the test
+        NodeMetrics metrics = new NodeMetrics();
+        CircuitBreakerRegistry circuitBreakers = new CircuitBreakerRegistry(1, TimeUnit.MINUTES.toMillis(1), Clock.SYSTEM);
+        SchedulerAssigner schedulerAssigner = new SchedulerAssigner() {
+            @Override
+            public <T> Single<T> assignSchedulers(Single<T> source) {
+                return source.subscribeOn(Schedulers.io());
+            }
+        };
+        BurstNodeClient client = new BurstNodeClient(nodePool, address -> 0, address -> BurstNodeService.getInstance(address, schedulerAssigner),
+                new HttpNodeApi(5000), Clock.SYSTEM, metrics, false, circuitBreakers, new RetryPolicy(1, 0, 0, new Random(), Schedulers.computation()),
+                RequestScheduler.defaultScheduler(), new HostRateLimiter(Collections.emptyList(), RateLimitProfile.UNKNOWN_HOST, Clock.SYSTEM, Schedulers.computation()));
+
+        TestObserver<BurstAddress> observer = client.getRewardRecipient(BurstAddress.fromId(new BurstID("1"))).test();
+        observer.awaitDone(10, TimeUnit.SECONDS);
+
+        // The 503 counts against the node, so the call moves on to the next one
+        observer.assertNoErrors();
+        assertEquals(1, unavailableHits.get());
+        assertEquals(1, healthyHits.get());
+        assertEquals(1, metrics.getFailovers());
+        assertTrue(nodePool.getErrorRate(unavailable) > 0);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakers.get(unavailable).getState());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.get(healthy).getState());
+    }
+
+    private int startNode(int responseCode, String response, AtomicInteger hits) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            byte[] body = response.getBytes(Charset.forName("UTF-8"));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseCode, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,149 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.burst.BurstNodeClient;
+import com.harrysoft.burstcoinexplorer.burst.BurstServiceExtensions;
+import com.harrysoft.burstcoinexplorer.burst.entity.AccountWithRewardRecipient;
+import com.harrysoft.burstcoinexplorer.burst.node.HttpNodeApi;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeMetrics;
+import com.harrysoft.burstcoinexplorer.burst.node.NodePool;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestScheduler;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HostRateLimiter;
+import com.harrysoft.burstcoinexplorer.main.service.transport.RateLimitProfile;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+import burst.kit.service.BurstNodeService;
+import burst.kit.util.SchedulerAssigner;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.Schedulers;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(JUnit4.class)
+public class BurstServiceExtensionsTest {
+
+    private static final String SOLO_MINER = "1";
+    private static final String POOL_MINER = "2";
+    private static final String POOL = "3";
+    private static final String UNREACHABLE_MINER = "4";
+
+    private MockWebServer server;
+    private final AtomicInteger accountRequests = new AtomicInteger();
+    private final AtomicInteger rewardRecipientRequests = new AtomicInteger();
+
+    /**
+     * A stand-in node that knows a solo miner, a miner paying a pool, and a miner whose reward recipient cannot be looked up.
+     */
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                HttpUrl url = request.getRequestUrl();
+                String account = url.queryParameter("account");
+                switch (String.valueOf(url.queryParameter("requestType"))) {
+                    case "getAccount":
+                        accountRequests.incrementAndGet();
+                        return json("{\"account\":\"" + account + "\",\"name\":\"Account " + account + "\",\"balanceNQT\":\"100000000\",\"requestProcessingTime\":0}");
+                    case "getRewardRecipient":
+                        rewardRecipientRequests.incrementAndGet();
+                        if (UNREACHABLE_MINER.equals(account)) {
+                            return new MockResponse().setResponseCode(503);
+                        }
+                        return json("{\"rewardRecipient\":\"" + (POOL_MINER.equals(account) ? POOL : account) + "\",\"requestProcessingTime\":0}");
+                    default:
+                        return new MockResponse().setResponseCode(404);
+                }
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    private BurstNodeClient createClient() {
+        String node = server.url("/burst").toString();
+        NodePool nodePool = new NodePool(node, Collections.singletonList(node), Clock.SYSTEM);
+        nodePool.claimProbe(0); // Keeps the background probe from adding requests
+        SchedulerAssigner schedulerAssigner = new SchedulerAssigner() {
+            @Override
+            public <T> Single<T> assignSchedulers(Single<T> source) {
+                return source.subscribeOn(Schedulers.io());
+            }
+        };
+        return new BurstNodeClient(nodePool, address -> 0, address -> BurstNodeService.getInstance(address, schedulerAssigner),
+                new HttpNodeApi(5000), Clock.SYSTEM, new NodeMetrics(), false, new CircuitBreakerRegistry(10, TimeUnit.MINUTES.toMillis(1), Clock.SYSTEM),
+                new RetryPolicy(1, 0, 0, new Random(), Schedulers.computation()), RequestScheduler.defaultScheduler(),
+                new HostRateLimiter(Collections.emptyList(), RateLimitProfile.UNKNOWN_HOST, Clock.SYSTEM, Schedulers.computation()));
+    }
+
+    private static BurstAddress address(String id) {
+        return BurstAddress.fromId(new BurstID(id));
+    }
+
+    @Test
+    public void testFetchAccountWithSelfRewardRecipient() {
+        TestObserver<AccountWithRewardRecipient> observer = BurstServiceExtensions.fetchAccountWithRewardRecipient(createClient(), address(SOLO_MINER)).test();
+        observer.awaitDone(10, TimeUnit.SECONDS);
+
+        observer.assertNoErrors();
+        AccountWithRewardRecipient account = observer.values().get(0);
+        assertEquals(address(SOLO_MINER).getFullAddress(), account.getRewardRecipient().getFullAddress());
+        assertEquals("Account " + SOLO_MINER, account.getRewardRecipientName());
+        // A solo miner's own account is not fetched a second time
+        assertEquals(1, accountRequests.get());
+        assertEquals(1, rewardRecipientRequests.get());
+    }
+
+    @Test
+    public void testFetchAccountWithDifferentRewardRecipient() {
+        TestObserver<AccountWithRewardRecipient> observer = BurstServiceExtensions.fetchAccountWithRewardRecipient(createClient(), address(POOL_MINER)).test();
+        observer.awaitDone(10, TimeUnit.SECONDS);
+
+        observer.assertNoErrors();
+        AccountWithRewardRecipient account = observer.values().get(0);
+        assertEquals(address(POOL_MINER).getFullAddress(), account.getAccount().getAccount().getFullAddress());
+        assertEquals(address(POOL).getFullAddress(), account.getRewardRecipient().getFullAddress());
+        assertEquals("Account " + POOL, account.getRewardRecipientName());
+        assertEquals(2, accountRequests.get());
+    }
+
+    @Test
+    public void testFetchAccountWithRewardRecipientFailsIfEitherCallFails() {
+        TestObserver<AccountWithRewardRecipient> observer = BurstServiceExtensions.fetchAccountWithRewardRecipient(createClient(), address(UNREACHABLE_MINER)).test();
+        observer.awaitDone(10, TimeUnit.SECONDS);
+
+        // Even if the account loads, there is nothing to show without its reward recipient
+        observer.assertNoValues();
+        assertEquals(1, observer.errorCount());
+    }
+}
@@ -75,4 +75,4 @@ public class BurstValueTest {
         assertEquals("0", fromBurst.toUnformattedString());
         assertEquals("0", fromNQT.toUnformattedString());
     }
-}
\ No newline at end of file
+}
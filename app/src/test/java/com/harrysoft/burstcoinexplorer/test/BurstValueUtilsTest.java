@@ -0,0 +1,41 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.util.BurstValueUtils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(JUnit4.class)
+public class BurstValueUtilsTest {
+
+    @Test
+    public void testBurstValueNQTConversion() {
+        assertEquals(1000000000, BurstValueUtils.toNQT("10"));
+        assertEquals(1234567890, BurstValueUtils.toNQT("12.3456789"));
+        assertEquals(1, BurstValueUtils.toNQT("0.00000001"));
+        assertEquals(0, BurstValueUtils.toNQT("0"));
+
+        assertEquals("10", BurstValueUtils.toBurstString(1000000000));
+        assertEquals("12.3456789", BurstValueUtils.toBurstString(1234567890));
+        assertEquals("0.00000001", BurstValueUtils.toBurstString(1));
+        assertEquals("0", BurstValueUtils.toBurstString(0));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testBurstValueNQTConversionFractionalNQT() {
+        BurstValueUtils.toNQT("0.000000001");
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testBurstValueNQTConversionOverflow() {
+        BurstValueUtils.toNQT("100000000000");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testBurstValueNQTConversionBadInput() {
+        BurstValueUtils.toNQT("not a number");
+    }
+}
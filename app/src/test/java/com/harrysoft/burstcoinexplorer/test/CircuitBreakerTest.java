@@ -0,0 +1,107 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreaker;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitBreakerRegistry;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitOpenException;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HttpStatusException;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class CircuitBreakerTest {
+
+    private final AtomicLong time = new AtomicLong(0);
+    private final Clock clock = time::get;
+
+    @Test
+    public void testCircuitBreakerOpensAndFailsFast() {
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(3, 1000, clock);
+        CircuitBreaker breaker = registry.get("https://wallet.burst.example:8125/burst?requestType=getBlock");
+        assertEquals("wallet.burst.example", breaker.getHost());
+        assertSame(breaker, registry.get("wallet.burst.example"));
+
+        AtomicInteger calls = new AtomicInteger();
+        Single<String> failing = Single.defer(() -> {
+            calls.incrementAndGet();
+            return Single.error(new IOException());
+        });
+        for (int i = 0; i < 3; i++) {
+            breaker.wrap(failing).test().assertError(IOException.class);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        breaker.wrap(failing).test().assertError(CircuitOpenException.class);
+        assertEquals(3, calls.get()); // Not sent
+    }
+
+    @Test
+    public void testCircuitBreakerIgnoresRefusedRequests() {
+        CircuitBreaker breaker = new CircuitBreakerRegistry(2, 1000, clock).get("node");
+        for (int i = 0; i < 5; i++) {
+            breaker.wrap(Single.error(new HttpStatusException(400))).test();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // A success in between resets the count
+        breaker.wrap(Single.error(new HttpStatusException(500))).test();
+        breaker.wrap(Single.just("ok")).test();
+        breaker.wrap(Single.error(new HttpStatusException(500))).test();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testCircuitBreakerHalfOpensToProbe() {
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(1, 1000, clock);
+        TestObserver<CircuitBreaker.StateChange> changes = registry.stateChanges().test();
+        CircuitBreaker breaker = registry.get("node");
+
+        breaker.wrap(Single.error(new IOException())).test();
+        time.set(999);
+        assertFalse(breaker.tryAcquire());
+
+        // Only one probe at a time
+        time.set(1000);
+        SingleSubject<String> probe = SingleSubject.create();
+        TestObserver<String> probeObserver = breaker.wrap(probe).test();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.wrap(Single.just("other")).test().assertError(CircuitOpenException.class);
+
+        // A failed probe opens the circuit for another period
+        probe.onError(new IOException());
+        probeObserver.assertError(IOException.class);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        time.set(1999);
+        assertFalse(breaker.tryAcquire());
+
+        // A cancelled probe lets another one through
+        time.set(2000);
+        breaker.wrap(Single.never()).test().dispose();
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        changes.assertValueCount(5);
+        assertEquals(CircuitBreaker.State.OPEN, changes.values().get(0).getState());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, changes.values().get(1).getState());
+        assertEquals(CircuitBreaker.State.OPEN, changes.values().get(2).getState());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, changes.values().get(3).getState());
+        assertTrue(changes.values().get(4).isRecovery());
+        assertEquals("node", changes.values().get(4).getHost());
+    }
+}
@@ -0,0 +1,103 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.util.DisplayFormats;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(JUnit4.class)
+public class DisplayFormatsTest {
+
+    @Test
+    public void testFormatBurst() {
+        assertEquals("10 BURST", DisplayFormats.formatBurst(1000000000L));
+        assertEquals("10.1 BURST", DisplayFormats.formatBurst(1010000000L));
+        assertEquals("10.001 BURST", DisplayFormats.formatBurst(1000100000L));
+        assertEquals("10.001 BURST", DisplayFormats.formatBurst(1000050000L));
+        assertEquals("10 BURST", DisplayFormats.formatBurst(1000049999L));
+        assertEquals("12.346 BURST", DisplayFormats.formatBurst(1234567890L));
+        assertEquals("0.05 BURST", DisplayFormats.formatBurst(5000000L));
+        assertEquals("0.001 BURST", DisplayFormats.formatBurst(100000L));
+        assertEquals("1 BURST", DisplayFormats.formatBurst(99960000L));
+        assertEquals("0 BURST", DisplayFormats.formatBurst(1L));
+        assertEquals("0 BURST", DisplayFormats.formatBurst(0L));
+        assertEquals("-2.5 BURST", DisplayFormats.formatBurst(-250000000L));
+    }
+
+    @Test
+    public void testFormatBurstMatchesBigDecimal() {
+        for (long nqt = 0; nqt < 20000000000L; nqt += 7777777L) {
+            String expected = BigDecimal.valueOf(nqt, 8).setScale(3, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString() + " BURST";
+            assertEquals(expected, DisplayFormats.formatBurst(nqt));
+        }
+    }
+
+    @Test
+    public void testFormatTimestamp() {
+        assertEquals("01/01/1970 00:00:00", DisplayFormats.formatTimestamp(0));
+        assertEquals("11/08/2014 02:00:00", DisplayFormats.formatTimestamp(1407722400000L));
+    }
+
+    @Test
+    public void testFormatBlockSize() {
+        assertEquals("123 Bytes (100%)", DisplayFormats.formatBlockSize(123, 1d));
+        assertEquals("1.205 KB (50%)", DisplayFormats.formatBlockSize(1234, 0.5d));
+        assertEquals("1.177 MB (0.1%)", DisplayFormats.formatBlockSize(1234567, 0.001d));
+        assertEquals("1.150 GB (0%)", DisplayFormats.formatBlockSize(1234567891, 0.000005d));
+    }
+
+    /**
+     * Compares the bytes allocated formatting a list's worth of amounts against going through {@link BigDecimal}, as
+     * binding a row used to.
+     */
+    @Test
+    public void testFormatBurstAllocatesLessThanBigDecimal() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+
+        int rows = 10000;
+        // Warm up both paths so that class loading and the first thread local are not counted
+        formatWithBigDecimal(rows);
+        formatWithDisplayFormats(rows);
+
+        long start = allocations.getThreadAllocatedBytes(threadId);
+        formatWithBigDecimal(rows);
+        long bigDecimalBytes = allocations.getThreadAllocatedBytes(threadId) - start;
+
+        start = allocations.getThreadAllocatedBytes(threadId);
+        formatWithDisplayFormats(rows);
+        long displayFormatsBytes = allocations.getThreadAllocatedBytes(threadId) - start;
+
+        assertTrue("DisplayFormats allocated " + displayFormatsBytes + " bytes, BigDecimal " + bigDecimalBytes,
+                displayFormatsBytes * 2 < bigDecimalBytes);
+    }
+
+    private static int formatWithBigDecimal(int rows) {
+        int length = 0;
+        for (long i = 0; i < rows; i++) {
+            length += (BigDecimal.valueOf(i * 123456789L, 8).setScale(3, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString() + " BURST").length();
+        }
+        return length;
+    }
+
+    private static int formatWithDisplayFormats(int rows) {
+        int length = 0;
+        for (long i = 0; i < rows; i++) {
+            length += DisplayFormats.formatBurst(i * 123456789L).length();
+        }
+        return length;
+    }
+}
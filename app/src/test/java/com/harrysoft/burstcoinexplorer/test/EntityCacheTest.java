@@ -0,0 +1,82 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.burst.cache.EntityCache;
+import com.harrysoft.burstcoinexplorer.util.BurstIDUtils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(JUnit4.class)
+public class EntityCacheTest {
+
+    @Test
+    public void testEntityCacheEvictsLeastRecentlyUsed() {
+        EntityCache<String> cache = new EntityCache<>(3, System::currentTimeMillis);
+        cache.put(1, "one", EntityCache.NEVER_EXPIRES);
+        cache.put(2, "two", EntityCache.NEVER_EXPIRES);
+        cache.put(3, "three", EntityCache.NEVER_EXPIRES);
+        assertEquals("one", cache.get(1));
+
+        cache.put(4, "four", EntityCache.NEVER_EXPIRES);
+        assertEquals(3, cache.size());
+        assertNull(cache.get(2));
+        assertEquals("one", cache.get(1));
+        assertEquals("four", cache.get(4));
+    }
+
+    @Test
+    public void testEntityCacheExpiry() {
+        AtomicLong time = new AtomicLong(0);
+        EntityCache<String> cache = new EntityCache<>(16, time::get);
+        cache.put(1, "account", 1000);
+        cache.put(2, "block", EntityCache.NEVER_EXPIRES);
+
+        time.set(999);
+        assertEquals("account", cache.get(1));
+        time.set(1000);
+        assertNull(cache.get(1));
+        assertEquals(1, cache.size());
+        time.set(Long.MAX_VALUE - 1);
+        assertEquals("block", cache.get(2));
+    }
+
+    @Test
+    public void testEntityCacheCollidingKeys() {
+        EntityCache<String> cache = new EntityCache<>(64, System::currentTimeMillis);
+        // Same low bits, different high bits
+        for (long i = 0; i < 64; i++) {
+            cache.put(i << 40, "value" + i, EntityCache.NEVER_EXPIRES);
+        }
+        for (long i = 0; i < 64; i++) {
+            assertEquals("value" + i, cache.get(i << 40));
+        }
+        cache.remove(5L << 40);
+        assertNull(cache.get(5L << 40));
+        assertEquals("value6", cache.get(6L << 40));
+        assertEquals(63, cache.size());
+    }
+
+    @Test
+    public void testBurstIDUnsignedConversion() {
+        assertEquals(0, BurstIDUtils.toLong("0"));
+        assertEquals(Long.MAX_VALUE, BurstIDUtils.toLong("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, BurstIDUtils.toLong("9223372036854775808"));
+        assertEquals(-1, BurstIDUtils.toLong("18446744073709551615"));
+        assertEquals(-1962225834648530985L, BurstIDUtils.toLong("16484518239061020631"));
+
+        for (String id : new String[]{"0", "123", "9223372036854775807", "9223372036854775808", "16484518239061020631", "18446744073709551615"}) {
+            assertEquals(id, BurstIDUtils.toUnsignedString(BurstIDUtils.toLong(id)));
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testBurstIDOverflow() {
+        BurstIDUtils.toLong("18446744073709551616");
+    }
+}
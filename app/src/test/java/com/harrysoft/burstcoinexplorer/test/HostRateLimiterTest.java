@@ -0,0 +1,102 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.main.service.transport.HostRateLimiter;
+import com.harrysoft.burstcoinexplorer.main.service.transport.RateLimitProfile;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+@RunWith(JUnit4.class)
+public class HostRateLimiterTest {
+
+    private static final String NODE = "https://wallet1.burst-team.us:2083/burst";
+
+    private static HostRateLimiter createRateLimiter(TestScheduler scheduler, RateLimitProfile profile) {
+        return new HostRateLimiter(Collections.emptyList(), profile, () -> scheduler.now(TimeUnit.MILLISECONDS), scheduler);
+    }
+
+    @Test
+    public void testHostRateLimiterWaitsInsteadOfFailing() {
+        TestScheduler scheduler = new TestScheduler();
+        HostRateLimiter rateLimiter = createRateLimiter(scheduler, new RateLimitProfile("test", 2, 1));
+
+        rateLimiter.throttle(NODE + "?requestType=getBlock", Single.just(1)).test().assertValue(1);
+        rateLimiter.throttle(NODE + "?requestType=getBlock", Single.just(2)).test().assertValue(2);
+        TestObserver<Integer> third = rateLimiter.throttle(NODE, Single.just(3)).test();
+        TestObserver<Integer> fourth = rateLimiter.throttle(NODE, Single.just(4)).test();
+        third.assertNoValues().assertNoErrors();
+
+        scheduler.advanceTimeBy(999, TimeUnit.MILLISECONDS);
+        third.assertNoValues();
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        third.assertValue(3);
+        fourth.assertNoValues(); // Served in order, a second behind the third
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        fourth.assertValue(4);
+
+        List<HostRateLimiter.Usage> usage = rateLimiter.getUsage();
+        assertEquals(1, usage.size()); // Keyed by host, not URL
+        assertEquals("wallet1.burst-team.us", usage.get(0).getHost());
+        assertEquals(4, usage.get(0).getRequests());
+        assertEquals(2, usage.get(0).getThrottled());
+        assertEquals(3000, usage.get(0).getTotalWait());
+        assertEquals(0, usage.get(0).getAvailableTokens(), 0.001);
+    }
+
+    @Test
+    public void testHostRateLimiterRefundsAbandonedRequests() {
+        TestScheduler scheduler = new TestScheduler();
+        HostRateLimiter rateLimiter = createRateLimiter(scheduler, new RateLimitProfile("test", 1, 1));
+        SingleSubject<Integer> sent = SingleSubject.create();
+
+        rateLimiter.throttle(NODE, Single.just(1)).test().assertValue(1);
+        TestObserver<Integer> abandoned = rateLimiter.throttle(NODE, sent).test();
+        abandoned.dispose();
+        assertFalse(sent.hasObservers());
+
+        // The abandoned request's token goes to the next one
+        TestObserver<Integer> next = rateLimiter.throttle(NODE, Single.just(2)).test();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        next.assertValue(2);
+        assertEquals(2, rateLimiter.getUsage().get(0).getRequests());
+    }
+
+    @Test
+    public void testHostRateLimiterChoosesProfileByHost() {
+        TestScheduler scheduler = new TestScheduler();
+        HostRateLimiter rateLimiter = new HostRateLimiter(HostRateLimiter.defaultRules(), RateLimitProfile.UNKNOWN_HOST, () -> scheduler.now(TimeUnit.MILLISECONDS), scheduler);
+
+        rateLimiter.throttle(NODE, Single.just(1)).test();
+        rateLimiter.throttle("https://api.coinmarketcap.com/v1/ticker/burst/", Single.just(1)).test();
+        rateLimiter.throttle("https://explore.burst.cryptoguru.org/api/v1/observe", Single.just(1)).test();
+
+        for (HostRateLimiter.Usage usage : rateLimiter.getUsage()) {
+            switch (usage.getHost()) {
+                case "wallet1.burst-team.us":
+                    assertSame(RateLimitProfile.PUBLIC_NODE, usage.getProfile());
+                    break;
+                case "api.coinmarketcap.com":
+                    assertSame(RateLimitProfile.PRICE_API, usage.getProfile());
+                    break;
+                default:
+                    assertSame(RateLimitProfile.UNKNOWN_HOST, usage.getProfile());
+                    break;
+            }
+        }
+        assertEquals(3, rateLimiter.getUsage().size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.util.LongHashSet;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class LongHashSetTest {
+
+    @Test
+    public void testLongHashSetAddAndRemove() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(0));
+        assertTrue(set.add(-1));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertFalse(set.add(-1));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertFalse(set.contains(1));
+
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(2, set.size());
+        assertEquals(2, set.toArray().length);
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(-1));
+    }
+
+    @Test
+    public void testLongHashSetMatchesHashSet() {
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            // A small range, so that removals often hit keys in the middle of a run
+            long key = random.nextInt(2000) - 1000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), set.add(key));
+            } else {
+                assertEquals(expected.remove(key), set.remove(key));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        for (long key = -1000; key < 1000; key++) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+        for (long key : set.toArray()) {
+            assertTrue(expected.contains(key));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.burst.node.HttpNodeProber;
+import com.harrysoft.burstcoinexplorer.burst.node.NodePool;
+import com.harrysoft.burstcoinexplorer.util.Clock;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class NodePoolTest {
+
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (HttpServer server : servers) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testNodePoolTriesConfiguredNodeFirst() {
+        NodePool nodePool = new NodePool("c", Arrays.asList("a", "b", "c", "d"), System::currentTimeMillis);
+        assertEquals(Arrays.asList("c", "a", "b", "d"), nodePool.rank()); // Untested fallbacks keep the configured order
+
+        for (int i = 0; i < 10; i++) {
+            nodePool.recordSuccess("a", 900);
+            nodePool.recordSuccess("b", 100);
+            nodePool.recordSuccess("c", 2000);
+            nodePool.recordSuccess("d", 400);
+        }
+        // Slower, but still the user's choice
+        assertEquals(Arrays.asList("c", "b", "d", "a"), nodePool.rank());
+    }
+
+    @Test
+    public void testNodePoolOnlyFallsBackFromPublicNodes() {
+        List<String> publicNodes = Arrays.asList("a", "b");
+        NodePool nodePool = new NodePool("testnet", publicNodes, System::currentTimeMillis);
+        assertEquals(Arrays.asList("testnet"), nodePool.rank());
+        nodePool.recordFailure("testnet");
+        assertEquals(Arrays.asList("testnet"), nodePool.rank());
+
+        nodePool.setConfiguredNode("b");
+        assertEquals(Arrays.asList("b", "a"), nodePool.rank());
+        assertEquals(-1, nodePool.getLatency("testnet")); // Replaced, not kept alongside
+
+        nodePool.setConfiguredNode("private");
+        assertEquals(Arrays.asList("private"), nodePool.rank());
+    }
+
+    @Test
+    public void testNodePoolFailsOverAndRecovers() {
+        AtomicLong time = new AtomicLong(0);
+        Clock clock = time::get;
+        NodePool nodePool = new NodePool("a", Arrays.asList("a", "b"), clock);
+        nodePool.recordSuccess("a", 100);
+        nodePool.recordSuccess("b", 500);
+        assertEquals("a", nodePool.select());
+
+        // A single failure is left to the failover of the call that saw it
+        nodePool.recordFailure("a");
+        assertEquals("a", nodePool.select());
+
+        // Once it keeps failing it is rested, even behind a much slower node
+        nodePool.recordSuccess("b", 50000);
+        nodePool.recordFailure("a");
+        nodePool.recordFailure("a");
+        assertEquals("b", nodePool.select());
+
+        time.set(60 * 1000);
+        assertEquals("a", nodePool.select());
+    }
+
+    @Test
+    public void testNodePoolClaimsProbeOncePerInterval() {
+        AtomicLong time = new AtomicLong(0);
+        NodePool nodePool = new NodePool("a", Arrays.asList("a"), time::get);
+        assertTrue(nodePool.claimProbe(1000));
+        assertFalse(nodePool.claimProbe(1000));
+        time.set(1000);
+        assertTrue(nodePool.claimProbe(1000));
+    }
+
+    @Test
+    public void testNodePoolProbesStandInNodes() throws IOException {
+        String fast = startNode(0, 200);
+        String slow = startNode(300, 200);
+        String broken = startNode(0, 500);
+        String offline = "http://127.0.0.1:1/burst";
+
+        // Probing rests the configured node, as it is offline
+        NodePool nodePool = new NodePool(offline, Arrays.asList(offline, broken, slow, fast), System::currentTimeMillis);
+        for (int i = 0; i < 3; i++) {
+            nodePool.probeAll(new HttpNodeProber(2000, System::currentTimeMillis));
+        }
+
+        List<String> ranked = nodePool.rank();
+        assertEquals(fast, ranked.get(0));
+        assertEquals(slow, ranked.get(1));
+        assertTrue(nodePool.getErrorRate(broken) > 0);
+        assertTrue(nodePool.getErrorRate(offline) > 0);
+        assertEquals(0, nodePool.getErrorRate(fast), 0);
+    }
+
+    private String startNode(long delay, int responseCode) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/burst", exchange -> {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ignored) {
+            }
+            byte[] body = "{\"numberOfBlocks\":1}".getBytes(Charset.forName("UTF-8"));
+            exchange.sendResponseHeaders(responseCode, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/burst";
+    }
+}
@@ -0,0 +1,151 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.main.service.transport.OkHttpTransport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class OkHttpTransportTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String PAYLOAD;
+
+    static {
+        StringBuilder payload = new StringBuilder("{\"blocks\":[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) payload.append(',');
+            payload.append("{\"block\":\"").append(1000000 + i).append("\",\"height\":").append(500000 - i)
+                    .append(",\"numberOfTransactions\":0,\"totalAmountNQT\":\"0\",\"totalFeeNQT\":\"0\",\"payloadLength\":0,\"transactions\":[]}");
+        }
+        PAYLOAD = payload.append("]}").toString();
+    }
+
+    private MockWebServer server;
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    /**
+     * Answers with the encoding named by the path, as a node behind a compressing proxy would.
+     */
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String encoding = request.getPath().substring(1);
+                String acceptEncoding = request.getHeader("Accept-Encoding");
+                if (acceptEncoding == null || !acceptEncoding.contains(encoding)) {
+                    encoding = "identity";
+                }
+                byte[] body = encode(PAYLOAD.getBytes(UTF_8), encoding);
+                bytesSent.addAndGet(body.length);
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json; charset=utf-8")
+                        .setHeader("Content-Encoding", encoding)
+                        .setBody(new Buffer().write(body));
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testOkHttpTransportDecodesCompressedResponses() throws InterruptedException {
+        OkHttpTransport transport = OkHttpTransport.create(OkHttpTransport.DEFAULT_DISPATCHER_THREADS);
+        assertEquals(PAYLOAD, transport.get(server.url("/gzip").toString()).blockingGet());
+        assertEquals(PAYLOAD, transport.get(server.url("/deflate").toString()).blockingGet());
+        assertEquals(PAYLOAD, transport.get(server.url("/identity").toString()).blockingGet());
+        assertTrue(server.takeRequest().getHeader("Accept-Encoding").contains("gzip"));
+    }
+
+    @Test
+    public void testOkHttpTransportTransfersFewerBytes() {
+        OkHttpTransport transport = OkHttpTransport.create(OkHttpTransport.DEFAULT_DISPATCHER_THREADS);
+        transport.get(server.url("/identity").toString()).blockingGet();
+        long uncompressed = bytesSent.getAndSet(0);
+        transport.get(server.url("/gzip").toString()).blockingGet();
+        long compressed = bytesSent.get();
+
+        assertEquals(PAYLOAD.length(), uncompressed);
+        assertTrue("gzip sent " + compressed + " bytes, identity " + uncompressed, compressed * 5 < uncompressed);
+    }
+
+    /**
+     * Each new connection costs at least one round trip, or three over TLS, before the request can be sent. The pooled
+     * transport only pays that once.
+     */
+    @Test
+    public void testOkHttpTransportReusesConnections() throws InterruptedException {
+        int requests = 10;
+
+        OkHttpTransport pooled = OkHttpTransport.create(1);
+        fetch(pooled, requests);
+        for (int i = 0; i < requests; i++) {
+            assertEquals(i, server.takeRequest().getSequenceNumber());
+        }
+
+        OkHttpTransport unpooled = new OkHttpTransport(new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(0, 1, TimeUnit.NANOSECONDS))
+                .build());
+        fetch(unpooled, requests);
+        for (int i = 0; i < requests; i++) {
+            assertEquals(0, server.takeRequest().getSequenceNumber());
+        }
+    }
+
+    private void fetch(OkHttpTransport transport, int requests) {
+        for (int i = 0; i < requests; i++) {
+            transport.get(server.url("/gzip").toString()).blockingGet();
+        }
+    }
+
+    private static byte[] encode(byte[] body, String encoding) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            OutputStream outputStream;
+            switch (encoding) {
+                case "gzip":
+                    outputStream = new GZIPOutputStream(bytes);
+                    break;
+                case "deflate":
+                    outputStream = new DeflaterOutputStream(bytes);
+                    break;
+                default:
+                    return body;
+            }
+            outputStream.write(body);
+            outputStream.close();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+}
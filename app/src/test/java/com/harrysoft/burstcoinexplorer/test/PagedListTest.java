@@ -0,0 +1,190 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.explore.util.PagedList;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class PagedListTest {
+
+    /**
+     * Serves the integers from 0 to {@code count - 1}, holding each request until it is completed.
+     */
+    private static class HeldLoader implements PagedList.PageLoader<Integer> {
+        private final int count;
+        private final List<Integer> requests = new ArrayList<>();
+        private final List<SingleSubject<List<Integer>>> pending = new ArrayList<>();
+
+        HeldLoader(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public Observable<Integer> load(int firstIndex, int pageSize) {
+            SingleSubject<List<Integer>> subject = SingleSubject.create();
+            requests.add(firstIndex);
+            pending.add(subject);
+            return subject.flatMapObservable(ignored -> Observable.range(firstIndex, Math.max(0, Math.min(count, firstIndex + pageSize) - firstIndex)));
+        }
+
+        void completeAll() {
+            while (!pending.isEmpty()) {
+                pending.remove(0).onSuccess(new ArrayList<>());
+            }
+        }
+    }
+
+    private static class RecordingCallback implements PagedList.Callback {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onInserted(int position, int count) {
+            events.add("inserted " + position + "+" + count);
+        }
+
+        @Override
+        public void onRemoved(int position, int count) {
+            events.add("removed " + position + "+" + count);
+        }
+
+        @Override
+        public void onChanged(int position, int count) {
+            events.add("changed " + position + "+" + count);
+        }
+    }
+
+    @Test
+    public void testPagedListFindsTheEndOfAnUnknownList() {
+        HeldLoader loader = new HeldLoader(25);
+        PagedList<Integer> list = new PagedList<>(loader, PagedList.UNKNOWN_COUNT, 10, 0, 4, Schedulers.trampoline());
+        RecordingCallback callback = new RecordingCallback();
+        list.setCallback(callback);
+
+        assertEquals(0, list.size());
+        list.loadAround(0);
+        assertTrue(list.isLoading());
+        loader.completeAll();
+        // Each item is shown as it arrives, then a page of placeholders follows the first full page
+        assertEquals(20, list.size());
+        assertEquals("inserted 0+1", callback.events.get(0));
+        assertEquals("inserted 9+1", callback.events.get(9));
+        assertEquals("inserted 10+10", callback.events.get(10));
+        assertEquals(Integer.valueOf(9), list.get(9));
+
+        assertNull(list.get(10));
+        loader.completeAll();
+        assertEquals(30, list.size());
+        assertEquals(Integer.valueOf(15), list.get(15));
+
+        assertNull(list.get(20));
+        loader.completeAll();
+        assertTrue(list.isEndReached());
+        assertEquals(25, list.size());
+        assertEquals("changed 24+1", callback.events.get(callback.events.size() - 2));
+        assertEquals("removed 25+5", callback.events.get(callback.events.size() - 1));
+        assertEquals(Integer.valueOf(24), list.get(24));
+        assertFalse(list.isLoading());
+    }
+
+    @Test
+    public void testPagedListPrefetchesAndKnownCount() {
+        HeldLoader loader = new HeldLoader(100);
+        PagedList<Integer> list = new PagedList<>(loader, 100, 10, 5, 4, Schedulers.trampoline());
+        assertEquals(100, list.size());
+
+        assertNull(list.get(17));
+        // Pages 1 and 2 are within 5 items
+        assertEquals(2, loader.requests.size());
+        assertEquals(Integer.valueOf(10), loader.requests.get(0));
+        assertEquals(Integer.valueOf(20), loader.requests.get(1));
+
+        // Asking again while loading does not load twice
+        list.get(18);
+        assertEquals(2, loader.requests.size());
+
+        loader.completeAll();
+        assertEquals(Integer.valueOf(22), list.get(22));
+        assertEquals(100, list.size());
+    }
+
+    @Test
+    public void testPagedListEvictsDistantPages() {
+        HeldLoader loader = new HeldLoader(100);
+        PagedList<Integer> list = new PagedList<>(loader, 100, 10, 0, 2, Schedulers.trampoline());
+        RecordingCallback callback = new RecordingCallback();
+        list.setCallback(callback);
+
+        for (int position = 0; position < 30; position += 10) {
+            list.get(position);
+            loader.completeAll();
+        }
+        assertEquals(2, list.getLoadedPageCount());
+        assertEquals("changed 0+10", callback.events.get(callback.events.size() - 1));
+
+        // The first page is a placeholder again, and is loaded again when read
+        assertNull(list.get(5));
+        loader.completeAll();
+        assertEquals(Integer.valueOf(5), list.get(5));
+        assertEquals(2, list.getLoadedPageCount());
+    }
+
+    @Test
+    public void testPagedListKeepsPartOfAFailedPage() {
+        List<Throwable> errors = new ArrayList<>();
+        List<Integer> requests = new ArrayList<>();
+        PagedList<Integer> list = new PagedList<>((firstIndex, count) -> {
+            requests.add(firstIndex);
+            if (requests.size() == 1) {
+                // The fourth item fails
+                return Observable.range(firstIndex, 3).concatWith(Observable.error(new IOException()));
+            }
+            return Observable.range(firstIndex, 5 - firstIndex);
+        }, PagedList.UNKNOWN_COUNT, 10, 0, 2, Schedulers.trampoline());
+        RecordingCallback callback = new RecordingCallback();
+        list.setCallback(callback);
+        list.setLoadListener(new PagedList.LoadListener<Integer>() {
+            @Override
+            public void onPageLoaded(int firstIndex, List<Integer> items) {
+                assertEquals(3, firstIndex);
+                assertEquals(2, items.size());
+            }
+
+            @Override
+            public void onLoadFailed(Throwable error) {
+                errors.add(error);
+            }
+        });
+
+        list.loadAround(0);
+        assertEquals(1, errors.size());
+        // The items before the failure are still shown
+        assertEquals(3, list.size());
+        assertEquals("inserted 2+1", callback.events.get(callback.events.size() - 1));
+        assertFalse(list.isEndReached());
+
+        // Reading the page again only loads from the item that failed
+        assertEquals(Integer.valueOf(2), list.get(2));
+        assertEquals(2, requests.size());
+        assertEquals(Integer.valueOf(3), requests.get(1));
+        assertTrue(list.isEndReached());
+        assertEquals(5, list.size());
+        assertEquals(Integer.valueOf(4), list.get(4));
+        assertEquals("inserted 4+1", callback.events.get(callback.events.size() - 1));
+        assertEquals(2, requests.size());
+    }
+}
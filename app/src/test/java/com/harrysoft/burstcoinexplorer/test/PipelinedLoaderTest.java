@@ -0,0 +1,84 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.explore.util.PipelinedLoader;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class PipelinedLoaderTest {
+
+    @Test
+    public void testPipelinedLoaderKeepsListOrder() {
+        Map<Integer, SingleSubject<String>> responses = new HashMap<>();
+        PipelinedLoader<Integer, String> loader = new PipelinedLoader<>(key -> {
+            SingleSubject<String> response = SingleSubject.create();
+            responses.put(key, response);
+            return response;
+        }, 2, RetryPolicy.withMaxAttempts(1));
+
+        TestObserver<PipelinedLoader.Result<Integer, String>> observer = loader.load(Arrays.asList(1, 2, 3)).test();
+        assertEquals(2, responses.size()); // Concurrency window
+
+        responses.get(2).onSuccess("two");
+        observer.assertNoValues(); // Waiting on the first item
+        responses.get(1).onSuccess("one");
+        observer.assertValueCount(2);
+        assertEquals("one", observer.values().get(0).getValue());
+        assertEquals("two", observer.values().get(1).getValue());
+
+        responses.get(3).onSuccess("three");
+        observer.assertValueCount(3);
+        observer.assertComplete();
+    }
+
+    @Test
+    public void testPipelinedLoaderRetriesThenStopsAtFailure() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger attempts = new AtomicInteger();
+        PipelinedLoader<Integer, String> loader = new PipelinedLoader<>(key -> {
+            if (key == 2) {
+                return Single.fromCallable(() -> {
+                    if (attempts.incrementAndGet() < 3) throw new IOException();
+                    return "two";
+                });
+            } else if (key == 3) {
+                return Single.error(new IOException());
+            }
+            return Single.just(String.valueOf(key));
+        }, 4, new RetryPolicy(3, 100, 1000, new Random(), scheduler));
+
+        TestObserver<PipelinedLoader.Result<Integer, String>> observer = loader.load(Arrays.asList(1, 2, 3, 4)).test();
+        // Waits at least half of the first delay before trying again
+        scheduler.advanceTimeBy(49, TimeUnit.MILLISECONDS);
+        assertEquals(1, attempts.get());
+        observer.assertValueCount(1);
+
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        List<PipelinedLoader.Result<Integer, String>> results = observer.assertComplete().values();
+        assertEquals(3, attempts.get());
+        assertEquals(3, results.size());
+        assertEquals("two", results.get(1).getValue());
+        assertTrue(results.get(2).isFailure());
+        assertEquals(3, (int) results.get(2).getKey());
+    }
+}
@@ -0,0 +1,67 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.explore.util.PositionalStore;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class PositionalStoreTest {
+
+    @Test
+    public void testPositionalStoreAppendsWithinPages() {
+        PositionalStore<String> store = new PositionalStore<>(3);
+        assertEquals(-1, store.findFurthestPage(0));
+
+        assertEquals(3, store.append(1, "a"));
+        assertEquals(4, store.append(1, "b"));
+        assertEquals("a", store.get(3));
+        assertEquals("b", store.get(4));
+        assertNull(store.get(5)); // Not appended yet
+        assertNull(store.get(0));
+        assertEquals(2, store.getCount(1));
+        assertEquals(0, store.getCount(0));
+        assertEquals(1, store.getPageCount());
+
+        store.append(1, "c");
+        try {
+            store.append(1, "d");
+            throw new AssertionError("Appended to a full page");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void testPositionalStoreGrowsAndDropsPages() {
+        PositionalStore<Integer> store = new PositionalStore<>(10);
+        for (int position = 0; position < 10000; position++) {
+            store.append(position / 10, position);
+        }
+        assertEquals(1000, store.getPageCount());
+        assertEquals(Integer.valueOf(9999), store.get(9999));
+
+        for (int page = 0; page < 1000; page++) {
+            if (page != 3 && page != 900) {
+                store.removePage(page);
+            }
+        }
+        assertEquals(2, store.getPageCount());
+        assertFalse(store.hasPage(4));
+        assertTrue(store.hasPage(900));
+        assertNull(store.get(45));
+        assertEquals(Integer.valueOf(9005), store.get(9005));
+
+        assertEquals(900, store.findFurthestPage(5));
+        assertEquals(3, store.findFurthestPage(899));
+
+        store.removePage(900);
+        store.removePage(900); // Dropping twice does nothing
+        assertEquals(1, store.getPageCount());
+    }
+}
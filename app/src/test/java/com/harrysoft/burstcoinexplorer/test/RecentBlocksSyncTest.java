@@ -0,0 +1,163 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.explore.db.StoredBlock;
+import com.harrysoft.burstcoinexplorer.explore.sync.RecentBlocksSync;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.reactivex.Single;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class RecentBlocksSyncTest {
+
+    /**
+     * A chain where the block at each height has ID {@code height * 10 + fork}
+     */
+    private static class FakeChain implements RecentBlocksSync.BlockFetcher {
+        private final List<StoredBlock> blocks = new ArrayList<>(); // Oldest first
+        private final List<Integer> requestSizes = new ArrayList<>();
+
+        void extend(int count, int fork) {
+            for (int i = 0; i < count; i++) {
+                blocks.add(block(blocks.size(), fork));
+            }
+        }
+
+        void reorganise(int depth, int fork) {
+            int height = blocks.size() - depth;
+            while (blocks.size() > height) {
+                blocks.remove(blocks.size() - 1);
+            }
+            extend(depth, fork);
+        }
+
+        void truncate(int count) {
+            for (int i = 0; i < count; i++) {
+                blocks.remove(blocks.size() - 1);
+            }
+        }
+
+        @Override
+        public Single<List<StoredBlock>> fetchBlocks(int firstIndex, int lastIndex) {
+            requestSizes.add(lastIndex - firstIndex + 1);
+            List<StoredBlock> result = new ArrayList<>();
+            for (int i = firstIndex; i <= lastIndex && i < blocks.size(); i++) {
+                result.add(blocks.get(blocks.size() - 1 - i));
+            }
+            return Single.just(result);
+        }
+
+        int lastRequestSize() {
+            return requestSizes.get(requestSizes.size() - 1);
+        }
+    }
+
+    private static StoredBlock block(long height, int fork) {
+        StoredBlock block = new StoredBlock();
+        block.setHeight(height);
+        block.setBlockId(height * 10 + fork);
+        return block;
+    }
+
+    @Test
+    public void testRecentBlocksSyncFetchesOnlyTheTip() {
+        FakeChain chain = new FakeChain();
+        chain.extend(500, 0);
+        RecentBlocksSync sync = new RecentBlocksSync(chain, Collections::emptyList, 100, 5);
+
+        RecentBlocksSync.Result result = sync.sync().blockingGet();
+        assertTrue(result.isFullSync());
+        assertEquals(100, chain.lastRequestSize());
+        assertEquals(100, result.getRecentBlocks().size());
+        assertEquals(499, result.getRecentBlocks().get(0).getHeight());
+
+        chain.extend(1, 0);
+        result = sync.sync().blockingGet();
+        assertFalse(result.isFullSync());
+        assertEquals(5, chain.lastRequestSize());
+        assertEquals(1, result.getChangedBlocks().size());
+        assertEquals(500, result.getChangedBlocks().get(0).getHeight());
+        assertEquals(100, result.getRecentBlocks().size());
+        assertEquals(500, result.getRecentBlocks().get(0).getHeight());
+        assertEquals(401, result.getRecentBlocks().get(99).getHeight());
+
+        result = sync.sync().blockingGet();
+        assertTrue(result.getChangedBlocks().isEmpty());
+    }
+
+    @Test
+    public void testRecentBlocksSyncDetectsReorganisation() {
+        FakeChain chain = new FakeChain();
+        chain.extend(200, 0);
+        RecentBlocksSync sync = new RecentBlocksSync(chain, Collections::emptyList, 100, 5);
+        sync.sync().blockingGet();
+
+        chain.reorganise(2, 1);
+        chain.extend(1, 1);
+        RecentBlocksSync.Result result = sync.sync().blockingGet();
+        assertTrue(result.isReorganised());
+        assertFalse(result.isFullSync());
+        assertEquals(3, result.getChangedBlocks().size());
+        assertEquals(2001, result.getRecentBlocks().get(0).getBlockId());
+        assertEquals(1991, result.getRecentBlocks().get(1).getBlockId());
+        assertEquals(1981, result.getRecentBlocks().get(2).getBlockId());
+        assertEquals(1970, result.getRecentBlocks().get(3).getBlockId());
+
+        // Deeper than the window, so everything is fetched again
+        chain.reorganise(10, 2);
+        result = sync.sync().blockingGet();
+        assertTrue(result.isFullSync());
+        assertEquals(2002, result.getRecentBlocks().get(0).getBlockId());
+    }
+
+    @Test
+    public void testRecentBlocksSyncHandlesShorterChain() {
+        FakeChain chain = new FakeChain();
+        chain.extend(200, 0);
+        RecentBlocksSync sync = new RecentBlocksSync(chain, Collections::emptyList, 100, 5);
+        sync.sync().blockingGet();
+
+        chain.truncate(2);
+        RecentBlocksSync.Result result = sync.sync().blockingGet();
+        assertTrue(result.isReorganised());
+        assertEquals(197, result.getRemovedAbove());
+        assertEquals(98, result.getRecentBlocks().size());
+        assertEquals(197, result.getRecentBlocks().get(0).getHeight());
+    }
+
+    @Test
+    public void testRecentBlocksSyncUsesSeedAndFallsBackWhenStale() {
+        FakeChain chain = new FakeChain();
+        chain.extend(300, 0);
+
+        List<StoredBlock> stored = new ArrayList<>();
+        for (long height = 299; height >= 250; height--) {
+            stored.add(block(height, 0));
+        }
+        stored.add(block(100, 0)); // Gap, ignored
+
+        RecentBlocksSync sync = new RecentBlocksSync(chain, () -> stored, 100, 5);
+        chain.extend(2, 0);
+        RecentBlocksSync.Result result = sync.sync().blockingGet();
+        assertFalse(result.isFullSync());
+        assertEquals(5, chain.lastRequestSize());
+        assertEquals(52, result.getRecentBlocks().size());
+
+        // Too far behind for the tip window to reach
+        chain.extend(20, 0);
+        result = sync.sync().blockingGet();
+        assertTrue(result.isFullSync());
+        assertEquals(100, result.getRecentBlocks().size());
+        assertEquals(321, result.getRecentBlocks().get(0).getHeight());
+    }
+}
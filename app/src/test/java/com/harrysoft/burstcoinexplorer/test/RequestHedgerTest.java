@@ -0,0 +1,110 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.burst.node.LatencyTracker;
+import com.harrysoft.burstcoinexplorer.burst.node.NodeMetrics;
+import com.harrysoft.burstcoinexplorer.burst.node.RequestHedger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(JUnit4.class)
+public class RequestHedgerTest {
+
+    @Test
+    public void testLatencyTrackerPercentile() {
+        LatencyTracker latencyTracker = new LatencyTracker(100);
+        assertEquals(-1, latencyTracker.getPercentile(95));
+        for (int i = 1; i <= 200; i++) {
+            latencyTracker.record(i);
+        }
+        assertEquals(100, latencyTracker.getSampleCount());
+        assertEquals(195, latencyTracker.getPercentile(95)); // Only the last 100 samples count
+        assertEquals(101, latencyTracker.getPercentile(0));
+    }
+
+    @Test
+    public void testRequestHedgerUsesBackupWhenPrimaryIsSlow() {
+        TestScheduler scheduler = new TestScheduler();
+        NodeMetrics metrics = new NodeMetrics();
+        RequestHedger requestHedger = new RequestHedger(100, metrics, scheduler);
+        for (int i = 0; i < 100; i++) {
+            requestHedger.recordLatency("getBlock", 200);
+        }
+        assertEquals(200, requestHedger.getHedgeDelay("getBlock"));
+
+        SingleSubject<String> primary = SingleSubject.create();
+        TestObserver<String> observer = requestHedger.hedge("getBlock", primary, Single.just("backup")).test();
+
+        scheduler.advanceTimeBy(199, TimeUnit.MILLISECONDS);
+        observer.assertNoValues();
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        observer.assertValue("backup");
+        assertFalse(primary.hasObservers()); // The loser is cancelled
+        assertEquals(1, metrics.getHedges());
+        assertEquals(1, metrics.getHedgeWins());
+    }
+
+    @Test
+    public void testRequestHedgerSkipsBackupWhenPrimaryIsFast() {
+        TestScheduler scheduler = new TestScheduler();
+        NodeMetrics metrics = new NodeMetrics();
+        RequestHedger requestHedger = new RequestHedger(100, metrics, scheduler);
+
+        SingleSubject<String> primary = SingleSubject.create();
+        SingleSubject<String> backup = SingleSubject.create();
+        TestObserver<String> observer = requestHedger.hedge("getBlock", primary, backup).test();
+        primary.onSuccess("primary");
+        scheduler.advanceTimeBy(1, TimeUnit.MINUTES);
+
+        observer.assertValue("primary");
+        assertFalse(backup.hasObservers());
+        assertEquals(0, metrics.getHedges());
+    }
+
+    @Test
+    public void testRequestHedgerIgnoresFailedBackup() {
+        TestScheduler scheduler = new TestScheduler();
+        NodeMetrics metrics = new NodeMetrics();
+        RequestHedger requestHedger = new RequestHedger(100, metrics, scheduler);
+
+        SingleSubject<String> primary = SingleSubject.create();
+        TestObserver<String> observer = requestHedger.hedge("getBlock", primary, Single.error(new IOException())).test();
+        scheduler.advanceTimeBy(1, TimeUnit.MINUTES);
+        observer.assertNoErrors();
+        primary.onSuccess("primary");
+
+        observer.assertValue("primary");
+        assertEquals(1, metrics.getHedges());
+        assertEquals(0, metrics.getHedgeWins());
+    }
+
+    @Test
+    public void testRequestHedgerTracksEachEndpoint() {
+        RequestHedger requestHedger = new RequestHedger(100, new NodeMetrics(), new TestScheduler());
+        for (int i = 0; i < 100; i++) {
+            requestHedger.recordLatency("getBlock", 100);
+            requestHedger.recordLatency("getTransaction", 2000);
+        }
+        for (int i = 0; i < 5; i++) {
+            requestHedger.recordLatency("getBlockAtHeight", 10);
+        }
+
+        // Slow transaction lookups do not delay the backups for block lookups
+        assertEquals(100, requestHedger.getHedgeDelay("getBlock"));
+        assertEquals(2000, requestHedger.getHedgeDelay("getTransaction"));
+        // Too few samples to go on yet
+        assertEquals(1000, requestHedger.getHedgeDelay("getBlockAtHeight"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestPriority;
+import com.harrysoft.burstcoinexplorer.main.service.scheduling.RequestScheduler;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class RequestSchedulerTest {
+
+    @Test
+    public void testRequestSchedulerLimitsEachPriority() {
+        RequestScheduler scheduler = new RequestScheduler(3, 3, 1, 1);
+        SingleSubject<String> first = SingleSubject.create();
+        SingleSubject<String> second = SingleSubject.create();
+
+        TestObserver<String> firstObserver = scheduler.schedule(RequestPriority.PREFETCH, first).test();
+        TestObserver<String> secondObserver = scheduler.schedule(RequestPriority.PREFETCH, second).test();
+        assertTrue(first.hasObservers());
+        assertFalse(second.hasObservers());
+        assertEquals(1, scheduler.getInFlight(RequestPriority.PREFETCH));
+        assertEquals(1, scheduler.getQueued(RequestPriority.PREFETCH));
+
+        // Other priorities are not held up by the prefetch limit
+        scheduler.schedule(RequestPriority.INTERACTIVE, Single.just("interactive")).test().assertValue("interactive");
+
+        first.onError(new IOException());
+        firstObserver.assertError(IOException.class);
+        assertTrue(second.hasObservers());
+        second.onSuccess("second");
+        secondObserver.assertValue("second");
+        assertEquals(0, scheduler.getInFlight(RequestPriority.PREFETCH));
+    }
+
+    @Test
+    public void testRequestSchedulerStartsHighestPriorityFirst() {
+        RequestScheduler scheduler = new RequestScheduler(1, 1, 1, 1);
+        SingleSubject<String> prefetch = SingleSubject.create();
+        SingleSubject<String> background = SingleSubject.create();
+        SingleSubject<String> interactive = SingleSubject.create();
+
+        scheduler.schedule(RequestPriority.PREFETCH, prefetch).test();
+        scheduler.schedule(RequestPriority.BACKGROUND, background).test();
+        scheduler.schedule(RequestPriority.INTERACTIVE, interactive).test();
+        assertEquals(0, scheduler.getPreemptions()); // Only background requests are preempted
+
+        prefetch.onSuccess("prefetch");
+        assertTrue(interactive.hasObservers());
+        assertFalse(background.hasObservers());
+
+        interactive.onSuccess("interactive");
+        assertTrue(background.hasObservers());
+    }
+
+    @Test
+    public void testRequestSchedulerPreemptsBackground() {
+        RequestScheduler scheduler = new RequestScheduler(2, 2, 2, 2);
+        AtomicInteger backgroundSends = new AtomicInteger();
+        SingleSubject<String> older = SingleSubject.create();
+        SingleSubject<String> newer = SingleSubject.create();
+        SingleSubject<String> interactive = SingleSubject.create();
+
+        scheduler.schedule(RequestPriority.BACKGROUND, older).test();
+        TestObserver<String> newerObserver = scheduler.schedule(RequestPriority.BACKGROUND, Single.defer(() -> {
+            backgroundSends.incrementAndGet();
+            return newer;
+        })).test();
+        assertEquals(1, backgroundSends.get());
+
+        scheduler.schedule(RequestPriority.INTERACTIVE, interactive).test();
+        assertTrue(interactive.hasObservers());
+        assertTrue(older.hasObservers());
+        assertFalse(newer.hasObservers()); // The newest is stopped and waits for its turn again
+        assertEquals(1, scheduler.getPreemptions());
+        assertEquals(1, scheduler.getQueued(RequestPriority.BACKGROUND));
+
+        interactive.onSuccess("interactive");
+        assertEquals(2, backgroundSends.get());
+        newer.onSuccess("newer");
+        newerObserver.assertValue("newer");
+    }
+
+    @Test
+    public void testRequestSchedulerCancelsOnDispose() {
+        RequestScheduler scheduler = new RequestScheduler(1, 1, 1, 1);
+        SingleSubject<String> running = SingleSubject.create();
+        SingleSubject<String> queued = SingleSubject.create();
+        SingleSubject<String> next = SingleSubject.create();
+
+        TestObserver<String> runningObserver = scheduler.schedule(RequestPriority.INTERACTIVE, running).test();
+        TestObserver<String> queuedObserver = scheduler.schedule(RequestPriority.INTERACTIVE, queued).test();
+        scheduler.schedule(RequestPriority.INTERACTIVE, next).test();
+
+        queuedObserver.dispose();
+        assertEquals(1, scheduler.getQueued(RequestPriority.INTERACTIVE));
+
+        runningObserver.dispose();
+        assertFalse(running.hasObservers());
+        assertFalse(queued.hasObservers());
+        assertTrue(next.hasObservers());
+    }
+}
@@ -0,0 +1,76 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.main.service.cache.CachePolicy;
+import com.harrysoft.burstcoinexplorer.main.service.cache.ResponseCache;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(JUnit4.class)
+public class ResponseCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private long time = 1000;
+
+    @Test
+    public void testResponseCacheExpiry() throws IOException {
+        ResponseCache cache = new ResponseCache(temporaryFolder.newFolder(), 1024 * 1024, () -> time);
+        cache.put("price", "{\"price\":1}", 30000);
+        cache.put("block", "{\"height\":1}", CachePolicy.NEVER_EXPIRES);
+        cache.put("uncached", "{}", CachePolicy.NO_CACHE);
+
+        assertEquals("{\"price\":1}", cache.get("price"));
+        assertEquals("{\"height\":1}", cache.get("block"));
+        assertNull(cache.get("uncached"));
+
+        time += 30000;
+        assertNull(cache.get("price"));
+        assertEquals("{\"height\":1}", cache.get("block"));
+    }
+
+    @Test
+    public void testResponseCachePersistsToDisk() throws IOException {
+        File directory = temporaryFolder.newFolder();
+        new ResponseCache(directory, 1024 * 1024, () -> time).put("block", "{\"height\":1}", CachePolicy.NEVER_EXPIRES);
+
+        ResponseCache reopened = new ResponseCache(directory, 1024 * 1024, () -> time);
+        assertEquals("{\"height\":1}", reopened.get("block"));
+        assertNull(reopened.get("transaction"));
+    }
+
+    @Test
+    public void testResponseCacheEvictsLeastRecentlyUsed() throws IOException {
+        ResponseCache cache = new ResponseCache(temporaryFolder.newFolder(), 300, () -> time);
+        String body = new String(new char[100]).replace('\0', 'a');
+        cache.put("first", body, CachePolicy.NEVER_EXPIRES);
+        cache.put("second", body, CachePolicy.NEVER_EXPIRES);
+        cache.get("first");
+        cache.put("third", body, CachePolicy.NEVER_EXPIRES);
+
+        assertEquals(body, cache.get("first"));
+        assertNull(cache.get("second"));
+        assertEquals(body, cache.get("third"));
+    }
+
+    @Test
+    public void testCachePolicy() {
+        CachePolicy policy = CachePolicy.defaultPolicy();
+        String priceUrl = "https://api.coinmarketcap.com/v2/ticker/573/?convert=USD";
+
+        assertEquals(30000, policy.getTimeToLive(priceUrl, "{}"));
+        assertEquals(CachePolicy.NO_CACHE, policy.getTimeToLive(priceUrl, "{\"errorCode\":5}"));
+        assertEquals(600000, policy.getTimeToLive("https://explore.burst.cryptoguru.org/api/v1/events", "{}"));
+        assertEquals(CachePolicy.NO_CACHE, policy.getTimeToLive("https://example.com/unknown", "{}"));
+    }
+}
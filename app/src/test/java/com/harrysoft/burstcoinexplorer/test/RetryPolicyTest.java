@@ -0,0 +1,121 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.main.service.resilience.CircuitOpenException;
+import com.harrysoft.burstcoinexplorer.main.service.resilience.RetryPolicy;
+import com.harrysoft.burstcoinexplorer.main.service.transport.HttpStatusException;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import okhttp3.ResponseBody;
+import retrofit2.HttpException;
+import retrofit2.Response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class RetryPolicyTest {
+
+    /**
+     * Always picks the largest delay, so that the timing is predictable.
+     */
+    private static class MaxRandom extends Random {
+        @Override
+        public double nextDouble() {
+            return 1;
+        }
+    }
+
+    @Test
+    public void testRetryPolicyClassifiesErrors() {
+        assertTrue(RetryPolicy.isRetryable(new SocketTimeoutException()));
+        assertTrue(RetryPolicy.isRetryable(new TimeoutException()));
+        assertTrue(RetryPolicy.isRetryable(new IOException()));
+        assertTrue(RetryPolicy.isRetryable(new HttpStatusException(503)));
+        assertFalse(RetryPolicy.isRetryable(new HttpStatusException(404)));
+        assertTrue(RetryPolicy.isRetryable(new HttpException(Response.error(503, ResponseBody.create(null, "")))));
+        assertFalse(RetryPolicy.isRetryable(new HttpException(Response.error(400, ResponseBody.create(null, "")))));
+        assertFalse(RetryPolicy.isRetryable(new CircuitOpenException("node")));
+        assertFalse(RetryPolicy.isRetryable(new IllegalStateException("Unknown account")));
+    }
+
+    @Test
+    public void testRetryPolicyBacksOffExponentially() {
+        TestScheduler scheduler = new TestScheduler();
+        RetryPolicy retryPolicy = new RetryPolicy(4, 100, 250, new MaxRandom(), scheduler);
+        AtomicInteger attempts = new AtomicInteger();
+        Single<String> source = Single.defer(() -> attempts.incrementAndGet() < 4 ? Single.error(new HttpStatusException(502)) : Single.just("ok"));
+
+        TestObserver<String> observer = retryPolicy.apply(source).test();
+        assertEquals(1, attempts.get());
+        scheduler.advanceTimeBy(99, TimeUnit.MILLISECONDS);
+        assertEquals(1, attempts.get());
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        assertEquals(2, attempts.get());
+        scheduler.advanceTimeBy(200, TimeUnit.MILLISECONDS);
+        assertEquals(3, attempts.get());
+        // 400ms is capped to 250ms
+        scheduler.advanceTimeBy(250, TimeUnit.MILLISECONDS);
+        assertEquals(4, attempts.get());
+        observer.assertValue("ok");
+    }
+
+    @Test
+    public void testRetryPolicyJittersDelay() {
+        TestScheduler scheduler = new TestScheduler();
+        Random zero = new Random() {
+            @Override
+            public double nextDouble() {
+                return 0;
+            }
+        };
+        RetryPolicy retryPolicy = new RetryPolicy(2, 100, 1000, zero, scheduler);
+        AtomicInteger attempts = new AtomicInteger();
+        retryPolicy.apply(Single.defer(() -> {
+            attempts.incrementAndGet();
+            return Single.error(new IOException());
+        })).test();
+
+        // The random half of the delay is 0, but the fixed half is still waited
+        scheduler.advanceTimeBy(49, TimeUnit.MILLISECONDS);
+        assertEquals(1, attempts.get());
+        scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void testRetryPolicyGivesUp() {
+        TestScheduler scheduler = new TestScheduler();
+        RetryPolicy retryPolicy = new RetryPolicy(3, 100, 1000, new MaxRandom(), scheduler);
+
+        AtomicInteger attempts = new AtomicInteger();
+        TestObserver<String> observer = retryPolicy.apply(Single.<String>defer(() -> {
+            attempts.incrementAndGet();
+            return Single.error(new HttpStatusException(404));
+        })).test();
+        observer.assertError(HttpStatusException.class);
+        assertEquals(1, attempts.get()); // Not worth retrying
+
+        attempts.set(0);
+        observer = retryPolicy.apply(Single.<String>defer(() -> {
+            attempts.incrementAndGet();
+            return Single.error(new SocketTimeoutException());
+        })).test();
+        scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+        observer.assertError(SocketTimeoutException.class);
+        assertEquals(3, attempts.get());
+    }
+}
@@ -0,0 +1,122 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsRefresher;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class SavedAccountsRefresherTest {
+
+    private static class FakeAccounts implements SavedAccountsRefresher.LocalAccounts {
+        private final List<SavedAccount> savedAccounts = new ArrayList<>();
+        private final List<List<SavedAccount>> writes = new ArrayList<>();
+
+        void add(long id, Long balanceNQT, String name) {
+            SavedAccount savedAccount = new SavedAccount();
+            savedAccount.setId(id);
+            savedAccount.setAddress(BurstAddress.fromId(new BurstID(Long.toString(id))));
+            savedAccount.setLastKnownBalanceNQT(balanceNQT);
+            savedAccount.setLastKnownName(name);
+            savedAccounts.add(savedAccount);
+        }
+
+        @Override
+        public List<SavedAccount> loadAll() {
+            return savedAccounts;
+        }
+
+        @Override
+        public void updateAll(List<SavedAccount> savedAccounts) {
+            writes.add(new ArrayList<>(savedAccounts));
+        }
+    }
+
+    private static SavedAccountsRefresher.AccountState state(long balanceNQT, String name) {
+        return new SavedAccountsRefresher.AccountState(balanceNQT, name);
+    }
+
+    @Test
+    public void testSavedAccountsRefresherBoundsConcurrency() {
+        FakeAccounts accounts = new FakeAccounts();
+        for (int i = 1; i <= 10; i++) {
+            accounts.add(i, 100L, "Account " + i);
+        }
+        List<SingleSubject<SavedAccountsRefresher.AccountState>> inFlight = new ArrayList<>();
+        List<int[]> progress = new ArrayList<>();
+        SavedAccountsRefresher refresher = new SavedAccountsRefresher(address -> {
+            SingleSubject<SavedAccountsRefresher.AccountState> subject = SingleSubject.create();
+            inFlight.add(subject);
+            return subject;
+        }, accounts, 3);
+
+        TestObserver<SavedAccountsRefresher.Result> observer = refresher.refresh((done, total) -> progress.add(new int[]{done, total})).test();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Math.min(10, i + 3), inFlight.size());
+            assertTrue(accounts.writes.isEmpty());
+            inFlight.get(i).onSuccess(i % 2 == 0 ? state(200, "Account " + (i + 1)) : state(100, "Account " + (i + 1)));
+        }
+
+        observer.assertComplete();
+        SavedAccountsRefresher.Result result = observer.values().get(0);
+        assertEquals(10, result.getTotal());
+        assertEquals(5, result.getChanged());
+        assertEquals(0, result.getFailed());
+
+        // Only the changed accounts, in one write
+        assertEquals(1, accounts.writes.size());
+        assertEquals(5, accounts.writes.get(0).size());
+        assertEquals(11, progress.size());
+        assertEquals(0, progress.get(0)[0]);
+        assertEquals(10, progress.get(10)[0]);
+        assertEquals(10, progress.get(10)[1]);
+    }
+
+    @Test
+    public void testSavedAccountsRefresherSkipsFailuresAndUnchangedAccounts() {
+        FakeAccounts accounts = new FakeAccounts();
+        accounts.add(1, 150L, "Same");
+        accounts.add(2, null, null);
+        accounts.add(3, 300L, "Old name");
+        SavedAccountsRefresher refresher = new SavedAccountsRefresher(address -> {
+            switch (address.getID()) {
+                case "1":
+                    return Single.just(state(150, "Same"));
+                case "2":
+                    return Single.error(new Exception("Node unavailable"));
+                default:
+                    return Single.just(state(300, "New name"));
+            }
+        }, accounts, 2);
+
+        SavedAccountsRefresher.Result result = refresher.refresh((done, total) -> {}).blockingGet();
+        assertEquals(1, result.getChanged());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, accounts.writes.size());
+        assertSame(accounts.savedAccounts.get(2), accounts.writes.get(0).get(0));
+        assertEquals("New name", accounts.savedAccounts.get(2).getLastKnownName());
+        assertEquals(null, accounts.savedAccounts.get(1).getLastKnownBalanceNQT());
+
+        accounts.writes.clear();
+        refresher = new SavedAccountsRefresher(address -> Single.just(state(150, "Same")), accounts, 2);
+        accounts.savedAccounts.remove(2);
+        accounts.savedAccounts.remove(1);
+        assertEquals(0, refresher.refresh((done, total) -> {}).blockingGet().getChanged());
+        assertTrue(accounts.writes.isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.accounts.db.SavedAccount;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsRefresher;
+import com.harrysoft.burstcoinexplorer.accounts.sync.SavedAccountsSyncEngine;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import burst.kit.entity.BurstAddress;
+import burst.kit.entity.BurstID;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class SavedAccountsSyncEngineTest {
+
+    private static class FakeNode implements SavedAccountsRefresher.AccountFetcher {
+        private final Map<String, Long> balances = new HashMap<>();
+        private boolean offline = false;
+        private int requests = 0;
+        private SingleSubject<SavedAccountsRefresher.AccountState> held = null;
+
+        @Override
+        public Single<SavedAccountsRefresher.AccountState> fetchAccount(BurstAddress address) {
+            requests++;
+            if (offline) {
+                return Single.error(new IOException("Offline"));
+            }
+            SavedAccountsRefresher.AccountState state = new SavedAccountsRefresher.AccountState(balances.get(address.getID()), "Account " + address.getID());
+            if (held != null) {
+                return held.map(ignored -> state);
+            }
+            return Single.just(state);
+        }
+    }
+
+    private static class FakeAccounts implements SavedAccountsRefresher.LocalAccounts {
+        private final List<SavedAccount> savedAccounts = new ArrayList<>();
+
+        void add(long id) {
+            SavedAccount savedAccount = new SavedAccount();
+            savedAccount.setAddress(BurstAddress.fromId(new BurstID(Long.toString(id))));
+            savedAccounts.add(savedAccount);
+        }
+
+        @Override
+        public List<SavedAccount> loadAll() {
+            return savedAccounts;
+        }
+
+        @Override
+        public void updateAll(List<SavedAccount> savedAccounts) {
+        }
+    }
+
+    private long now = 1000000;
+
+    @Test
+    public void testSavedAccountsSyncNotifiesBalanceChanges() {
+        FakeNode node = new FakeNode();
+        FakeAccounts accounts = new FakeAccounts();
+        accounts.add(1);
+        accounts.add(2);
+        node.balances.put("1", 100L);
+        node.balances.put("2", 200L);
+        List<List<SavedAccountsRefresher.BalanceChange>> notifications = new ArrayList<>();
+        SavedAccountsSyncEngine engine = new SavedAccountsSyncEngine(new SavedAccountsRefresher(node, accounts, 2), notifications::add, () -> now, 60000);
+
+        // The first balances seen are not changes
+        engine.sync().blockingAwait();
+        assertTrue(notifications.isEmpty());
+
+        node.balances.put("2", 250L);
+        now += 60000;
+        engine.sync().blockingAwait();
+        assertEquals(1, notifications.size());
+        assertEquals(1, notifications.get(0).size());
+        SavedAccountsRefresher.BalanceChange balanceChange = notifications.get(0).get(0);
+        assertEquals(2, balanceChange.getAccountId());
+        assertEquals(200, balanceChange.getPreviousBalanceNQT());
+        assertEquals(250, balanceChange.getBalanceNQT());
+        assertEquals("Account 2", balanceChange.getName());
+    }
+
+    @Test
+    public void testSavedAccountsSyncCoalesces() {
+        FakeNode node = new FakeNode();
+        FakeAccounts accounts = new FakeAccounts();
+        for (long i = 1; i <= 5; i++) {
+            accounts.add(i);
+            node.balances.put(Long.toString(i), i);
+        }
+        SavedAccountsSyncEngine engine = new SavedAccountsSyncEngine(new SavedAccountsRefresher(node, accounts, 2), balanceChanges -> {}, () -> now, 60000);
+
+        // Overlapping syncs share one batch
+        node.held = SingleSubject.create();
+        TestObserver<Void> first = engine.sync().test();
+        TestObserver<Void> second = engine.sync().test();
+        node.held.onSuccess(new SavedAccountsRefresher.AccountState(0, null));
+        first.assertComplete();
+        second.assertComplete();
+        assertEquals(5, node.requests);
+
+        // Too soon after the last sync
+        node.held = null;
+        now += 30000;
+        engine.sync().blockingAwait();
+        assertEquals(5, node.requests);
+
+        now += 30000;
+        engine.sync().blockingAwait();
+        assertEquals(10, node.requests);
+    }
+
+    @Test
+    public void testSavedAccountsSyncFailsWhenNodeUnavailable() {
+        FakeNode node = new FakeNode();
+        FakeAccounts accounts = new FakeAccounts();
+        accounts.add(1);
+        node.balances.put("1", 100L);
+        SavedAccountsSyncEngine engine = new SavedAccountsSyncEngine(new SavedAccountsRefresher(node, accounts, 2), balanceChanges -> {}, () -> now, 60000);
+
+        node.offline = true;
+        engine.sync().test().assertError(IOException.class);
+
+        // A failed sync does not hold back the next one
+        node.offline = false;
+        engine.sync().test().assertComplete();
+        assertEquals(2, node.requests);
+    }
+}
@@ -0,0 +1,58 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.util.SingleFlight;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(JUnit4.class)
+public class SingleFlightTest {
+
+    @Test
+    public void testSingleFlightSharesInFlightRequest() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger requests = new AtomicInteger();
+        SingleSubject<String> response = SingleSubject.create();
+
+        Single<String> first = singleFlight.execute("block", () -> { requests.incrementAndGet(); return response; });
+        Single<String> second = singleFlight.execute("block", () -> { requests.incrementAndGet(); return response; });
+        Single<String> other = singleFlight.execute("transaction", () -> { requests.incrementAndGet(); return Single.just("other"); });
+
+        TestObserver<String> firstObserver = first.test();
+        TestObserver<String> secondObserver = second.test();
+        other.test().assertValue("other");
+        assertEquals(2, requests.get());
+        assertEquals(1, singleFlight.inFlightCount());
+
+        response.onSuccess("block");
+        firstObserver.assertValue("block");
+        secondObserver.assertValue("block");
+        assertEquals(0, singleFlight.inFlightCount());
+
+        singleFlight.execute("block", () -> { requests.incrementAndGet(); return Single.just("again"); }).test().assertValue("again");
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testSingleFlightSharesErrors() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        SingleSubject<String> response = SingleSubject.create();
+
+        TestObserver<String> firstObserver = singleFlight.execute("block", () -> response).test();
+        TestObserver<String> secondObserver = singleFlight.execute("block", () -> response).test();
+        response.onError(new IllegalStateException());
+
+        firstObserver.assertError(IllegalStateException.class);
+        secondObserver.assertError(IllegalStateException.class);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+}
@@ -0,0 +1,70 @@
+package com.harrysoft.burstcoinexplorer.test;
+
+import com.harrysoft.burstcoinexplorer.explore.sync.TipPollSchedule;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(JUnit4.class)
+public class TipPollScheduleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toMillis(1);
+
+    @Test
+    public void testTipPollScheduleTightensAsNextBlockIsDue() {
+        TipPollSchedule schedule = new TipPollSchedule();
+        assertEquals(TipPollSchedule.MIN_DELAY, schedule.nextDelay(0));
+
+        long forged = 1000 * SECOND;
+        schedule.onTip(100, forged, forged + 5 * SECOND);
+        long afterNewBlock = schedule.nextDelay(forged + 5 * SECOND);
+        assertEquals(235 * SECOND / 2, afterNewBlock);
+
+        long laterDelay = schedule.nextDelay(forged + 180 * SECOND);
+        assertEquals(30 * SECOND, laterDelay);
+        assertTrue(laterDelay < afterNewBlock);
+
+        // Overdue, so poll as often as allowed
+        assertEquals(TipPollSchedule.MIN_DELAY, schedule.nextDelay(forged + 300 * SECOND));
+
+        // Seeing the same tip again does not reset the timing
+        schedule.onTip(100, forged, forged + 300 * SECOND);
+        assertEquals(TipPollSchedule.MIN_DELAY, schedule.nextDelay(forged + 300 * SECOND));
+
+        schedule.onTip(101, forged + 310 * SECOND, forged + 315 * SECOND);
+        assertEquals(101, schedule.getTipHeight());
+        assertEquals(235 * SECOND / 2, schedule.nextDelay(forged + 315 * SECOND));
+    }
+
+    @Test
+    public void testTipPollScheduleIgnoresBlocksFromTheFuture() {
+        TipPollSchedule schedule = new TipPollSchedule();
+        // Device clock is a minute behind the network
+        schedule.onTip(100, 1060 * SECOND, 1000 * SECOND);
+        assertEquals(TipPollSchedule.MAX_DELAY, schedule.nextDelay(1000 * SECOND));
+        assertEquals(TipPollSchedule.MIN_DELAY, schedule.nextDelay(1240 * SECOND));
+    }
+
+    @Test
+    public void testTipPollScheduleBacksOffOnFailure() {
+        TipPollSchedule schedule = new TipPollSchedule();
+        schedule.onTip(100, 0, 0);
+        schedule.onFailure();
+        assertEquals(2 * TipPollSchedule.MIN_DELAY, schedule.nextDelay(200 * SECOND));
+        schedule.onFailure();
+        assertEquals(4 * TipPollSchedule.MIN_DELAY, schedule.nextDelay(200 * SECOND));
+        for (int i = 0; i < 10; i++) {
+            schedule.onFailure();
+        }
+        assertEquals(TipPollSchedule.MAX_DELAY, schedule.nextDelay(200 * SECOND));
+
+        schedule.onTip(100, 0, 230 * SECOND);
+        assertEquals(TipPollSchedule.MIN_DELAY, schedule.nextDelay(230 * SECOND));
+    }
+}